@@ -2,8 +2,10 @@ package com.fiap.hospital.bff;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class HospitalMain {
 
 	public static void main(String[] args) {SpringApplication.run(HospitalMain.class, args);}
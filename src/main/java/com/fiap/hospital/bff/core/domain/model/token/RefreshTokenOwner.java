@@ -0,0 +1,16 @@
+package com.fiap.hospital.bff.core.domain.model.token;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Usuário para o qual um refresh token foi emitido: o id identifica a conta, o email é o usado no login.
+ */
+@Getter
+@AllArgsConstructor
+public class RefreshTokenOwner {
+
+    private final Long userId;
+    private final String email;
+
+}
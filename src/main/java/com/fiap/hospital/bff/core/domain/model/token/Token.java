@@ -13,5 +13,10 @@ public class Token {
 
     private String accessToken;
     private Long expiresIn;
-    
+    private String refreshToken;
+
+    public Token(String accessToken, Long expiresIn) {
+        this(accessToken, expiresIn, null);
+    }
+
 }
\ No newline at end of file
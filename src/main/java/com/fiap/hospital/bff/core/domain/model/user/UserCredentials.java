@@ -0,0 +1,18 @@
+package com.fiap.hospital.bff.core.domain.model.user;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Dados mínimos para autenticar um usuário e montar as claims do token.
+ */
+@Getter
+@AllArgsConstructor
+public class UserCredentials {
+
+    private final Long id;
+    private final String email;
+    private final String senha;
+    private final String tipo;
+
+}
@@ -0,0 +1,39 @@
+package com.fiap.hospital.bff.core.domain.model.user;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Resultado da importação de um usuário em lote.
+ */
+@Getter
+@AllArgsConstructor
+public class UserImportResult {
+
+    private final String email;
+    private final Status status;
+    private final String message;
+
+    public enum Status {
+        CREATED,
+        DUPLICATE,
+        INVALID,
+        FAILED
+    }
+
+    public static UserImportResult created(String email) {
+        return new UserImportResult(email, Status.CREATED, null);
+    }
+
+    public static UserImportResult duplicate(String email) {
+        return new UserImportResult(email, Status.DUPLICATE, "Email already registered");
+    }
+
+    public static UserImportResult invalid(String email, String message) {
+        return new UserImportResult(email, Status.INVALID, message);
+    }
+
+    public static UserImportResult failed(String email, String message) {
+        return new UserImportResult(email, Status.FAILED, message);
+    }
+}
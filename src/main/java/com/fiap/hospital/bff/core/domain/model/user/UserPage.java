@@ -0,0 +1,19 @@
+package com.fiap.hospital.bff.core.domain.model.user;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Página de usuários ordenada por id; {@code nextAfterId} é o id a partir do qual
+ * a próxima página começa, ou {@code null} quando não há mais usuários.
+ */
+@Getter
+@AllArgsConstructor
+public class UserPage {
+
+    private final List<User> users;
+    private final Long nextAfterId;
+
+}
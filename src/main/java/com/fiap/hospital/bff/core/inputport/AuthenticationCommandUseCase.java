@@ -3,5 +3,6 @@ package com.fiap.hospital.bff.core.inputport;
 public interface AuthenticationCommandUseCase {
 
     void updatePassword(String email, String password);
+    void revokeRefreshToken(String refreshToken);
 
 }
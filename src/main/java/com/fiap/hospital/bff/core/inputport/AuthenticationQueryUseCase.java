@@ -5,5 +5,6 @@ import com.fiap.hospital.bff.core.domain.model.token.Token;
 public interface AuthenticationQueryUseCase {
 
     Token validateLogin(String email, String password);
+    Token refresh(String refreshToken);
 
 }
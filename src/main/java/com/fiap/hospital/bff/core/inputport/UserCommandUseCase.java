@@ -1,11 +1,14 @@
 package com.fiap.hospital.bff.core.inputport;
 
+import java.util.List;
 import java.util.Optional;
 import com.fiap.hospital.bff.core.domain.model.user.User;
+import com.fiap.hospital.bff.core.domain.model.user.UserImportResult;
 
 public interface UserCommandUseCase {
     
     User createUser(User user);
+    List<UserImportResult> importUsers(List<User> users);
     Optional<User> updateUser(Long id, User user);
     Optional<User> deleteUser(Long id);
 }
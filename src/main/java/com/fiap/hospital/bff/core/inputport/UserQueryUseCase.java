@@ -1,11 +1,13 @@
 package com.fiap.hospital.bff.core.inputport;
 
-import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 import com.fiap.hospital.bff.core.domain.model.user.User;
+import com.fiap.hospital.bff.core.domain.model.user.UserPage;
 
 public interface UserQueryUseCase {
     
-    List<User> getAllUsers();
+    UserPage getUsers(String tipo, Long afterId, int limit);
+    void streamUsers(String tipo, Consumer<User> consumer);
     Optional<User> getUserById(Long id);
 }
@@ -1,13 +1,17 @@
 package com.fiap.hospital.bff.core.outputport;
 
-import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 import com.fiap.hospital.bff.core.domain.model.user.User;
+import com.fiap.hospital.bff.core.domain.model.user.UserCredentials;
+import com.fiap.hospital.bff.core.domain.model.user.UserPage;
 
 public interface FindByGateway {
 
-    List<User> getAll();
+    UserPage findPage(String tipo, Long afterId, int limit);
+    void streamAll(String tipo, Consumer<User> consumer);
     Optional<User> findByEmail(String email);
+    Optional<UserCredentials> findCredentialsByEmail(String email);
     Optional<User> getById(Long idUser);
 
 }
@@ -0,0 +1,14 @@
+package com.fiap.hospital.bff.core.outputport;
+
+import java.util.List;
+import com.fiap.hospital.bff.core.domain.model.user.User;
+import com.fiap.hospital.bff.core.domain.model.user.UserImportResult;
+
+public interface ImportGateway {
+
+    /**
+     * Cadastra os usuários em lote; o resultado tem um item por usuário, na mesma ordem da entrada.
+     */
+    List<UserImportResult> importAll(List<User> users);
+
+}
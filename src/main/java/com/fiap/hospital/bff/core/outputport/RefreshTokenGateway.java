@@ -0,0 +1,13 @@
+package com.fiap.hospital.bff.core.outputport;
+
+import java.util.Optional;
+import com.fiap.hospital.bff.core.domain.model.token.RefreshTokenOwner;
+
+public interface RefreshTokenGateway {
+
+    String issue(Long userId, String email);
+    Optional<RefreshTokenOwner> consume(String refreshToken);
+    void revoke(String refreshToken);
+    void revokeAll(Long userId);
+
+}
@@ -1,20 +1,37 @@
 package com.fiap.hospital.bff.core.usecase;
 
 import org.springframework.stereotype.Component;
+import com.fiap.hospital.bff.core.domain.model.user.UserCredentials;
 import com.fiap.hospital.bff.core.inputport.AuthenticationCommandUseCase;
+import com.fiap.hospital.bff.core.outputport.FindByGateway;
+import com.fiap.hospital.bff.core.outputport.RefreshTokenGateway;
 import com.fiap.hospital.bff.core.outputport.UpdateGateway;
 
 @Component
 public class AuthenticationCommandUseCaseImpl implements AuthenticationCommandUseCase {
 
     private final UpdateGateway updateGateway;
+    private final FindByGateway findByGateway;
+    private final RefreshTokenGateway refreshTokenGateway;
 
-    public AuthenticationCommandUseCaseImpl(UpdateGateway updateGateway) {
+    public AuthenticationCommandUseCaseImpl(UpdateGateway updateGateway, FindByGateway findByGateway,
+                                            RefreshTokenGateway refreshTokenGateway) {
         this.updateGateway = updateGateway;
+        this.findByGateway = findByGateway;
+        this.refreshTokenGateway = refreshTokenGateway;
     }
 
     @Override
     public void updatePassword(String email, String password) {
         updateGateway.updatePassword(email, password);
+        // Sessões abertas com a senha antiga deixam de poder renovar o access token
+        findByGateway.findCredentialsByEmail(email)
+                .map(UserCredentials::getId)
+                .ifPresent(refreshTokenGateway::revokeAll);
+    }
+
+    @Override
+    public void revokeRefreshToken(String refreshToken) {
+        refreshTokenGateway.revoke(refreshToken);
     }
 }
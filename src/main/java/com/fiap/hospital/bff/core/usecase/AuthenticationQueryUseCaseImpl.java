@@ -1,53 +1,94 @@
 package com.fiap.hospital.bff.core.usecase;
 
+import java.time.Duration;
 import java.time.Instant;
 
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.oauth2.jwt.JwtClaimsSet;
 import org.springframework.security.oauth2.jwt.JwtEncoder;
 import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
 import org.springframework.stereotype.Component;
 import com.fiap.hospital.bff.core.domain.model.token.Token;
-import com.fiap.hospital.bff.core.domain.model.user.User;
+import com.fiap.hospital.bff.core.domain.model.user.UserCredentials;
 import com.fiap.hospital.bff.core.inputport.AuthenticationQueryUseCase;
 import com.fiap.hospital.bff.core.outputport.FindByGateway;
+import com.fiap.hospital.bff.core.outputport.RefreshTokenGateway;
+import com.fiap.hospital.bff.core.outputport.UpdateGateway;
 import com.fiap.hospital.bff.infra.exception.UserCredentialsException;
 
 @Component
 public class AuthenticationQueryUseCaseImpl implements AuthenticationQueryUseCase {
 
+    private static final Logger log = LoggerFactory.getLogger(AuthenticationQueryUseCaseImpl.class);
+
     private final FindByGateway findByGateway;
-    private final BCryptPasswordEncoder passwordEncoder;
+    private final UpdateGateway updateGateway;
+    private final RefreshTokenGateway refreshTokenGateway;
+    private final PasswordEncoder passwordEncoder;
     private final JwtEncoder jwtEncoder;
+    private final Duration accessTokenTtl;
 
-    public AuthenticationQueryUseCaseImpl(FindByGateway findByGateway, BCryptPasswordEncoder passwordEncoder, JwtEncoder jwtEncoder) {
+    public AuthenticationQueryUseCaseImpl(FindByGateway findByGateway, UpdateGateway updateGateway,
+                                          RefreshTokenGateway refreshTokenGateway,
+                                          PasswordEncoder passwordEncoder, JwtEncoder jwtEncoder,
+                                          @Value("${app.security.access-token.ttl:300s}") Duration accessTokenTtl) {
         this.findByGateway = findByGateway;
+        this.updateGateway = updateGateway;
+        this.refreshTokenGateway = refreshTokenGateway;
         this.passwordEncoder = passwordEncoder;
         this.jwtEncoder = jwtEncoder;
+        this.accessTokenTtl = accessTokenTtl;
     }
 
     @Override
     public Token validateLogin(String email, String password) {
-        var user = findByGateway.findByEmail(email);
+        var credentials = findByGateway.findCredentialsByEmail(email)
+                .filter(found -> passwordEncoder.matches(password, found.getSenha()))
+                .orElseThrow(() -> new UserCredentialsException("Invalid email or password"));
 
-        if (user.isEmpty() || !isPasswordValid(email, password)) {
-            throw new UserCredentialsException("Invalid email or password");
-        }
+        upgradePasswordHashIfNeeded(email, password, credentials.getSenha());
+        return generateToken(email, credentials);
+    }
 
-        return generateToken(email, user.get());
+    /**
+     * Troca um refresh token válido por um novo par de tokens, sem reverificar a senha.
+     * O refresh token é de uso único e o tipo do usuário é relido para refletir alterações.
+     * O email precisa continuar sendo do mesmo usuário: uma conta recriada com ele tem outro id.
+     */
+    @Override
+    public Token refresh(String refreshToken) {
+        var owner = refreshTokenGateway.consume(refreshToken)
+                .orElseThrow(() -> new UserCredentialsException("Invalid or expired refresh token"));
+        var credentials = findByGateway.findCredentialsByEmail(owner.getEmail())
+                .filter(found -> found.getId().equals(owner.getUserId()))
+                .orElseThrow(() -> new UserCredentialsException("Invalid or expired refresh token"));
+
+        return generateToken(owner.getEmail(), credentials);
     }
 
-    private boolean isPasswordValid(String email, String password) {
-        var userPassword = findByGateway.findByEmail(email)
-            .map(User::getSenha)
-            .orElse("");
-        return passwordEncoder.matches(password, userPassword);
+    /**
+     * Regrava o hash quando ele não segue o formato ou o custo configurado. É o único momento
+     * em que a senha em texto puro está disponível; uma falha aqui não impede o login.
+     */
+    private void upgradePasswordHashIfNeeded(String email, String password, String encodedPassword) {
+        if (!passwordEncoder.upgradeEncoding(encodedPassword)) {
+            return;
+        }
+        try {
+            updateGateway.updatePassword(email, password);
+            log.info("Password hash upgraded for email: {}", email);
+        } catch (RuntimeException e) {
+            log.warn("Could not upgrade password hash for email {}: {}", email, e.getMessage());
+        }
     }
 
-    private Token generateToken(String email, User user) {
+    private Token generateToken(String email, UserCredentials credentials) {
         var now = Instant.now();
-        var expiresIn = 300L;
-        var scope = user.getTipo();
+        var expiresIn = accessTokenTtl.toSeconds();
+        var scope = credentials.getTipo();
 
         var claims = JwtClaimsSet.builder()
                 .issuer("HospitalAPI")
@@ -58,6 +99,6 @@ public class AuthenticationQueryUseCaseImpl implements AuthenticationQueryUseCas
                 .build();
 
         var jwtValue = jwtEncoder.encode(JwtEncoderParameters.from(claims)).getTokenValue();
-        return new Token(jwtValue, expiresIn);
+        return new Token(jwtValue, expiresIn, refreshTokenGateway.issue(credentials.getId(), email));
     }
 }
@@ -1,12 +1,16 @@
 package com.fiap.hospital.bff.core.usecase;
 
 import com.fiap.hospital.bff.core.domain.model.user.User;
+import com.fiap.hospital.bff.core.domain.model.user.UserImportResult;
 import com.fiap.hospital.bff.core.inputport.UserCommandUseCase;
 import com.fiap.hospital.bff.core.outputport.DeleteGateway;
+import com.fiap.hospital.bff.core.outputport.ImportGateway;
+import com.fiap.hospital.bff.core.outputport.RefreshTokenGateway;
 import com.fiap.hospital.bff.core.outputport.SaveGateway;
 import com.fiap.hospital.bff.core.outputport.UpdateGateway;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
 import java.util.Optional;
 
 @Component
@@ -15,13 +19,19 @@ public class UserCommandUseCaseImpl implements UserCommandUseCase {
     private final SaveGateway saveGateway;
     private final UpdateGateway updateGateway;
     private final DeleteGateway deleteGateway;
+    private final ImportGateway importGateway;
+    private final RefreshTokenGateway refreshTokenGateway;
 
     public UserCommandUseCaseImpl(SaveGateway saveGateway,
                                   UpdateGateway updateGateway,
-                                  DeleteGateway deleteGateway) {
+                                  DeleteGateway deleteGateway,
+                                  ImportGateway importGateway,
+                                  RefreshTokenGateway refreshTokenGateway) {
         this.saveGateway = saveGateway;
         this.updateGateway = updateGateway;
         this.deleteGateway = deleteGateway;
+        this.importGateway = importGateway;
+        this.refreshTokenGateway = refreshTokenGateway;
     }
 
     @Override
@@ -29,13 +39,29 @@ public class UserCommandUseCaseImpl implements UserCommandUseCase {
         return saveGateway.save(user);
     }
 
+    @Override
+    public List<UserImportResult> importUsers(List<User> users) {
+        return importGateway.importAll(users);
+    }
+
     @Override
     public Optional<User> updateUser(Long id, User user) {
-        return updateGateway.update(id, user);
+        Optional<User> updated = updateGateway.update(id, user);
+        // Trocar email ou senha encerra as sessões: os refresh tokens emitidos antes deixam de renovar
+        if (updated.isPresent() && (hasText(user.getEmail()) || hasText(user.getSenha()))) {
+            refreshTokenGateway.revokeAll(id);
+        }
+        return updated;
     }
 
     @Override
     public Optional<User> deleteUser(Long id) {
-        return deleteGateway.deleteById(id);
+        Optional<User> deleted = deleteGateway.deleteById(id);
+        deleted.ifPresent(user -> refreshTokenGateway.revokeAll(id));
+        return deleted;
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
     }
 }
@@ -1,12 +1,13 @@
 package com.fiap.hospital.bff.core.usecase;
 
 import com.fiap.hospital.bff.core.domain.model.user.User;
+import com.fiap.hospital.bff.core.domain.model.user.UserPage;
 import com.fiap.hospital.bff.core.inputport.UserQueryUseCase;
 import com.fiap.hospital.bff.core.outputport.FindByGateway;
 import org.springframework.stereotype.Component;
 
-import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 @Component
 public class UserQueryUseCaseImpl implements UserQueryUseCase {
@@ -18,8 +19,13 @@ public class UserQueryUseCaseImpl implements UserQueryUseCase {
     }
 
     @Override
-    public List<User> getAllUsers() {
-        return findByGateway.getAll();
+    public UserPage getUsers(String tipo, Long afterId, int limit) {
+        return findByGateway.findPage(tipo, afterId, limit);
+    }
+
+    @Override
+    public void streamUsers(String tipo, Consumer<User> consumer) {
+        findByGateway.streamAll(tipo, consumer);
     }
 
     @Override
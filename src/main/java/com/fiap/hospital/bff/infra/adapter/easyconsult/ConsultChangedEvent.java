@@ -0,0 +1,18 @@
+package com.fiap.hospital.bff.infra.adapter.easyconsult;
+
+import com.fiap.hospital.bff.infra.entrypoint.dto.graphql.GraphQLConsultResponse;
+
+/**
+ * Publicado após uma mutation de consulta bem-sucedida feita por este BFF.
+ *
+ * @param operation tipo da mutation executada
+ * @param consult   consulta retornada pelo serviço (nula em exclusões)
+ */
+public record ConsultChangedEvent(Operation operation, GraphQLConsultResponse consult) {
+
+    public enum Operation {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+}
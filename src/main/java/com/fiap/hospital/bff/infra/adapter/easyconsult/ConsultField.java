@@ -0,0 +1,87 @@
+package com.fiap.hospital.bff.infra.adapter.easyconsult;
+
+import com.fiap.hospital.bff.infra.exception.ValidationException;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Campos de consulta que podem ser pedidos no parâmetro {@code fields} das listagens (allow-list).
+ * O nome é o da propriedade JSON de {@code GraphQLConsultResponse}; a seleção é o trecho enviado ao EasyConsult.
+ */
+public enum ConsultField {
+
+    ID("id", "id"),
+    PATIENT("patient", """
+            patient {
+                name
+                email
+            }"""),
+    NAME_PROFESSIONAL("nameProfessional", "nameProfessional"),
+    LOCAL_TIME("localTime", "localTime"),
+    DATE("date", "date"),
+    STATUS("statusConsultation", "statusConsult"),
+    REASON("reason", "reason");
+
+    /** Seleção completa, usada quando {@code fields} não é informado. */
+    public static final Set<ConsultField> ALL = Collections.unmodifiableSet(EnumSet.allOf(ConsultField.class));
+
+    private static final Map<String, ConsultField> BY_NAME = Arrays.stream(values())
+            .collect(Collectors.toUnmodifiableMap(ConsultField::fieldName, Function.identity()));
+
+    private final String fieldName;
+    private final String selection;
+
+    ConsultField(String fieldName, String selection) {
+        this.fieldName = fieldName;
+        this.selection = selection;
+    }
+
+    public String fieldName() {
+        return fieldName;
+    }
+
+    String selection() {
+        return selection;
+    }
+
+    /**
+     * Converte a lista separada por vírgulas em campos. Vazio ou ausente seleciona todos; {@code id}
+     * é sempre incluído. Nomes fora da allow-list, ou uma lista sem nenhum nome (como {@code ","}),
+     * são rejeitados com 400.
+     */
+    public static Set<ConsultField> parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return ALL;
+        }
+        EnumSet<ConsultField> selected = EnumSet.of(ID);
+        boolean named = false;
+        for (String name : fields.split(",")) {
+            String trimmed = name.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            ConsultField field = BY_NAME.get(trimmed);
+            if (field == null) {
+                throw new ValidationException("fields",
+                        "unknown field '%s', allowed: %s".formatted(trimmed, String.join(", ", allowedNames())));
+            }
+            selected.add(field);
+            named = true;
+        }
+        if (!named) {
+            throw new ValidationException("fields",
+                    "no field names given, allowed: %s".formatted(String.join(", ", allowedNames())));
+        }
+        return Collections.unmodifiableSet(selected);
+    }
+
+    private static String[] allowedNames() {
+        return Arrays.stream(values()).map(ConsultField::fieldName).toArray(String[]::new);
+    }
+}
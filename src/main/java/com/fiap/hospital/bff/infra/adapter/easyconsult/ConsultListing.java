@@ -0,0 +1,34 @@
+package com.fiap.hospital.bff.infra.adapter.easyconsult;
+
+import com.fiap.hospital.bff.infra.entrypoint.dto.graphql.GraphQLConsultResponse;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Listagem de consultas com a indicação de frescor, usada pelo controller para montar
+ * os cabeçalhos {@code X-Cache}, {@code Warning} e {@code Age}.
+ *
+ * @param consults  consultas retornadas
+ * @param freshness origem da resposta
+ * @param age       tempo desde que o EasyConsult respondeu esta listagem ({@link Duration#ZERO} se fresca)
+ */
+public record ConsultListing(List<GraphQLConsultResponse> consults, Freshness freshness, Duration age) {
+
+    public enum Freshness {
+        /** Resposta do EasyConsult ou do cache dentro do TTL. */
+        FRESH,
+        /** Última resposta boa, servida enquanto a listagem é revalidada em segundo plano. */
+        STALE_WHILE_REVALIDATE,
+        /** Última resposta boa, servida porque o EasyConsult falhou. */
+        STALE_IF_ERROR
+    }
+
+    public static ConsultListing fresh(List<GraphQLConsultResponse> consults) {
+        return new ConsultListing(consults, Freshness.FRESH, Duration.ZERO);
+    }
+
+    public boolean stale() {
+        return freshness != Freshness.FRESH;
+    }
+}
@@ -0,0 +1,145 @@
+package com.fiap.hospital.bff.infra.adapter.easyconsult;
+
+import com.fiap.hospital.bff.infra.entrypoint.dto.graphql.ConsultFilterDto;
+import com.fiap.hospital.bff.infra.entrypoint.dto.graphql.GraphQLConsultResponse;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+
+/**
+ * Cache read-through, em memória, das listagens de consultas do EasyConsult.
+ *
+ * As entradas são chaveadas pelo filtro normalizado e pelo escopo de quem chama, expiram por TTL
+ * e são removidas por tamanho. Mutations feitas por este BFF publicam um {@link ConsultChangedEvent},
+ * que invalida as entradas afetadas. Estatísticas ficam disponíveis em /actuator/metrics
+ * (cache.gets, cache.evictions, ...) com a tag cache=consults.
+ *
+ * Chamadas simultâneas com a mesma chave compartilham a mesma carga em andamento (single-flight do
+ * {@link AsyncCache}); as que chegam durante a carga ficam em {@code graphql.client.coalesced.calls}.
+ * A invalidação também descarta cargas em andamento, então leituras posteriores a uma mutation não as reaproveitam.
+ */
+@Component
+public class ConsultQueryCache {
+
+    private static final Logger log = LoggerFactory.getLogger(ConsultQueryCache.class);
+
+    private static final String PATIENT_SCOPE = "paciente";
+
+    private final AsyncCache<Key, List<GraphQLConsultResponse>> cache;
+    private final Counter coalesced;
+
+    public ConsultQueryCache(@Value("${app.graphql.easyconsult.cache.ttl:30s}") Duration ttl,
+                             @Value("${app.graphql.easyconsult.cache.max-size:1000}") long maxSize,
+                             MeterRegistry meterRegistry) {
+        this.cache = CaffeineCacheMetrics.monitor(meterRegistry, Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .recordStats()
+                .buildAsync(), "consults");
+        this.coalesced = Counter.builder("graphql.client.coalesced.calls")
+                .description("EasyConsult queries that joined a load already in flight for the same cache key")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Retorna a lista em cache para a chave ou inscreve no {@code loader}, compartilhando o resultado.
+     * Falhas do loader não são armazenadas.
+     */
+    public Mono<List<GraphQLConsultResponse>> get(Key key, Mono<List<GraphQLConsultResponse>> loader) {
+        return Mono.fromFuture(() -> {
+            AtomicBoolean loading = new AtomicBoolean();
+            CompletableFuture<List<GraphQLConsultResponse>> result = cache.get(key, (k, executor) -> {
+                loading.set(true);
+                return loader.toFuture();
+            });
+            if (!loading.get() && !result.isDone()) {
+                coalesced.increment();
+                log.debug("Joining in-flight load for {}", key);
+            }
+            return result;
+        }, true);
+    }
+
+    @EventListener
+    public void onConsultChanged(ConsultChangedEvent event) {
+        if (event.operation() == ConsultChangedEvent.Operation.CREATED && event.consult() != null) {
+            // A visão assíncrona inclui as cargas ainda em andamento, que a síncrona omite
+            var affected = cache.asMap().keySet().stream()
+                    .filter(key -> key.mayContain(event.consult()))
+                    .toList();
+            affected.forEach(cache.asMap()::remove);
+            log.debug("Consult created, invalidated {} cached queries", affected.size());
+            return;
+        }
+
+        // Atualizações e exclusões podem mover a consulta entre quaisquer filtros
+        cache.synchronous().invalidateAll();
+        log.debug("Consult {}, invalidated all cached queries", event.operation());
+    }
+
+    /**
+     * Chave do cache: escopo de autorização, filtro normalizado e campos pedidos. Pacientes também são
+     * separados pelo subject, já que o serviço pode restringir o resultado ao próprio paciente.
+     */
+    public record Key(String scope, String subject, ConsultFilterDto filter, Set<ConsultField> fields) {
+
+        public static Key of(JwtAuthenticationToken authentication, ConsultFilterDto filter) {
+            return of(authentication, filter, ConsultField.ALL);
+        }
+
+        public static Key of(JwtAuthenticationToken authentication, ConsultFilterDto filter, Set<ConsultField> fields) {
+            String scope = authentication.getToken().getClaimAsString("scope");
+            String subject = PATIENT_SCOPE.equals(scope) ? authentication.getToken().getSubject() : null;
+            return new Key(scope, subject, filter, fields);
+        }
+
+        boolean mayContain(GraphQLConsultResponse consult) {
+            if (filter == null) {
+                return true;
+            }
+            String patientEmail = consult.patient() != null ? consult.patient().email() : null;
+            return compatible(filter.patientEmail(), patientEmail, String::equalsIgnoreCase)
+                    && compatible(filter.localTime(), consult.localTime(), sameValue(LocalTime::parse))
+                    && compatible(filter.date(), consult.date(), sameValue(LocalDate::parse))
+                    && compatible(filter.status(), consult.statusConsultation(), String::equalsIgnoreCase);
+        }
+
+        /**
+         * Compara o valor do filtro com o da consulta criada ignorando diferenças de formato. Na dúvida
+         * (valor ausente ou que não pôde ser interpretado) a entrada é considerada afetada e invalidada.
+         */
+        private static boolean compatible(String filterValue, String consultValue, BiPredicate<String, String> same) {
+            return filterValue == null || consultValue == null || same.test(filterValue.trim(), consultValue.trim());
+        }
+
+        private static BiPredicate<String, String> sameValue(Function<String, ?> parser) {
+            return (filterValue, consultValue) -> {
+                try {
+                    return parser.apply(filterValue).equals(parser.apply(consultValue));
+                } catch (DateTimeParseException e) {
+                    return true;
+                }
+            };
+        }
+    }
+}
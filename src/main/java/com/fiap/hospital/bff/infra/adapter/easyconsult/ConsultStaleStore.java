@@ -0,0 +1,136 @@
+package com.fiap.hospital.bff.infra.adapter.easyconsult;
+
+import com.fiap.hospital.bff.infra.adapter.easyconsult.ConsultListing.Freshness;
+import com.fiap.hospital.bff.infra.entrypoint.dto.graphql.GraphQLConsultResponse;
+import com.fiap.hospital.bff.infra.exception.ExternalServiceException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Última resposta boa de cada listagem de consultas, no estilo {@code stale-while-revalidate} /
+ * {@code stale-if-error} (RFC 5861), com as mesmas chaves do {@link ConsultQueryCache}.
+ *
+ * - Até o TTL do cache a listagem segue o caminho normal (cache ou EasyConsult).
+ * - Depois do TTL e por mais {@code app.graphql.easyconsult.stale.while-revalidate}, a última resposta é
+ *   servida na hora e a listagem é revalidada em segundo plano, sem o pico de latência da recarga.
+ * - Se o EasyConsult falha, a última resposta é servida enquanto tiver menos de
+ *   {@code app.graphql.easyconsult.stale.if-error}, prazo contado por chave a partir da resposta.
+ *
+ * Mutations deste BFF tiram as respostas anteriores do revalidate (a leitura seguinte espera o serviço),
+ * mas não do fallback de falha. Respostas antigas servidas ficam em
+ * {@code graphql.client.stale.responses{reason=revalidate|error}} e o armazenamento em cache.* (cache=consults-stale).
+ */
+@Component
+public class ConsultStaleStore {
+
+    private static final Logger log = LoggerFactory.getLogger(ConsultStaleStore.class);
+
+    private final Cache<ConsultQueryCache.Key, Entry> entries;
+    private final Ticker ticker;
+    private final long freshNanos;
+    private final long revalidateNanos;
+    private final AtomicLong mutations = new AtomicLong();
+    private final Counter servedWhileRevalidating;
+    private final Counter servedOnError;
+
+    @Autowired
+    public ConsultStaleStore(@Value("${app.graphql.easyconsult.cache.ttl:30s}") Duration ttl,
+                             @Value("${app.graphql.easyconsult.stale.while-revalidate:60s}") Duration whileRevalidate,
+                             @Value("${app.graphql.easyconsult.stale.if-error:15m}") Duration ifError,
+                             @Value("${app.graphql.easyconsult.stale.max-size:1000}") long maxSize,
+                             MeterRegistry meterRegistry) {
+        this(ttl, whileRevalidate, ifError, maxSize, meterRegistry, Ticker.systemTicker());
+    }
+
+    ConsultStaleStore(Duration ttl, Duration whileRevalidate, Duration ifError, long maxSize,
+                      MeterRegistry meterRegistry, Ticker ticker) {
+        this.ticker = ticker;
+        this.freshNanos = ttl.toNanos();
+        this.revalidateNanos = freshNanos + whileRevalidate.toNanos();
+        // Entradas só são gravadas com respostas novas, então expirar pela escrita é expirar pela idade
+        this.entries = CaffeineCacheMetrics.monitor(meterRegistry, Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofNanos(Math.max(ifError.toNanos(), revalidateNanos)))
+                .maximumSize(maxSize)
+                .ticker(ticker)
+                .recordStats()
+                .build(), "consults-stale");
+        this.servedWhileRevalidating = counter(meterRegistry, "revalidate");
+        this.servedOnError = counter(meterRegistry, "error");
+    }
+
+    /**
+     * Envolve a chamada ao EasyConsult (o loader do cache) para guardar cada resposta boa.
+     */
+    public Mono<List<GraphQLConsultResponse>> recording(ConsultQueryCache.Key key,
+                                                       Mono<List<GraphQLConsultResponse>> upstream) {
+        return Mono.defer(() -> {
+            // Geração lida no início: uma resposta pedida antes de uma mutation não conta como posterior a ela
+            long generation = mutations.get();
+            return upstream.doOnNext(consults -> entries.put(key, new Entry(consults, ticker.read(), generation)));
+        });
+    }
+
+    /**
+     * Resolve a listagem: {@code fresh} (cache ou EasyConsult) enquanto a última resposta está no TTL ou não
+     * pode ser revalidada em segundo plano; a última resposta quando pode, ou quando {@code fresh} falha.
+     */
+    public Mono<ConsultListing> read(ConsultQueryCache.Key key, Mono<List<GraphQLConsultResponse>> fresh) {
+        return Mono.defer(() -> {
+            Entry entry = entries.getIfPresent(key);
+            long age = entry == null ? 0 : ticker.read() - entry.storedAtNanos();
+
+            if (entry != null && age >= freshNanos && age < revalidateNanos && entry.generation() == mutations.get()) {
+                fresh.subscribe(
+                        consults -> log.debug("Consult listing revalidated in background"),
+                        error -> log.warn("Background revalidation of consult listing failed: {}", error.getMessage()));
+                servedWhileRevalidating.increment();
+                return Mono.just(new ConsultListing(entry.consults(), Freshness.STALE_WHILE_REVALIDATE,
+                        Duration.ofNanos(age)));
+            }
+
+            return fresh.map(ConsultListing::fresh)
+                    .onErrorResume(ExternalServiceException.class, error -> fallback(key, error));
+        });
+    }
+
+    @EventListener
+    public void onConsultChanged(ConsultChangedEvent event) {
+        mutations.incrementAndGet();
+    }
+
+    private Mono<ConsultListing> fallback(ConsultQueryCache.Key key, ExternalServiceException error) {
+        Entry entry = entries.getIfPresent(key);
+        if (entry == null) {
+            return Mono.error(error);
+        }
+        Duration age = Duration.ofNanos(ticker.read() - entry.storedAtNanos());
+        log.warn("EasyConsult failed ({}), serving consult listing from {}s ago", error.getMessage(), age.toSeconds());
+        servedOnError.increment();
+        return Mono.just(new ConsultListing(entry.consults(), Freshness.STALE_IF_ERROR, age));
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("graphql.client.stale.responses")
+                .description("Consult listings served from the last good EasyConsult response")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    private record Entry(List<GraphQLConsultResponse> consults, long storedAtNanos, long generation) {
+    }
+}
@@ -0,0 +1,126 @@
+package com.fiap.hospital.bff.infra.adapter.easyconsult;
+
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Operações do EasyConsult, montadas uma única vez na carga da classe: o fragmento de consulta é
+ * aplicado aqui, e não a cada chamada, e o hash de cada documento fica pronto para as persisted queries.
+ * As listagens com seleção reduzida ({@link ConsultField}) são montadas na primeira vez que cada
+ * combinação de campos é pedida e reaproveitadas depois.
+ */
+public final class EasyConsultDocuments {
+
+    private static final String CONSULT_FRAGMENT = """
+            id
+            patient {
+                name
+                email
+            }
+            nameProfessional
+            localTime
+            date
+            statusConsult
+            reason
+        """;
+
+    public static final GraphQlDocument CREATE_CONSULT = GraphQlDocument.of("CreateFullConsult", """
+            mutation CreateFullConsult($input: ConsultRequestDto!) {
+                createFullConsult(input: $input) {
+                    %s
+                }
+            }
+            """.formatted(CONSULT_FRAGMENT));
+
+    private static final String GET_ALL_CONSULTS_TEMPLATE = """
+            query GetAllConsults {
+                getAllConsults {
+                    %s
+                }
+            }
+            """;
+
+    private static final String GET_FILTERED_CONSULTS_TEMPLATE = """
+            query GetFilteredConsults($filter: ConsultFilterRequestDto!) {
+                getFilteredConsults(filter: $filter) {
+                    %s
+                }
+            }
+            """;
+
+    public static final GraphQlDocument GET_ALL_CONSULTS = GraphQlDocument.of("GetAllConsults",
+            GET_ALL_CONSULTS_TEMPLATE.formatted(CONSULT_FRAGMENT));
+
+    public static final GraphQlDocument GET_FILTERED_CONSULTS = GraphQlDocument.of("GetFilteredConsults",
+            GET_FILTERED_CONSULTS_TEMPLATE.formatted(CONSULT_FRAGMENT));
+
+    public static final GraphQlDocument UPDATE_CONSULT = GraphQlDocument.of("UpdateConsult", """
+            mutation UpdateConsult($input: ConsultUpdateRequestDto!) {
+                updateConsult(input: $input) {
+                    %s
+                }
+            }
+            """.formatted(CONSULT_FRAGMENT));
+
+    public static final GraphQlDocument DELETE_CONSULT = GraphQlDocument.of("DeleteConsult", """
+            mutation DeleteConsult($id: ID!) {
+                deleteConsult(id: $id)
+            }
+            """);
+
+    // Documentos com seleção reduzida entram no registro quando montados (no máximo 2^6 por listagem)
+    private static final Map<String, GraphQlDocument> BY_TEXT = Stream.of(
+                    CREATE_CONSULT, GET_ALL_CONSULTS, GET_FILTERED_CONSULTS, UPDATE_CONSULT, DELETE_CONSULT)
+            .collect(Collectors.toMap(GraphQlDocument::text, Function.identity(), (a, b) -> a, ConcurrentHashMap::new));
+
+    private static final Map<String, GraphQlDocument> SELECTIONS = new ConcurrentHashMap<>();
+
+    private EasyConsultDocuments() {
+    }
+
+    /**
+     * {@link #GET_ALL_CONSULTS} pedindo apenas {@code fields}.
+     */
+    public static GraphQlDocument getAllConsults(Set<ConsultField> fields) {
+        return select(GET_ALL_CONSULTS, GET_ALL_CONSULTS_TEMPLATE, fields);
+    }
+
+    /**
+     * {@link #GET_FILTERED_CONSULTS} pedindo apenas {@code fields}.
+     */
+    public static GraphQlDocument getFilteredConsults(Set<ConsultField> fields) {
+        return select(GET_FILTERED_CONSULTS, GET_FILTERED_CONSULTS_TEMPLATE, fields);
+    }
+
+    /**
+     * Documento registrado com exatamente este texto; vazio para documentos montados fora do registro.
+     */
+    public static Optional<GraphQlDocument> find(String text) {
+        return Optional.ofNullable(BY_TEXT.get(text));
+    }
+
+    /**
+     * Monta (uma vez por combinação) o documento com a seleção reduzida, na ordem dos campos do enum,
+     * para que o mesmo conjunto gere sempre o mesmo texto e o mesmo hash.
+     */
+    private static GraphQlDocument select(GraphQlDocument full, String template, Set<ConsultField> fields) {
+        if (fields.containsAll(ConsultField.ALL)) {
+            return full;
+        }
+        EnumSet<ConsultField> ordered = EnumSet.copyOf(fields);
+        return SELECTIONS.computeIfAbsent(full.operationName() + ordered, key -> {
+            String selection = ordered.stream()
+                    .map(ConsultField::selection)
+                    .collect(Collectors.joining("\n"));
+            GraphQlDocument document = GraphQlDocument.of(full.operationName(), template.formatted(selection));
+            BY_TEXT.putIfAbsent(document.text(), document);
+            return document;
+        });
+    }
+}
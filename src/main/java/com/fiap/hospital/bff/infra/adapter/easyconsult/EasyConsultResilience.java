@@ -0,0 +1,113 @@
+package com.fiap.hospital.bff.infra.adapter.easyconsult;
+
+import com.fiap.hospital.bff.infra.exception.ExternalServiceException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.github.resilience4j.reactor.retry.RetryOperator;
+import io.github.resilience4j.reactor.timelimiter.TimeLimiterOperator;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiter;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.Locale;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Proteções das chamadas ao EasyConsult (Resilience4j, configurado em {@code resilience4j.*}):
+ *
+ * - timeout por operação: instância {@code easyconsult-<operação>} do TimeLimiter (ex.: {@code easyconsult-getallconsults});
+ * - bulkhead por semáforo ({@code easyconsult}), que rejeita na hora o excedente de chamadas simultâneas;
+ * - circuit breaker ({@code easyconsult}), que falha rápido enquanto o serviço está fora;
+ * - retry com backoff exponencial e jitter ({@code easyconsult-queries}), só para queries, que são idempotentes.
+ *
+ * Rejeições e timeouts viram {@link ExternalServiceException}. Estado e contadores ficam em
+ * /actuator/health (easyConsult) e em /actuator/metrics (resilience4j.*).
+ */
+@Component
+public class EasyConsultResilience {
+
+    private static final Logger log = LoggerFactory.getLogger(EasyConsultResilience.class);
+
+    public static final String INSTANCE = "easyconsult";
+    public static final String QUERY_RETRY = INSTANCE + "-queries";
+
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final Retry queryRetry;
+    private final TimeLimiterRegistry timeLimiterRegistry;
+
+    public EasyConsultResilience(CircuitBreakerRegistry circuitBreakerRegistry,
+                                 BulkheadRegistry bulkheadRegistry,
+                                 RetryRegistry retryRegistry,
+                                 TimeLimiterRegistry timeLimiterRegistry) {
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker(INSTANCE);
+        this.bulkhead = bulkheadRegistry.bulkhead(INSTANCE);
+        this.queryRetry = retryRegistry.retry(QUERY_RETRY);
+        this.timeLimiterRegistry = timeLimiterRegistry;
+    }
+
+    /**
+     * Query: cada tentativa passa por bulkhead, timeout e circuit breaker, e falhas de transporte
+     * ou timeouts são repetidas conforme {@code easyconsult-queries}.
+     */
+    public <T> Mono<T> query(GraphQlDocument document, Mono<T> call) {
+        return protect(document, call)
+                .transformDeferred(RetryOperator.of(queryRetry))
+                .onErrorMap(e -> translate(document, e));
+    }
+
+    /**
+     * Mutation: mesmas proteções, sem retry, já que o serviço pode ter aplicado a operação antes da falha.
+     */
+    public <T> Mono<T> mutation(GraphQlDocument document, Mono<T> call) {
+        return protect(document, call)
+                .onErrorMap(e -> translate(document, e));
+    }
+
+    public CircuitBreaker circuitBreaker() {
+        return circuitBreaker;
+    }
+
+    public Bulkhead bulkhead() {
+        return bulkhead;
+    }
+
+    public TimeLimiter timeLimiter(GraphQlDocument document) {
+        return timeLimiterRegistry.timeLimiter(INSTANCE + "-" + document.operationName().toLowerCase(Locale.ROOT));
+    }
+
+    private <T> Mono<T> protect(GraphQlDocument document, Mono<T> call) {
+        return call
+                .transformDeferred(BulkheadOperator.of(bulkhead))
+                .transformDeferred(TimeLimiterOperator.of(timeLimiter(document)))
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker));
+    }
+
+    private Throwable translate(GraphQlDocument document, Throwable error) {
+        if (error instanceof CallNotPermittedException) {
+            log.warn("EasyConsult circuit breaker is {}, rejecting {}", circuitBreaker.getState(), document.operationName());
+            return new ExternalServiceException("EasyConsult service unavailable (circuit breaker open)");
+        }
+        if (error instanceof BulkheadFullException) {
+            log.warn("EasyConsult bulkhead full, rejecting {}", document.operationName());
+            return new ExternalServiceException("EasyConsult service busy (too many concurrent calls)");
+        }
+        if (error instanceof TimeoutException) {
+            log.warn("EasyConsult {} timed out after {}", document.operationName(),
+                    timeLimiter(document).getTimeLimiterConfig().getTimeoutDuration());
+            return new ExternalServiceException("EasyConsult service timed out");
+        }
+        return error;
+    }
+}
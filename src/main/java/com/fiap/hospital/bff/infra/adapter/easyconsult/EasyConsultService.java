@@ -6,24 +6,23 @@ import com.fiap.hospital.bff.infra.entrypoint.dto.request.ConsultRequestDto;
 import com.fiap.hospital.bff.infra.entrypoint.dto.graphql.ConsultUpdateRequestDto;
 import com.fiap.hospital.bff.infra.entrypoint.dto.graphql.ConsultDeleteRequestDto;
 import com.fiap.hospital.bff.infra.entrypoint.dto.request.ProfessionalData;
-import com.fiap.hospital.bff.infra.entrypoint.dto.request.TypeUsers;
+import com.fiap.hospital.bff.infra.config.GraphQlClientConfig;
 import com.fiap.hospital.bff.infra.exception.ExternalServiceException;
-import com.fiap.hospital.bff.infra.persistence.repository.UserRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.graphql.ResponseError;
 import org.springframework.graphql.client.ClientGraphQlResponse;
 import org.springframework.graphql.client.GraphQlClient;
-import org.springframework.graphql.client.HttpGraphQlClient;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
 
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -31,188 +30,169 @@ public class EasyConsultService {
 
     private static final Logger log = LoggerFactory.getLogger(EasyConsultService.class);
 
-    private static final String CONSULT_FRAGMENT = """
-            id
-            patient {
-                name
-                email
-            }
-            nameProfessional
-            localTime
-            date
-            statusConsult
-            reason
-        """;
-
-    private final UserRepository userRepository;
-    private final String graphqlUrl;
-
-    public EasyConsultService(UserRepository userRepository,
-                            @Value("${app.graphql.easyconsult.url:http://localhost:8081/graphql}") String graphqlUrl) {
-        this.userRepository = userRepository;
-        this.graphqlUrl = graphqlUrl;
+    private final NurseRoster nurseRoster;
+    private final GraphQlClient graphQlClient;
+    private final ConsultQueryCache consultQueryCache;
+    private final ConsultStaleStore consultStaleStore;
+    private final EasyConsultResilience resilience;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public EasyConsultService(NurseRoster nurseRoster,
+                              GraphQlClient graphQlClient,
+                              ConsultQueryCache consultQueryCache,
+                              ConsultStaleStore consultStaleStore,
+                              EasyConsultResilience resilience,
+                              ApplicationEventPublisher eventPublisher) {
+        this.nurseRoster = nurseRoster;
+        this.graphQlClient = graphQlClient;
+        this.consultQueryCache = consultQueryCache;
+        this.consultStaleStore = consultStaleStore;
+        this.resilience = resilience;
+        this.eventPublisher = eventPublisher;
     }
 
-    public GraphQLConsultResponse createConsult(ConsultRequestDto request) {
+    public Mono<GraphQLConsultResponse> createConsult(ConsultRequestDto request) {
         log.info("Creating consult: {}", request);
 
-        ProfessionalData professional = selectAvailableNurse();
-
-        String mutation = """
-            mutation CreateFullConsult($input: ConsultRequestDto!) {
-                createFullConsult(input: $input) {
-                    %s
-                }
-            }
-            """.formatted(CONSULT_FRAGMENT);
+        ProfessionalData professional = nurseRoster.next();
 
         Map<String, Object> variables = Map.of(
                 "input", buildCreateConsultInput(request, professional)
         );
 
-        return executeGraphQLMutation(mutation, variables, "createFullConsult",
-                                    GraphQLConsultResponse.class);
+        return executeGraphQLMutation(EasyConsultDocuments.CREATE_CONSULT, variables, "createFullConsult",
+                                    GraphQLConsultResponse.class)
+                .doOnNext(created -> publishChange(ConsultChangedEvent.Operation.CREATED, created));
     }
 
-    public List<GraphQLConsultResponse> getAllConsults() {
+    public Mono<ConsultListing> getAllConsults(Set<ConsultField> fields) {
         log.info("Fetching all consults");
 
-        String query = """
-            query {
-                getAllConsults {
-                    %s
-                }
-            }
-            """.formatted(CONSULT_FRAGMENT);
+        var key = ConsultQueryCache.Key.of(getAuthentication(), null, fields);
 
-        return executeGraphQLQuery(query, Map.of(), "getAllConsults",
-                                 GraphQLConsultResponse.class);
+        return readListing(key, EasyConsultDocuments.getAllConsults(fields), Map.of(), "getAllConsults");
     }
 
-    public List<GraphQLConsultResponse> getConsultsByFilter(ConsultFilterDto filter) {
-        log.info("Fetching consults with filter: {}", filter);
+    public Mono<ConsultListing> getConsultsByFilter(ConsultFilterDto filter, Set<ConsultField> fields) {
+        log.info("Fetching consults with filter: {}, fields: {}", filter, fields);
 
-        String query = """
-            query GetFilteredConsults($filter: ConsultFilterRequestDto!) {
-                getFilteredConsults(filter: $filter) {
-                    %s
-                }
-            }
-            """.formatted(CONSULT_FRAGMENT);
+        ConsultFilterDto normalizedFilter = filter == null
+                ? new ConsultFilterDto(null, null, null, null, null)
+                : filter.normalized();
 
-        Map<String, Object> variables = Map.of("filter", buildFilterMap(filter));
+        Map<String, Object> variables = Map.of("filter", buildFilterMap(normalizedFilter));
+        var key = ConsultQueryCache.Key.of(getAuthentication(), normalizedFilter, fields);
 
-        return executeGraphQLQuery(query, variables, "getFilteredConsults",
-                                 GraphQLConsultResponse.class);
+        return readListing(key, EasyConsultDocuments.getFilteredConsults(fields), variables, "getFilteredConsults");
     }
 
-    public GraphQLConsultResponse updateConsult(ConsultUpdateRequestDto request) {
+    public Mono<GraphQLConsultResponse> updateConsult(ConsultUpdateRequestDto request) {
         log.info("Updating consult: {}", request);
 
-        String mutation = """
-            mutation UpdateConsult($input: ConsultUpdateRequestDto!) {
-                updateConsult(input: $input) {
-                    %s
-                }
-            }
-            """.formatted(CONSULT_FRAGMENT);
-
         Map<String, Object> variables = Map.of(
                 "input", buildUpdateConsultInput(request)
         );
 
-        return executeGraphQLMutation(mutation, variables, "updateConsult",
-                                    GraphQLConsultResponse.class);
+        return executeGraphQLMutation(EasyConsultDocuments.UPDATE_CONSULT, variables, "updateConsult",
+                                    GraphQLConsultResponse.class)
+                .doOnNext(updated -> publishChange(ConsultChangedEvent.Operation.UPDATED, updated));
     }
 
-    public Boolean deleteConsult(ConsultDeleteRequestDto request) {
+    public Mono<Boolean> deleteConsult(ConsultDeleteRequestDto request) {
         log.info("Deleting consult: {}", request);
 
-        String mutation = """
-            mutation DeleteConsult($id: ID!) {
-                deleteConsult(id: $id)
-            }
-            """;
-
         Map<String, Object> variables = Map.of("id", request.id());
 
-        return executeGraphQLMutation(mutation, variables, "deleteConsult", Boolean.class);
+        return executeGraphQLMutation(EasyConsultDocuments.DELETE_CONSULT, variables, "deleteConsult", Boolean.class)
+                .doOnNext(deleted -> publishChange(ConsultChangedEvent.Operation.DELETED, null));
     }
 
-    private <T> T executeGraphQLMutation(String mutation, Map<String, Object> variables,
-                                       String fieldName, Class<T> responseType) {
-        try {
-            GraphQlClient client = createAuthenticatedClient();
-
-            log.debug("Executing GraphQL mutation. Field: {}, Variables: {}", fieldName, variables);
-
-            ClientGraphQlResponse response = client.document(mutation)
-                    .variables(variables)
-                    .execute()
-                    .block();
-
-            validateResponse(response);
+    /**
+     * Listagem em camadas: última resposta boa ({@link ConsultStaleStore}), cache (que também compartilha
+     * cargas em andamento) e, por fim, o EasyConsult, cuja resposta alimenta o cache e a última resposta boa.
+     */
+    private Mono<ConsultListing> readListing(ConsultQueryCache.Key key, GraphQlDocument query,
+                                             Map<String, Object> variables, String fieldName) {
+        var upstream = consultStaleStore.recording(key,
+                executeGraphQLQuery(query, variables, fieldName, GraphQLConsultResponse.class));
 
-            T result = response.field(fieldName).toEntity(responseType);
-
-            if (result == null) {
-                log.error("{} returned null. Full response: {}", fieldName, response);
-                throw new ExternalServiceException("GraphQL mutation returned null data");
-            }
-
-            log.info("GraphQL mutation executed successfully. Field: {}", fieldName);
-            return result;
-
-        } catch (ExternalServiceException e) {
-            throw e;
-        } catch (Exception e) {
-            log.error("Unexpected error executing GraphQL mutation: {}", fieldName, e);
-            throw new ExternalServiceException("Error executing GraphQL mutation: " + e.getMessage());
-        }
+        return consultStaleStore.read(key, consultQueryCache.get(key, upstream));
     }
 
-    private <T> List<T> executeGraphQLQuery(String query, Map<String, Object> variables,
-                                          String fieldName, Class<T> responseType) {
-        try {
-            GraphQlClient client = createAuthenticatedClient();
-
-            log.debug("Executing GraphQL query. Field: {}, Variables: {}", fieldName, variables);
-
-            List<T> response = client.document(query)
-                    .variables(variables)
-                    .retrieve(fieldName)
-                    .toEntityList(responseType)
-                    .block();
-
-            List<T> result = Optional.ofNullable(response)
-                    .orElseThrow(() -> new ExternalServiceException("Null response from GraphQL query"));
-
-            log.info("GraphQL query executed successfully. Field: {}, Results: {}", fieldName, result.size());
-            return result;
+    /**
+     * Monta a mutation de forma não bloqueante. O token é lido da thread chamadora (requisição
+     * servlet) antes da montagem do pipeline, já que o SecurityContext é thread-local.
+     * A chamada passa pelas proteções de {@link EasyConsultResilience}, sem retry.
+     */
+    private <T> Mono<T> executeGraphQLMutation(GraphQlDocument mutation, Map<String, Object> variables,
+                                             String fieldName, Class<T> responseType) {
+        String token = getAuthenticationToken();
 
-        } catch (ExternalServiceException e) {
-            throw e;
-        } catch (Exception e) {
-            log.error("Unexpected error executing GraphQL query: {}", fieldName, e);
-            throw new ExternalServiceException("Error executing GraphQL query: " + e.getMessage());
-        }
+        log.debug("Executing GraphQL mutation. Field: {}, Variables: {}", fieldName, variables);
+
+        return resilience.mutation(mutation, graphQlClient.document(mutation.text())
+                        .variables(variables)
+                        .attribute(GraphQlClientConfig.ACCESS_TOKEN_ATTRIBUTE, token)
+                        .execute())
+                .switchIfEmpty(Mono.error(() -> new ExternalServiceException("Null response from GraphQL service")))
+                .map(response -> {
+                    validateResponse(response);
+
+                    T result = response.field(fieldName).toEntity(responseType);
+
+                    if (result == null) {
+                        log.error("{} returned null. Full response: {}", fieldName, response);
+                        throw new ExternalServiceException("GraphQL mutation returned null data");
+                    }
+
+                    log.info("GraphQL mutation executed successfully. Field: {}", fieldName);
+                    return result;
+                })
+                .onErrorMap(e -> !(e instanceof ExternalServiceException), e -> {
+                    log.error("Unexpected error executing GraphQL mutation: {}", fieldName, e);
+                    return new ExternalServiceException("Error executing GraphQL mutation: " + e.getMessage());
+                });
     }
 
-    private GraphQlClient createAuthenticatedClient() {
+    /**
+     * Monta a query de forma não bloqueante. O token é lido da thread chamadora (requisição
+     * servlet) antes da montagem do pipeline, já que o SecurityContext é thread-local.
+     * A chamada passa pelas proteções de {@link EasyConsultResilience}, com retry.
+     */
+    private <T> Mono<List<T>> executeGraphQLQuery(GraphQlDocument query, Map<String, Object> variables,
+                                                String fieldName, Class<T> responseType) {
         String token = getAuthenticationToken();
 
-        return HttpGraphQlClient.builder()
-                .url(graphqlUrl)
-                .header("Authorization", "Bearer " + token)
-                .build();
+        log.debug("Executing GraphQL query. Field: {}, Variables: {}", fieldName, variables);
+
+        return resilience.query(query, graphQlClient.document(query.text())
+                        .variables(variables)
+                        .attribute(GraphQlClientConfig.ACCESS_TOKEN_ATTRIBUTE, token)
+                        .retrieve(fieldName)
+                        .toEntityList(responseType))
+                .switchIfEmpty(Mono.error(() -> new ExternalServiceException("Null response from GraphQL query")))
+                .doOnNext(result -> log.info("GraphQL query executed successfully. Field: {}, Results: {}",
+                        fieldName, result.size()))
+                .onErrorMap(e -> !(e instanceof ExternalServiceException), e -> {
+                    log.error("Unexpected error executing GraphQL query: {}", fieldName, e);
+                    return new ExternalServiceException("Error executing GraphQL query: " + e.getMessage());
+                });
     }
 
-    private String getAuthenticationToken() {
+    private void publishChange(ConsultChangedEvent.Operation operation, GraphQLConsultResponse consult) {
+        eventPublisher.publishEvent(new ConsultChangedEvent(operation, consult));
+    }
+
+    private JwtAuthenticationToken getAuthentication() {
         var authentication = (JwtAuthenticationToken) SecurityContextHolder.getContext().getAuthentication();
         if (authentication == null || authentication.getToken() == null) {
             throw new ExternalServiceException("No valid authentication token found");
         }
-        return authentication.getToken().getTokenValue();
+        return authentication;
+    }
+
+    private String getAuthenticationToken() {
+        return getAuthentication().getToken().getTokenValue();
     }
 
     private void validateResponse(ClientGraphQlResponse response) {
@@ -276,11 +256,4 @@ public class EasyConsultService {
             map.put(key, value);
         }
     }
-
-    private ProfessionalData selectAvailableNurse() {
-        return userRepository.findAllByTipo(TypeUsers.ENFERMEIRO).stream()
-                .findFirst()
-                .map(nurse -> new ProfessionalData(nurse.getNome(), nurse.getEmail()))
-                .orElseThrow(() -> new ExternalServiceException("No nurse available"));
-    }
 }
@@ -0,0 +1,30 @@
+package com.fiap.hospital.bff.infra.adapter.easyconsult;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Documento GraphQL pronto para envio, com o SHA-256 do texto já calculado para as
+ * Automatic Persisted Queries.
+ *
+ * @param operationName nome da operação declarada no documento
+ * @param text          texto completo enviado ao serviço
+ * @param sha256Hash    hash hexadecimal (minúsculo) de {@code text} em UTF-8
+ */
+public record GraphQlDocument(String operationName, String text, String sha256Hash) {
+
+    public static GraphQlDocument of(String operationName, String text) {
+        return new GraphQlDocument(operationName, text, sha256(text));
+    }
+
+    static String sha256(String text) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(text.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
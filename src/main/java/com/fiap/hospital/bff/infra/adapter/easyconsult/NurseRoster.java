@@ -0,0 +1,94 @@
+package com.fiap.hospital.bff.infra.adapter.easyconsult;
+
+import com.fiap.hospital.bff.infra.adapter.gateway.UserChangedEvent;
+import com.fiap.hospital.bff.infra.entrypoint.dto.request.ProfessionalData;
+import com.fiap.hospital.bff.infra.entrypoint.dto.request.TypeUsers;
+import com.fiap.hospital.bff.infra.exception.ExternalServiceException;
+import com.fiap.hospital.bff.infra.persistence.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Escala de enfermeiros mantida em memória para atribuição de consultas.
+ *
+ * A lista é um snapshot imutável trocado atomicamente; a seleção é round-robin com um contador
+ * atômico, sem locks nem acesso ao banco. O snapshot é recarregado quando um enfermeiro é criado,
+ * atualizado ou removido por este BFF e, como rede de segurança para alterações feitas por outras
+ * instâncias, quando fica mais velho que {@code app.consult.nurse-roster.refresh-interval}.
+ */
+@Component
+public class NurseRoster {
+
+    private static final Logger log = LoggerFactory.getLogger(NurseRoster.class);
+
+    private final UserRepository userRepository;
+    private final long refreshIntervalNanos;
+    private final AtomicLong cursor = new AtomicLong();
+    private final AtomicBoolean reloading = new AtomicBoolean();
+
+    private volatile Snapshot snapshot;
+
+    public NurseRoster(UserRepository userRepository,
+                       @Value("${app.consult.nurse-roster.refresh-interval:5m}") Duration refreshInterval) {
+        this.userRepository = userRepository;
+        this.refreshIntervalNanos = refreshInterval.toNanos();
+    }
+
+    public ProfessionalData next() {
+        List<ProfessionalData> nurses = current().nurses();
+        if (nurses.isEmpty()) {
+            throw new ExternalServiceException("No nurse available");
+        }
+        return nurses.get((int) Math.floorMod(cursor.getAndIncrement(), (long) nurses.size()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        if (event.user() != null && TypeUsers.ENFERMEIRO.name().equals(event.user().getTipo())) {
+            log.debug("Nurse {} {}, reloading roster", event.user().getEmail(), event.operation());
+            reload();
+        }
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return reload();
+        }
+        if (current.isOlderThan(refreshIntervalNanos) && reloading.compareAndSet(false, true)) {
+            try {
+                return reload();
+            } finally {
+                reloading.set(false);
+            }
+        }
+        return current;
+    }
+
+    private Snapshot reload() {
+        List<ProfessionalData> nurses = userRepository.findAllByTipo(TypeUsers.ENFERMEIRO).stream()
+                .map(nurse -> new ProfessionalData(nurse.getNome(), nurse.getEmail()))
+                .sorted(Comparator.comparing(ProfessionalData::email, Comparator.nullsLast(Comparator.naturalOrder())))
+                .toList();
+        Snapshot reloaded = new Snapshot(nurses, System.nanoTime());
+        snapshot = reloaded;
+        log.info("Nurse roster loaded with {} nurses", nurses.size());
+        return reloaded;
+    }
+
+    private record Snapshot(List<ProfessionalData> nurses, long loadedAtNanos) {
+
+        boolean isOlderThan(long intervalNanos) {
+            return System.nanoTime() - loadedAtNanos > intervalNanos;
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.fiap.hospital.bff.infra.adapter.easyconsult;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.graphql.ResponseError;
+import org.springframework.graphql.client.ClientGraphQlRequest;
+import org.springframework.graphql.client.ClientGraphQlResponse;
+import org.springframework.graphql.client.GraphQlClientInterceptor;
+import reactor.core.publisher.Mono;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Automatic Persisted Queries para os documentos de {@link EasyConsultDocuments}, ligado por
+ * {@code app.graphql.easyconsult.persisted-queries.enabled}.
+ *
+ * A primeira tentativa envia só o SHA-256 do documento em {@code extensions.persistedQuery}. Se o
+ * serviço responde {@code PersistedQueryNotFound}, a operação é reenviada com o texto completo e o hash,
+ * e o serviço passa a conhecê-la. Se responde {@code PersistedQueryNotSupported}, o texto completo passa
+ * a ser enviado direto até o fim do processo. Nos dois casos a operação não foi executada na primeira
+ * tentativa, então o reenvio é seguro também para mutations; falhas de transporte não são reenviadas.
+ *
+ * Resultado de cada tentativa em {@code graphql.client.persisted.queries{result=hit|miss|unsupported}}.
+ */
+public class PersistedQueryInterceptor implements GraphQlClientInterceptor {
+
+    private static final Logger log = LoggerFactory.getLogger(PersistedQueryInterceptor.class);
+
+    static final String EXTENSION = "persistedQuery";
+    static final String NOT_FOUND = "PersistedQueryNotFound";
+    static final String NOT_SUPPORTED = "PersistedQueryNotSupported";
+    private static final String NOT_FOUND_CODE = "PERSISTED_QUERY_NOT_FOUND";
+    private static final String NOT_SUPPORTED_CODE = "PERSISTED_QUERY_NOT_SUPPORTED";
+
+    private final AtomicBoolean supported = new AtomicBoolean(true);
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter unsupported;
+
+    public PersistedQueryInterceptor(MeterRegistry meterRegistry) {
+        this.hits = counter(meterRegistry, "hit");
+        this.misses = counter(meterRegistry, "miss");
+        this.unsupported = counter(meterRegistry, "unsupported");
+    }
+
+    @Override
+    public Mono<ClientGraphQlResponse> intercept(ClientGraphQlRequest request, Chain chain) {
+        if (!supported.get()) {
+            return chain.next(request);
+        }
+        return EasyConsultDocuments.find(request.getDocument())
+                .map(document -> executePersisted(request, document, chain))
+                .orElseGet(() -> chain.next(request));
+    }
+
+    private Mono<ClientGraphQlResponse> executePersisted(ClientGraphQlRequest request, GraphQlDocument document,
+                                                         Chain chain) {
+        Map<String, Object> extensions = new LinkedHashMap<>(request.getExtensions());
+        extensions.put(EXTENSION, Map.of("version", 1, "sha256Hash", document.sha256Hash()));
+
+        return chain.next(new PersistedQueryRequest(null, extensions, request))
+                .flatMap(response -> {
+                    if (hasError(response, NOT_FOUND, NOT_FOUND_CODE)) {
+                        misses.increment();
+                        log.debug("Persisted query {} not registered yet, sending full document",
+                                document.operationName());
+                        return chain.next(new PersistedQueryRequest(request.getDocument(), extensions, request));
+                    }
+                    if (hasError(response, NOT_SUPPORTED, NOT_SUPPORTED_CODE)) {
+                        unsupported.increment();
+                        if (supported.compareAndSet(true, false)) {
+                            log.warn("EasyConsult does not support persisted queries, sending full documents");
+                        }
+                        return chain.next(request);
+                    }
+                    hits.increment();
+                    return Mono.just(response);
+                });
+    }
+
+    /**
+     * Reconhece o erro pela mensagem (Apollo, graphql-java) ou pelo {@code extensions.code}
+     * ({@code PERSISTED_QUERY_NOT_FOUND}, {@code PERSISTED_QUERY_NOT_SUPPORTED}).
+     */
+    private static boolean hasError(ClientGraphQlResponse response, String message, String code) {
+        for (ResponseError responseError : response.getErrors()) {
+            if (message.equals(responseError.getMessage()) || code.equals(responseError.getExtensions().get("code"))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("graphql.client.persisted.queries")
+                .description("Automatic Persisted Query attempts against EasyConsult")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Requisição com o documento opcional: sem texto, o corpo vai sem o campo {@code query}.
+     */
+    private record PersistedQueryRequest(String document, Map<String, Object> extensions,
+                                         ClientGraphQlRequest original) implements ClientGraphQlRequest {
+
+        @Override
+        public String getDocument() {
+            return document != null ? document : "";
+        }
+
+        @Override
+        public String getOperationName() {
+            return original.getOperationName();
+        }
+
+        @Override
+        public Map<String, Object> getVariables() {
+            return original.getVariables();
+        }
+
+        @Override
+        public Map<String, Object> getExtensions() {
+            return extensions;
+        }
+
+        @Override
+        public Map<String, Object> getAttributes() {
+            return original.getAttributes();
+        }
+
+        @Override
+        public Map<String, Object> toMap() {
+            Map<String, Object> map = new LinkedHashMap<>();
+            if (document != null) {
+                map.put("query", document);
+            }
+            if (getOperationName() != null) {
+                map.put("operationName", getOperationName());
+            }
+            if (!getVariables().isEmpty()) {
+                map.put("variables", getVariables());
+            }
+            map.put("extensions", extensions);
+            return map;
+        }
+    }
+}
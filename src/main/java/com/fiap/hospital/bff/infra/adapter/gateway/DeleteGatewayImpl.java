@@ -3,10 +3,12 @@ package com.fiap.hospital.bff.infra.adapter.gateway;
 import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 import com.fiap.hospital.bff.core.domain.model.user.User;
 import com.fiap.hospital.bff.core.outputport.DeleteGateway;
 import com.fiap.hospital.bff.infra.entrypoint.mapper.UserMapper;
+import com.fiap.hospital.bff.infra.persistence.cache.UserEntityCache;
 import com.fiap.hospital.bff.infra.persistence.repository.UserRepository;
 
 @Component
@@ -16,20 +18,29 @@ public class DeleteGatewayImpl implements DeleteGateway {
 
     private final UserRepository userRepository;
     private final UserMapper userMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final UserEntityCache userEntityCache;
 
-    public DeleteGatewayImpl(UserRepository userRepository, UserMapper userMapper) {
+    public DeleteGatewayImpl(UserRepository userRepository, UserMapper userMapper,
+                             ApplicationEventPublisher eventPublisher, UserEntityCache userEntityCache) {
         this.userRepository = userRepository;
         this.userMapper = userMapper;
+        this.eventPublisher = eventPublisher;
+        this.userEntityCache = userEntityCache;
     }
 
+    /**
+     * Um único DELETE ... RETURNING devolve a linha removida (sem a senha), sem buscá-la antes.
+     */
     @Override
     public Optional<User> deleteById(Long idUser) {
         log.info("Deleting user with ID: {}", idUser);
 
-        return userRepository.findById(idUser)
-                .map(userEntity -> {
-                    User userDomain = userMapper.toUserDomain(userEntity);
-                    userRepository.deleteById(idUser);
+        return userRepository.deleteReturning(idUser)
+                .map(deleted -> {
+                    userEntityCache.evict(idUser);
+                    User userDomain = userMapper.toUserDomain(deleted);
+                    eventPublisher.publishEvent(new UserChangedEvent(UserChangedEvent.Operation.DELETED, userDomain));
                     return userDomain;
                 });
     }
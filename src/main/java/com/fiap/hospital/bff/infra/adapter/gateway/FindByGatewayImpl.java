@@ -2,14 +2,22 @@ package com.fiap.hospital.bff.infra.adapter.gateway;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 import com.fiap.hospital.bff.core.domain.model.user.User;
+import com.fiap.hospital.bff.core.domain.model.user.UserCredentials;
+import com.fiap.hospital.bff.core.domain.model.user.UserPage;
 import com.fiap.hospital.bff.core.outputport.FindByGateway;
+import com.fiap.hospital.bff.infra.entrypoint.dto.request.TypeUsers;
 import com.fiap.hospital.bff.infra.exception.UserNotFoundException;
 import com.fiap.hospital.bff.infra.entrypoint.mapper.UserMapper;
 import com.fiap.hospital.bff.infra.persistence.entity.UserEntity;
+import com.fiap.hospital.bff.infra.persistence.projection.UserSummaryProjection;
 import com.fiap.hospital.bff.infra.persistence.repository.UserRepository;
 
 @Component
@@ -25,24 +33,69 @@ public class FindByGatewayImpl implements FindByGateway {
         this.mapper = mapper;
     }
 
+    /**
+     * Paginação por keyset: busca {@code limit + 1} linhas com id maior que {@code afterId},
+     * usando a linha extra apenas para saber se existe uma próxima página.
+     */
     @Override
-    public List<User> getAll() {
-        log.info("Getting all users");
-        return userRepository.findAll().stream().map(mapper::toUserDomain).toList();
+    @Transactional(readOnly = true)
+    public UserPage findPage(String tipo, Long afterId, int limit) {
+        log.info("FindByGatewayImpl.findPage: tipo={}, afterId={}, limit={}", tipo, afterId, limit);
+        long after = afterId != null ? afterId : 0L;
+        List<UserSummaryProjection> rows = tipo == null
+                ? userRepository.findByIdGreaterThanOrderByIdAsc(after, Limit.of(limit + 1))
+                : userRepository.findByTipoAndIdGreaterThanOrderByIdAsc(TypeUsers.valueOf(tipo), after, Limit.of(limit + 1));
+
+        boolean hasNext = rows.size() > limit;
+        List<UserSummaryProjection> page = hasNext ? rows.subList(0, limit) : rows;
+        Long nextAfterId = hasNext ? page.get(page.size() - 1).getId() : null;
+        return new UserPage(page.stream().map(mapper::toUserDomain).toList(), nextAfterId);
+    }
+
+    /**
+     * Percorre os usuários em ordem de id a partir de um cursor do banco, entregando um a um ao
+     * {@code consumer} sem materializar a lista. A transação mantém o cursor aberto até o fim.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAll(String tipo, Consumer<User> consumer) {
+        log.info("FindByGatewayImpl.streamAll: tipo={}", tipo);
+        try (Stream<UserSummaryProjection> rows = tipo == null
+                ? userRepository.streamAllByOrderByIdAsc()
+                : userRepository.streamByTipoOrderByIdAsc(TypeUsers.valueOf(tipo))) {
+            rows.map(mapper::toUserDomain).forEach(consumer);
+        }
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Optional<User> getById(Long idUser) {
         log.info("FindByGatewayImpl.getById: idUser={}", idUser);
-        var findUser = userRepository.findById(idUser)
+        var findUser = userRepository.findSummaryById(idUser)
                 .orElseThrow(() -> new UserNotFoundException(idUser));
         return Optional.ofNullable(mapper.toUserDomain(findUser));
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Optional<User> findByEmail(String email) {
         log.info("FindByGatewayImpl.findByEmail: email={}", email);
         Optional<UserEntity> user = userRepository.findByEmail(email);
         return user.map(mapper::toUserDomain);
     }
+
+    /**
+     * Fora de transação somente leitura, a busca vai sempre ao primário: o login logo após o
+     * cadastro ou a troca de senha não depende do atraso das réplicas.
+     */
+    @Override
+    public Optional<UserCredentials> findCredentialsByEmail(String email) {
+        log.info("FindByGatewayImpl.findCredentialsByEmail: email={}", email);
+        return userRepository.findCredentialsByEmail(email)
+                .map(credentials -> new UserCredentials(
+                        credentials.getId(),
+                        credentials.getEmail(),
+                        credentials.getSenha(),
+                        credentials.getTipo().name()));
+    }
 }
@@ -0,0 +1,103 @@
+package com.fiap.hospital.bff.infra.adapter.gateway;
+
+import com.fiap.hospital.bff.core.domain.model.token.RefreshTokenOwner;
+import com.fiap.hospital.bff.core.outputport.RefreshTokenGateway;
+import com.fiap.hospital.bff.infra.persistence.entity.RefreshTokenEntity;
+import com.fiap.hospital.bff.infra.persistence.repository.RefreshTokenRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Optional;
+
+/**
+ * Refresh tokens opacos: 256 bits aleatórios entregues ao cliente, dos quais só o SHA-256 é persistido.
+ * Cada token é de uso único; a renovação o consome e emite outro, e a revogação é um DELETE.
+ * O token pertence ao id do usuário: excluir a conta ou trocar email/senha revoga todos os tokens dela.
+ * Tokens expirados são removidos periodicamente ({@code app.security.refresh-token.purge-interval}), fora do login.
+ */
+@Component
+public class RefreshTokenGatewayImpl implements RefreshTokenGateway {
+
+    private static final Logger log = LoggerFactory.getLogger(RefreshTokenGatewayImpl.class);
+
+    private static final int TOKEN_BYTES = 32;
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final Duration ttl;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    public RefreshTokenGatewayImpl(RefreshTokenRepository refreshTokenRepository,
+                                   @Value("${app.security.refresh-token.ttl:7d}") Duration ttl) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.ttl = ttl;
+    }
+
+    @Override
+    @Transactional
+    public String issue(Long userId, String email) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        secureRandom.nextBytes(bytes);
+        String refreshToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        refreshTokenRepository.save(RefreshTokenEntity.builder()
+                .tokenHash(hash(refreshToken))
+                .userId(userId)
+                .email(email)
+                .expiresAt(Instant.now().plus(ttl))
+                .build());
+        return refreshToken;
+    }
+
+    @Override
+    @Transactional
+    public Optional<RefreshTokenOwner> consume(String refreshToken) {
+        String tokenHash = hash(refreshToken);
+        return refreshTokenRepository.findByTokenHash(tokenHash)
+                // O DELETE decide entre renovações concorrentes com o mesmo token: só uma remove a linha
+                .filter(stored -> refreshTokenRepository.deleteByTokenHash(tokenHash) == 1)
+                .filter(stored -> stored.getExpiresAt().isAfter(Instant.now()))
+                .map(stored -> new RefreshTokenOwner(stored.getUserId(), stored.getEmail()));
+    }
+
+    @Override
+    @Transactional
+    public void revoke(String refreshToken) {
+        refreshTokenRepository.deleteByTokenHash(hash(refreshToken));
+    }
+
+    @Override
+    @Transactional
+    public void revokeAll(Long userId) {
+        int revoked = refreshTokenRepository.deleteByUserId(userId);
+        log.info("Revoked {} refresh tokens for user ID: {}", revoked, userId);
+    }
+
+    @Scheduled(initialDelayString = "${app.security.refresh-token.purge-interval:1h}",
+            fixedDelayString = "${app.security.refresh-token.purge-interval:1h}")
+    @Transactional
+    public void purgeExpired() {
+        int purged = refreshTokenRepository.deleteExpired(Instant.now());
+        log.info("Purged {} expired refresh tokens", purged);
+    }
+
+    private static String hash(String refreshToken) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256")
+                    .digest(refreshToken.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
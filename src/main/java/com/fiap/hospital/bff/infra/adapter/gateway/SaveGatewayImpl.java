@@ -4,43 +4,68 @@ import com.fiap.hospital.bff.core.domain.model.user.User;
 import com.fiap.hospital.bff.core.outputport.SaveGateway;
 import com.fiap.hospital.bff.infra.entrypoint.mapper.UserMapper;
 import com.fiap.hospital.bff.infra.exception.UserAlreadyRegisteredException;
+import com.fiap.hospital.bff.infra.persistence.entity.UserEntity;
 import com.fiap.hospital.bff.infra.persistence.repository.UserRepository;
+import org.hibernate.exception.ConstraintViolationException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
+import java.util.Locale;
+
 @Component
 public class SaveGatewayImpl implements SaveGateway {
 
     private static final Logger log = LoggerFactory.getLogger(SaveGatewayImpl.class);
 
-    private final BCryptPasswordEncoder passwordEncoder;
+    private final PasswordEncoder passwordEncoder;
     private final UserRepository userRepository;
     private final UserMapper mapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     public SaveGatewayImpl(UserRepository userRepository, UserMapper mapper,
-                          BCryptPasswordEncoder passwordEncoder) {
+                          PasswordEncoder passwordEncoder,
+                          ApplicationEventPublisher eventPublisher) {
         this.userRepository = userRepository;
         this.mapper = mapper;
         this.passwordEncoder = passwordEncoder;
+        this.eventPublisher = eventPublisher;
     }
 
+    /**
+     * Cadastro em um único INSERT: a unicidade do email é garantida pelo índice único
+     * {@value UserEntity#EMAIL_UNIQUE_CONSTRAINT}, e a violação vira {@link UserAlreadyRegisteredException}.
+     * Sem consulta prévia, dois cadastros simultâneos com o mesmo email não passam juntos pela checagem.
+     */
     @Override
     public User save(User user) {
 
         log.info("Creating new user with email: {}", user.getEmail());
 
-        var existingUser = userRepository.findByEmail(user.getEmail());
-        if (existingUser.isPresent()) {
-            throw new UserAlreadyRegisteredException(user.getEmail());
-        }
-
         String encodedPassword = passwordEncoder.encode(user.getSenha());
         user.setSenha(encodedPassword);
 
         var entity = mapper.toUserEntity(user);
-        var savedEntity = userRepository.save(entity);
-        return mapper.toUserDomain(savedEntity);
+        UserEntity savedEntity;
+        try {
+            savedEntity = userRepository.saveAndFlush(entity);
+        } catch (DataIntegrityViolationException e) {
+            if (isDuplicateEmail(e)) {
+                throw new UserAlreadyRegisteredException(user.getEmail());
+            }
+            throw e;
+        }
+        var savedUser = mapper.toUserDomain(savedEntity);
+        eventPublisher.publishEvent(new UserChangedEvent(UserChangedEvent.Operation.CREATED, savedUser));
+        return savedUser;
+    }
+
+    static boolean isDuplicateEmail(DataIntegrityViolationException e) {
+        return e.getCause() instanceof ConstraintViolationException violation
+                && violation.getConstraintName() != null
+                && violation.getConstraintName().toLowerCase(Locale.ROOT).contains(UserEntity.EMAIL_UNIQUE_CONSTRAINT);
     }
 }
@@ -3,10 +3,12 @@ package com.fiap.hospital.bff.infra.adapter.gateway;
 import com.fiap.hospital.bff.core.domain.model.user.User;
 import com.fiap.hospital.bff.core.outputport.UpdateGateway;
 import com.fiap.hospital.bff.infra.entrypoint.mapper.UserMapper;
+import com.fiap.hospital.bff.infra.persistence.cache.UserEntityCache;
 import com.fiap.hospital.bff.infra.persistence.repository.UserRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
 import java.util.Optional;
@@ -18,41 +20,52 @@ public class UpdateGatewayImpl implements UpdateGateway {
 
     private final UserRepository userRepository;
     private final UserMapper userMapper;
-    private final BCryptPasswordEncoder passwordEncoder;
+    private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
+    private final UserEntityCache userEntityCache;
 
     public UpdateGatewayImpl(UserRepository userRepository,
                            UserMapper userMapper,
-                           BCryptPasswordEncoder passwordEncoder) {
+                           PasswordEncoder passwordEncoder,
+                           ApplicationEventPublisher eventPublisher,
+                           UserEntityCache userEntityCache) {
         this.userRepository = userRepository;
         this.userMapper = userMapper;
         this.passwordEncoder = passwordEncoder;
+        this.eventPublisher = eventPublisher;
+        this.userEntityCache = userEntityCache;
     }
 
+    /**
+     * Um único UPDATE ... RETURNING: campos nulos mantêm o valor atual e a linha atualizada volta sem
+     * a senha. A nova senha é criptografada antes, já que o comando não lê o usuário primeiro.
+     */
     @Override
     public Optional<User> update(Long idUser, User user) {
         log.info("Updating user with ID: {}", idUser);
 
-        return userRepository.findById(idUser)
-                .map(existingUser -> {
-                    Optional.ofNullable(user.getEmail()).ifPresent(existingUser::setEmail);
-                    Optional.ofNullable(user.getLogin()).ifPresent(existingUser::setLogin);
-                    Optional.ofNullable(user.getSenha())
-                            .filter(senha -> !senha.isEmpty())
-                            .map(passwordEncoder::encode)
-                            .ifPresent(existingUser::setSenha);
+        String encodedPassword = Optional.ofNullable(user.getSenha())
+                .filter(senha -> !senha.isEmpty())
+                .map(passwordEncoder::encode)
+                .orElse(null);
 
-                    return userMapper.toUserDomain(userRepository.save(existingUser));
+        return userRepository.updateReturning(idUser, user.getEmail(), user.getLogin(), encodedPassword)
+                .map(updated -> {
+                    userEntityCache.evict(idUser);
+                    User updatedUser = userMapper.toUserDomain(updated);
+                    eventPublisher.publishEvent(new UserChangedEvent(UserChangedEvent.Operation.UPDATED, updatedUser));
+                    return updatedUser;
                 });
     }
 
+    /**
+     * Também um único UPDATE ... RETURNING, pelo email: o id devolvido é o que sai do cache.
+     */
     @Override
     public void updatePassword(String email, String password) {
         log.info("Updating password for email: {}", email);
 
-        userRepository.findByEmail(email).ifPresent(user -> {
-            String encodedPassword = passwordEncoder.encode(password);
-            user.setSenha(encodedPassword);
-            userRepository.save(user);
-        });
+        userRepository.updatePasswordReturning(email, passwordEncoder.encode(password))
+                .ifPresent(updated -> userEntityCache.evict(updated.getId()));
     }
 }
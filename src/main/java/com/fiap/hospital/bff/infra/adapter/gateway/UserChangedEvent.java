@@ -0,0 +1,18 @@
+package com.fiap.hospital.bff.infra.adapter.gateway;
+
+import com.fiap.hospital.bff.core.domain.model.user.User;
+
+/**
+ * Publicado pelos gateways de escrita após criar, atualizar ou remover um usuário.
+ *
+ * @param operation tipo da alteração
+ * @param user      estado do usuário após a alteração (ou antes, na remoção)
+ */
+public record UserChangedEvent(Operation operation, User user) {
+
+    public enum Operation {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+}
@@ -0,0 +1,211 @@
+package com.fiap.hospital.bff.infra.adapter.gateway;
+
+import com.fiap.hospital.bff.core.domain.model.user.User;
+import com.fiap.hospital.bff.core.domain.model.user.UserImportResult;
+import com.fiap.hospital.bff.core.outputport.ImportGateway;
+import com.fiap.hospital.bff.infra.entrypoint.mapper.UserMapper;
+import com.fiap.hospital.bff.infra.exception.TooManyRequestsException;
+import com.fiap.hospital.bff.infra.persistence.entity.UserEntity;
+import com.fiap.hospital.bff.infra.persistence.repository.UserRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Importação de usuários em lote.
+ *
+ * Por lote recebido: uma consulta descobre os emails já cadastrados, as senhas são criptografadas em
+ * paralelo e os usuários restantes são inseridos em uma única transação, com os INSERTs agrupados em
+ * batch pelo Hibernate (ids alocados da sequência usuarios_id_seq). Se um cadastro concorrente violar
+ * o índice único no meio do lote, o lote é refeito linha a linha para que o relatório aponte qual
+ * email conflitou.
+ *
+ * O hash roda no {@link PasswordEncoder} principal, que já limita o BCrypt a um pool dedicado; aqui
+ * {@code app.users.import.hashing-parallelism} limita quantos hashes da importação ficam pendentes
+ * nesse pool ao mesmo tempo, para que logins concorrentes não esperem atrás de milhares de senhas.
+ * Se o pool estiver saturado e rejeitar um hash (429 para os logins), a linha sai do lote e volta no
+ * relatório como FAILED, para ser reenviada; as demais linhas seguem normalmente.
+ */
+@Component
+public class UserImportGatewayImpl implements ImportGateway {
+
+    private static final Logger log = LoggerFactory.getLogger(UserImportGatewayImpl.class);
+
+    private static final String HASHING_BUSY = "Password hashing is busy, retry this user later";
+
+    private final UserRepository userRepository;
+    private final UserMapper mapper;
+    private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService hashingExecutor;
+
+    @Autowired
+    public UserImportGatewayImpl(UserRepository userRepository, UserMapper mapper,
+                                 PasswordEncoder passwordEncoder,
+                                 ApplicationEventPublisher eventPublisher,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${app.users.import.hashing-parallelism:#{T(java.lang.Math).max(1, T(java.lang.Runtime).getRuntime().availableProcessors() / 2)}}") int hashingParallelism) {
+        this(userRepository, mapper, passwordEncoder, eventPublisher, new TransactionTemplate(transactionManager),
+                Executors.newFixedThreadPool(hashingParallelism, importThreads()));
+    }
+
+    UserImportGatewayImpl(UserRepository userRepository, UserMapper mapper,
+                          PasswordEncoder passwordEncoder,
+                          ApplicationEventPublisher eventPublisher,
+                          TransactionTemplate transactionTemplate,
+                          ExecutorService hashingExecutor) {
+        this.userRepository = userRepository;
+        this.mapper = mapper;
+        this.passwordEncoder = passwordEncoder;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.hashingExecutor = hashingExecutor;
+    }
+
+    @Override
+    public List<UserImportResult> importAll(List<User> users) {
+        log.info("Importing batch of {} users", users.size());
+
+        UserImportResult[] results = new UserImportResult[users.size()];
+        Map<Integer, User> toInsert = new LinkedHashMap<>();
+
+        Set<String> existing = new HashSet<>(userRepository.findExistingEmails(
+                users.stream().map(User::getEmail).distinct().toList()));
+        Set<String> seen = new HashSet<>();
+        for (int i = 0; i < users.size(); i++) {
+            String email = users.get(i).getEmail();
+            if (existing.contains(email) || !seen.add(email)) {
+                results[i] = UserImportResult.duplicate(email);
+            } else {
+                toInsert.put(i, users.get(i));
+            }
+        }
+
+        hashPasswords(toInsert, results);
+
+        List<Integer> positions = new ArrayList<>(toInsert.keySet());
+        List<UserEntity> entities = toInsert.values().stream().map(mapper::toUserEntity).toList();
+        List<UserEntity> saved;
+        try {
+            saved = transactionTemplate.execute(status -> {
+                List<UserEntity> batch = userRepository.saveAll(entities);
+                userRepository.flush();
+                return batch;
+            });
+        } catch (DataIntegrityViolationException e) {
+            log.warn("Batch insert conflicted with a concurrent registration, retrying row by row");
+            saved = insertOneByOne(entities, positions, results);
+        }
+
+        List<User> created = new ArrayList<>();
+        for (int i = 0; i < saved.size(); i++) {
+            UserEntity entity = saved.get(i);
+            if (entity != null) {
+                results[positions.get(i)] = UserImportResult.created(entity.getEmail());
+                created.add(mapper.toUserDomain(entity));
+            }
+        }
+        publishCreated(created);
+        return List.of(results);
+    }
+
+    @PreDestroy
+    public void close() {
+        hashingExecutor.shutdown();
+    }
+
+    /**
+     * Criptografa as senhas de {@code toInsert} em paralelo. Linhas cujo hash foi rejeitado pelo pool
+     * saturado saem de {@code toInsert} com o resultado FAILED já registrado.
+     */
+    private void hashPasswords(Map<Integer, User> toInsert, UserImportResult[] results) {
+        Map<Integer, CompletableFuture<Void>> hashes = new LinkedHashMap<>();
+        toInsert.forEach((position, user) -> hashes.put(position, CompletableFuture.runAsync(
+                () -> user.setSenha(passwordEncoder.encode(user.getSenha())), hashingExecutor)));
+        CompletableFuture.allOf(hashes.values().toArray(CompletableFuture[]::new)).exceptionally(e -> null).join();
+
+        hashes.forEach((position, hash) -> {
+            try {
+                hash.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof TooManyRequestsException) {
+                    results[position] = UserImportResult.failed(toInsert.get(position).getEmail(), HASHING_BUSY);
+                } else if (e.getCause() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                } else {
+                    throw e;
+                }
+            }
+        });
+
+        int rejected = (int) hashes.keySet().stream().filter(position -> results[position] != null).count();
+        if (rejected > 0) {
+            log.warn("Password hashing pool saturated, {} users left out of the import batch", rejected);
+            toInsert.keySet().removeIf(position -> results[position] != null);
+        }
+    }
+
+    /**
+     * Insere cada usuário em sua própria transação; devolve a entidade salva, ou {@code null} na
+     * posição que falhou (com o resultado já registrado).
+     */
+    private List<UserEntity> insertOneByOne(List<UserEntity> entities, List<Integer> positions,
+                                            UserImportResult[] results) {
+        List<UserEntity> saved = new ArrayList<>();
+        for (int i = 0; i < entities.size(); i++) {
+            UserEntity entity = entities.get(i);
+            entity.setId(null);
+            try {
+                saved.add(transactionTemplate.execute(status -> userRepository.saveAndFlush(entity)));
+            } catch (DataIntegrityViolationException e) {
+                results[positions.get(i)] = SaveGatewayImpl.isDuplicateEmail(e)
+                        ? UserImportResult.duplicate(entity.getEmail())
+                        : UserImportResult.failed(entity.getEmail(), "Could not save user");
+                saved.add(null);
+            }
+        }
+        return saved;
+    }
+
+    /**
+     * Um evento por tipo de usuário criado no lote: os ouvintes (como a escala de enfermeiros)
+     * recarregam por tipo, e um evento por linha faria milhares de recargas em uma importação.
+     */
+    private void publishCreated(List<User> created) {
+        Map<String, User> firstByTipo = new LinkedHashMap<>();
+        created.forEach(user -> firstByTipo.putIfAbsent(user.getTipo(), user));
+        firstByTipo.values().forEach(user ->
+                eventPublisher.publishEvent(new UserChangedEvent(UserChangedEvent.Operation.CREATED, user)));
+    }
+
+    private static ThreadFactory importThreads() {
+        AtomicInteger sequence = new AtomicInteger();
+        return task -> {
+            Thread thread = new Thread(task, "user-import-hashing-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
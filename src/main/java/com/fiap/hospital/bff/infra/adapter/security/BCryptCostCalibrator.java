@@ -0,0 +1,79 @@
+package com.fiap.hospital.bff.infra.adapter.security;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.crypto.bcrypt.BCrypt;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.function.IntToLongFunction;
+
+/**
+ * Mede o BCrypt no hardware atual e recomenda o maior custo cujo hash cabe na latência alvo.
+ *
+ * Habilitado com {@code app.security.password-hashing.calibration.enabled=true}; roda uma vez quando a
+ * aplicação fica pronta e apenas registra a recomendação no log, sem alterar o custo em uso. O valor
+ * recomendado deve ser levado para {@code app.security.password-hashing.bcrypt-strength} do tipo de nó.
+ */
+@Component
+@ConditionalOnProperty(name = "app.security.password-hashing.calibration.enabled", havingValue = "true")
+public class BCryptCostCalibrator {
+
+    private static final Logger log = LoggerFactory.getLogger(BCryptCostCalibrator.class);
+
+    static final int MIN_COST = 4;
+    static final int MAX_COST = 31;
+
+    private static final String SAMPLE_PASSWORD = "calibration-password";
+
+    private final Duration targetLatency;
+    private final int samples;
+
+    public BCryptCostCalibrator(@Value("${app.security.password-hashing.calibration.target-latency:250ms}") Duration targetLatency,
+                                @Value("${app.security.password-hashing.calibration.samples:3}") int samples) {
+        this.targetLatency = targetLatency;
+        this.samples = samples;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void calibrate() {
+        int cost = recommendCost(targetLatency, candidate -> medianHashNanos(candidate, samples));
+        log.info("BCrypt calibration: recommended app.security.password-hashing.bcrypt-strength={} for target latency {}",
+                cost, targetLatency);
+    }
+
+    /**
+     * Sobe o custo enquanto o hash medido couber no alvo. Cada incremento dobra o trabalho,
+     * então a medição para no primeiro custo que estoura o alvo.
+     */
+    static int recommendCost(Duration targetLatency, IntToLongFunction hashNanos) {
+        long targetNanos = targetLatency.toNanos();
+        int recommended = MIN_COST;
+        for (int cost = MIN_COST; cost <= MAX_COST; cost++) {
+            long nanos = hashNanos.applyAsLong(cost);
+            log.debug("BCrypt cost {} took {} ms", cost, nanos / 1_000_000.0);
+            if (nanos > targetNanos) {
+                break;
+            }
+            recommended = cost;
+        }
+        return recommended;
+    }
+
+    private static long medianHashNanos(int cost, int samples) {
+        String salt = BCrypt.gensalt(cost);
+        long[] timings = new long[Math.max(samples, 1)];
+        for (int i = 0; i < timings.length; i++) {
+            long start = System.nanoTime();
+            BCrypt.hashpw(SAMPLE_PASSWORD, salt);
+            timings[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(timings);
+        return timings[timings.length / 2];
+    }
+}
@@ -0,0 +1,163 @@
+package com.fiap.hospital.bff.infra.adapter.security;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.ECKey;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.KeyType;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
+import com.nimbusds.jose.proc.JWSVerificationKeySelector;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
+import org.springframework.core.io.Resource;
+import org.springframework.security.oauth2.jose.jws.SignatureAlgorithm;
+import org.springframework.security.oauth2.jwt.JwsHeader;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.text.ParseException;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Chaves usadas para assinar e verificar os tokens emitidos pelo BFF.
+ *
+ * Apenas a chave ativa assina, sempre com o {@code kid} no cabeçalho; todas as chaves do conjunto
+ * continuam válidas para verificação. Isso permite rotacionar sem downtime: publicar a nova chave,
+ * torná-la ativa e só remover a antiga depois que os tokens assinados com ela expirarem.
+ * O algoritmo de cada chave vem do campo {@code alg} do JWK ou, na falta dele, do tipo da chave
+ * (RSA → RS256, EC P-256/P-384/P-521 → ES256/ES384/ES512).
+ */
+public final class JwtSigningKeys {
+
+    private final JWKSet jwkSet;
+    private final JWK signingKey;
+    private final SignatureAlgorithm signingAlgorithm;
+
+    private JwtSigningKeys(JWKSet jwkSet, JWK signingKey) {
+        this.jwkSet = jwkSet;
+        this.signingKey = signingKey;
+        this.signingAlgorithm = algorithmOf(signingKey);
+        jwkSet.getKeys().forEach(JwtSigningKeys::algorithmOf);
+    }
+
+    /**
+     * Carrega um JWK Set (JSON) com as chaves privadas; {@code activeKeyId} escolhe a que assina.
+     */
+    public static JwtSigningKeys fromJwkSet(Resource resource, String activeKeyId) {
+        JWKSet jwkSet;
+        try (InputStream input = resource.getInputStream()) {
+            jwkSet = JWKSet.parse(new String(input.readAllBytes(), StandardCharsets.UTF_8));
+        } catch (IOException | ParseException e) {
+            throw new IllegalStateException("Could not load JWK set from " + resource.getDescription(), e);
+        }
+
+        JWK signingKey = jwkSet.getKeyByKeyId(activeKeyId);
+        if (signingKey == null || !signingKey.isPrivate()) {
+            throw new IllegalStateException("Active signing key '" + activeKeyId + "' not found or has no private part");
+        }
+        return new JwtSigningKeys(jwkSet, signingKey);
+    }
+
+    /**
+     * Par RSA em PEM (app.key/app.pub), assinando com RS256; o {@code kid} é o thumbprint da chave.
+     */
+    public static JwtSigningKeys fromRsaKeyPair(RSAPublicKey publicKey, RSAPrivateKey privateKey) {
+        try {
+            RSAKey rsaKey = new RSAKey.Builder(publicKey)
+                    .privateKey(privateKey)
+                    .algorithm(JWSAlgorithm.RS256)
+                    .keyIDFromThumbprint()
+                    .build();
+            return new JwtSigningKeys(new JWKSet(rsaKey), rsaKey);
+        } catch (JOSEException e) {
+            throw new IllegalStateException("Could not compute RSA key thumbprint", e);
+        }
+    }
+
+    public SignatureAlgorithm signingAlgorithm() {
+        return signingAlgorithm;
+    }
+
+    public String signingKeyId() {
+        return signingKey.getKeyID();
+    }
+
+    /**
+     * Encoder que assina com a chave ativa e preenche {@code alg}/{@code kid} quando o chamador não informa cabeçalho.
+     */
+    public JwtEncoder encoder() {
+        var encoder = new NimbusJwtEncoder(new ImmutableJWKSet<>(new JWKSet(signingKey)));
+        var header = JwsHeader.with(signingAlgorithm).keyId(signingKey.getKeyID()).build();
+        return parameters -> encoder.encode(parameters.getJwsHeader() != null
+                ? parameters
+                : JwtEncoderParameters.from(header, parameters.getClaims()));
+    }
+
+    /**
+     * Decoder que aceita qualquer chave publicada, selecionada pelo {@code kid} e pelo {@code alg} do token.
+     */
+    public JwtDecoder decoder() {
+        Set<JWSAlgorithm> algorithms = jwkSet.getKeys().stream()
+                .map(key -> JWSAlgorithm.parse(algorithmOf(key).getName()))
+                .collect(Collectors.toUnmodifiableSet());
+
+        var jwtProcessor = new DefaultJWTProcessor<SecurityContext>();
+        jwtProcessor.setJWSKeySelector(new JWSVerificationKeySelector<>(algorithms, new ImmutableJWKSet<>(jwkSet.toPublicJWKSet())));
+        // Claims (exp, nbf) são validados pelos validators do Spring, como no NimbusJwtDecoder padrão
+        jwtProcessor.setJWTClaimsSetVerifier((claims, context) -> {
+        });
+        return new NimbusJwtDecoder(jwtProcessor);
+    }
+
+    /**
+     * Parte pública das chaves, no formato JWK Set, para quem precisa verificar os tokens.
+     */
+    public Map<String, Object> publicJwkSet() {
+        return jwkSet.toPublicJWKSet().toJSONObject();
+    }
+
+    private static SignatureAlgorithm algorithmOf(JWK key) {
+        String name;
+        if (key.getAlgorithm() != null) {
+            name = key.getAlgorithm().getName();
+        } else if (KeyType.RSA.equals(key.getKeyType())) {
+            name = JWSAlgorithm.RS256.getName();
+        } else if (key instanceof ECKey ecKey) {
+            name = ecAlgorithm(ecKey.getCurve());
+        } else {
+            name = key.getKeyType().getValue();
+        }
+
+        SignatureAlgorithm algorithm = SignatureAlgorithm.from(name);
+        if (algorithm == null) {
+            throw new IllegalStateException("Unsupported signing algorithm '" + name + "' for key " + key.getKeyID());
+        }
+        return algorithm;
+    }
+
+    private static String ecAlgorithm(Curve curve) {
+        if (Curve.P_256.equals(curve)) {
+            return JWSAlgorithm.ES256.getName();
+        }
+        if (Curve.P_384.equals(curve)) {
+            return JWSAlgorithm.ES384.getName();
+        }
+        if (Curve.P_521.equals(curve)) {
+            return JWSAlgorithm.ES512.getName();
+        }
+        return String.valueOf(curve);
+    }
+}
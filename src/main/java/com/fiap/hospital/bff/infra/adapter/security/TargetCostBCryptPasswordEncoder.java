@@ -0,0 +1,40 @@
+package com.fiap.hospital.bff.infra.adapter.security;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * {@link BCryptPasswordEncoder} que pede re-hash sempre que o custo armazenado difere do custo alvo.
+ *
+ * O encoder padrão só sinaliza hashes mais fracos; aqui hashes mais fortes também são regravados,
+ * para que reduzir {@code app.security.password-hashing.bcrypt-strength} devolva o orçamento de CPU do login.
+ */
+public class TargetCostBCryptPasswordEncoder extends BCryptPasswordEncoder {
+
+    private static final Pattern BCRYPT_COST = Pattern.compile("\\A\\$2[aby]?\\$(\\d\\d)\\$[./0-9A-Za-z]{53}");
+
+    private final int strength;
+
+    public TargetCostBCryptPasswordEncoder(int strength) {
+        super(strength);
+        this.strength = strength;
+    }
+
+    public int getStrength() {
+        return strength;
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.isEmpty()) {
+            return false;
+        }
+        Matcher matcher = BCRYPT_COST.matcher(encodedPassword);
+        if (!matcher.matches()) {
+            throw new IllegalArgumentException("Encoded password does not look like BCrypt");
+        }
+        return Integer.parseInt(matcher.group(1)) != strength;
+    }
+}
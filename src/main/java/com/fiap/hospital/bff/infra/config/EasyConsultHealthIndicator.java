@@ -0,0 +1,52 @@
+package com.fiap.hospital.bff.infra.config;
+
+import com.fiap.hospital.bff.infra.adapter.easyconsult.EasyConsultResilience;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Estado das proteções do cliente EasyConsult em /actuator/health (componente easyConsult).
+ *
+ * Com o circuito aberto o status é {@code CIRCUIT_OPEN}, que aparece no detalhe mas não entra no
+ * status agregado: a indisponibilidade do EasyConsult não deve tirar o BFF do balanceador.
+ */
+@Component
+public class EasyConsultHealthIndicator implements HealthIndicator {
+
+    static final Status CIRCUIT_OPEN = new Status("CIRCUIT_OPEN", "EasyConsult calls are failing fast");
+
+    private final EasyConsultResilience resilience;
+
+    public EasyConsultHealthIndicator(EasyConsultResilience resilience) {
+        this.resilience = resilience;
+    }
+
+    @Override
+    public Health health() {
+        CircuitBreaker circuitBreaker = resilience.circuitBreaker();
+        CircuitBreaker.Metrics circuitMetrics = circuitBreaker.getMetrics();
+        Bulkhead.Metrics bulkheadMetrics = resilience.bulkhead().getMetrics();
+
+        CircuitBreaker.State state = circuitBreaker.getState();
+        boolean open = state == CircuitBreaker.State.OPEN || state == CircuitBreaker.State.FORCED_OPEN;
+
+        return Health.status(open ? CIRCUIT_OPEN : Status.UP)
+                .withDetail("circuitBreaker", Map.of(
+                        "state", state,
+                        "failureRate", circuitMetrics.getFailureRate(),
+                        "slowCallRate", circuitMetrics.getSlowCallRate(),
+                        "bufferedCalls", circuitMetrics.getNumberOfBufferedCalls(),
+                        "failedCalls", circuitMetrics.getNumberOfFailedCalls(),
+                        "notPermittedCalls", circuitMetrics.getNumberOfNotPermittedCalls()))
+                .withDetail("bulkhead", Map.of(
+                        "availableConcurrentCalls", bulkheadMetrics.getAvailableConcurrentCalls(),
+                        "maxAllowedConcurrentCalls", bulkheadMetrics.getMaxAllowedConcurrentCalls()))
+                .build();
+    }
+}
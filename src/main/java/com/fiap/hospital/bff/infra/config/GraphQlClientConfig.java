@@ -1,20 +1,88 @@
 package com.fiap.hospital.bff.infra.config;
 
+import com.fiap.hospital.bff.infra.adapter.easyconsult.EasyConsultDocuments;
+import com.fiap.hospital.bff.infra.adapter.easyconsult.PersistedQueryInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.graphql.client.GraphQlClient;
 import org.springframework.graphql.client.HttpGraphQlClient;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
+import java.time.Duration;
+
+/**
+ * Cliente GraphQL compartilhado para o serviço EasyConsult.
+ *
+ * Um único WebClient (codecs + pool de conexões Reactor Netty) é criado na inicialização
+ * e reutilizado por todas as chamadas. O token do usuário é anexado por requisição através
+ * do atributo {@link #ACCESS_TOKEN_ATTRIBUTE}, lido pelo filtro de troca.
+ */
 @Configuration
 public class GraphQlClientConfig {
 
+    public static final String ACCESS_TOKEN_ATTRIBUTE = GraphQlClientConfig.class.getName() + ".ACCESS_TOKEN";
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider easyConsultConnectionProvider(
+            @Value("${app.graphql.easyconsult.pool.max-connections:50}") int maxConnections,
+            @Value("${app.graphql.easyconsult.pool.pending-acquire-max-count:200}") int pendingAcquireMaxCount,
+            @Value("${app.graphql.easyconsult.pool.pending-acquire-timeout:5s}") Duration pendingAcquireTimeout,
+            @Value("${app.graphql.easyconsult.pool.max-idle-time:30s}") Duration maxIdleTime,
+            @Value("${app.graphql.easyconsult.pool.max-life-time:5m}") Duration maxLifeTime,
+            @Value("${app.graphql.easyconsult.pool.evict-in-background:60s}") Duration evictInBackground) {
+
+        return ConnectionProvider.builder("easyconsult")
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                .pendingAcquireTimeout(pendingAcquireTimeout)
+                .maxIdleTime(maxIdleTime)
+                .maxLifeTime(maxLifeTime)
+                .evictInBackground(evictInBackground)
+                .metrics(true)
+                .build();
+    }
+
+    /**
+     * Com {@code app.graphql.easyconsult.persisted-queries.enabled}, os documentos registrados em
+     * {@link EasyConsultDocuments} são enviados como Automatic Persisted Queries ({@link PersistedQueryInterceptor}).
+     */
     @Bean
-    public GraphQlClient graphQlClient() {
-        WebClient webClient = WebClient.builder().build();
+    public HttpGraphQlClient graphQlClient(
+            ConnectionProvider easyConsultConnectionProvider,
+            @Value("${app.graphql.easyconsult.url:http://localhost:8081/graphql}") String graphqlUrl,
+            @Value("${app.graphql.easyconsult.persisted-queries.enabled:false}") boolean persistedQueries,
+            MeterRegistry meterRegistry) {
+
+        HttpClient httpClient = HttpClient.create(easyConsultConnectionProvider)
+                .keepAlive(true);
+
+        WebClient webClient = WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .filter(bearerTokenFromAttribute())
+                .build();
 
         return HttpGraphQlClient.builder(webClient)
-                .url("http://localhost:8081/graphql")
+                .url(graphqlUrl)
+                .interceptors(interceptors -> {
+                    if (persistedQueries) {
+                        interceptors.add(new PersistedQueryInterceptor(meterRegistry));
+                    }
+                })
                 .build();
     }
+
+    static ExchangeFilterFunction bearerTokenFromAttribute() {
+        return (request, next) -> request.attribute(ACCESS_TOKEN_ATTRIBUTE)
+                .map(token -> ClientRequest.from(request)
+                        .headers(headers -> headers.setBearerAuth(token.toString()))
+                        .build())
+                .map(next::exchange)
+                .orElseGet(() -> next.exchange(request));
+    }
 }
@@ -1,18 +1,20 @@
 package com.fiap.hospital.bff.infra.config;
 
+import com.fiap.hospital.bff.infra.adapter.security.BoundedPasswordEncoder;
+import com.fiap.hospital.bff.infra.adapter.security.CachingJwtDecoder;
+import com.fiap.hospital.bff.infra.adapter.security.JwtSigningKeys;
+import com.fiap.hospital.bff.infra.adapter.security.TargetCostBCryptPasswordEncoder;
 import com.fiap.hospital.bff.infra.exception.JwtAccessDeniedHandler;
 import com.fiap.hospital.bff.infra.exception.JwtAuthenticationEntryPoint;
-import com.nimbusds.jose.jwk.JWK;
-import com.nimbusds.jose.jwk.JWKSet;
-import com.nimbusds.jose.jwk.RSAKey;
-import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
-import com.nimbusds.jose.jwk.source.JWKSource;
-import com.nimbusds.jose.proc.SecurityContext;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.security.interfaces.RSAPrivateKey;
 import java.security.interfaces.RSAPublicKey;
+import java.util.Map;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.io.Resource;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -20,10 +22,10 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.oauth2.jwt.JwtEncoder;
-import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
-import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.web.cors.CorsConfigurationSource;
 
@@ -32,10 +34,20 @@ import org.springframework.web.cors.CorsConfigurationSource;
 @EnableMethodSecurity
 public class SecurityConfig {
 
+    private static final String BCRYPT_ID = "bcrypt";
+
     @Value("${jwt.public.key}")
     private RSAPublicKey key;
     @Value("${jwt.private.key}")
     private RSAPrivateKey priv;
+    @Value("${app.security.password-hashing.bcrypt-strength:10}")
+    private int bcryptStrength;
+    @Value("${app.security.jwt.cache.max-size:10000}")
+    private long jwtCacheMaxSize;
+    @Value("${app.security.jwt.jwk-set:#{null}}")
+    private Resource jwkSet;
+    @Value("${app.security.jwt.active-key-id:}")
+    private String activeKeyId;
 
     private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
     private final JwtAccessDeniedHandler jwtAccessDeniedHandler;
@@ -47,14 +59,17 @@ public class SecurityConfig {
     }
 
     @Bean
-    SecurityFilterChain filterChain(HttpSecurity http, CorsConfigurationSource corsConfigurationSource) throws Exception {
+    SecurityFilterChain filterChain(HttpSecurity http, CorsConfigurationSource corsConfigurationSource,
+                                   JwtDecoder jwtDecoder) throws Exception {
         http.csrf(AbstractHttpConfigurer::disable)
                 .cors(cors -> cors.configurationSource(corsConfigurationSource))
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("/swagger-ui/**", "/v3/api-docs/**", "/swagger-ui.html").permitAll()
                         .requestMatchers("/").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/.well-known/jwks.json").permitAll()
                         .requestMatchers(HttpMethod.POST, "/api/v1/auth/login").permitAll()
+                        .requestMatchers(HttpMethod.POST, "/api/v1/auth/refresh", "/api/v1/auth/revoke").permitAll()
                         .requestMatchers(HttpMethod.PATCH, "/api/v1/auth/password").permitAll()
                         .requestMatchers(HttpMethod.POST, "/api/v1/users").permitAll()
                         .anyRequest().authenticated()
@@ -63,25 +78,43 @@ public class SecurityConfig {
                         .authenticationEntryPoint(jwtAuthenticationEntryPoint)
                         .accessDeniedHandler(jwtAccessDeniedHandler)
                 )
-                .oauth2ResourceServer(conf -> conf.jwt(jwt -> jwt.decoder(jwtDecoder())));
+                .oauth2ResourceServer(conf -> conf.jwt(jwt -> jwt.decoder(jwtDecoder)));
 
         return http.build();
     }
 
     @Bean
-    JwtDecoder jwtDecoder() {
-        return NimbusJwtDecoder.withPublicKey(this.key).build();
+    JwtSigningKeys jwtSigningKeys() {
+        if (this.jwkSet != null) {
+            return JwtSigningKeys.fromJwkSet(this.jwkSet, this.activeKeyId);
+        }
+        return JwtSigningKeys.fromRsaKeyPair(this.key, this.priv);
+    }
+
+    @Bean
+    JwtDecoder jwtDecoder(MeterRegistry meterRegistry) {
+        return new CachingJwtDecoder(jwtSigningKeys().decoder(), this.jwtCacheMaxSize, meterRegistry);
     }
 
     @Bean
     JwtEncoder jwtEncoder() {
-        JWK jwk = new RSAKey.Builder(this.key).privateKey(this.priv).build();
-        JWKSource<SecurityContext> jwks = new ImmutableJWKSet<>(new JWKSet(jwk));
-        return new NimbusJwtEncoder(jwks);
+        return jwtSigningKeys().encoder();
     }
 
     @Bean
     BCryptPasswordEncoder bCryptPasswordEncoder() {
-        return new BCryptPasswordEncoder();
+        return new TargetCostBCryptPasswordEncoder(this.bcryptStrength);
+    }
+
+    @Bean
+    @Primary
+    PasswordEncoder passwordEncoder(BCryptPasswordEncoder bCryptPasswordEncoder,
+                                    @Value("${app.security.password-hashing.threads:#{T(java.lang.Runtime).getRuntime().availableProcessors()}}") int threads,
+                                    @Value("${app.security.password-hashing.queue-capacity:100}") int queueCapacity,
+                                    MeterRegistry meterRegistry) {
+        // Hashes antigos, sem prefixo {bcrypt}, continuam válidos e são regravados no próximo login
+        var delegating = new DelegatingPasswordEncoder(BCRYPT_ID, Map.of(BCRYPT_ID, bCryptPasswordEncoder));
+        delegating.setDefaultPasswordEncoderForMatches(bCryptPasswordEncoder);
+        return new BoundedPasswordEncoder(delegating, threads, queueCapacity, meterRegistry);
     }
 }
\ No newline at end of file
@@ -10,6 +10,7 @@ import org.springframework.web.bind.annotation.*;
 import com.fiap.hospital.bff.core.inputport.AuthenticationCommandUseCase;
 import com.fiap.hospital.bff.core.inputport.AuthenticationQueryUseCase;
 import com.fiap.hospital.bff.infra.entrypoint.controller.docs.AuthControllerDocs;
+import com.fiap.hospital.bff.infra.entrypoint.dto.request.RefreshTokenRequestDto;
 import com.fiap.hospital.bff.infra.entrypoint.dto.request.UserAuthRequestDto;
 import com.fiap.hospital.bff.infra.entrypoint.dto.request.UserCredentialsRequestDto;
 import com.fiap.hospital.bff.infra.entrypoint.mapper.UserMapper;
@@ -39,6 +40,18 @@ public class AuthController implements AuthControllerDocs {
         return ResponseEntity.status(HttpStatus.OK).body(userMapper.toTokenResponseDto(response));
     }
 
+    @PostMapping(value = "/refresh", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<UserAuthRequestDto> refresh(@Valid @RequestBody RefreshTokenRequestDto request) {
+        var response = authenticationQueryUseCase.refresh(request.refreshToken());
+        return ResponseEntity.status(HttpStatus.OK).body(userMapper.toTokenResponseDto(response));
+    }
+
+    @PostMapping(value = "/revoke", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Void> revoke(@Valid @RequestBody RefreshTokenRequestDto request) {
+        authenticationCommandUseCase.revokeRefreshToken(request.refreshToken());
+        return ResponseEntity.noContent().build();
+    }
+
     @PatchMapping("/password")
     public ResponseEntity<Void> updatePassword(@Valid @RequestBody UserCredentialsRequestDto request) {
         log.info("Password update request for email: {}", request.email());
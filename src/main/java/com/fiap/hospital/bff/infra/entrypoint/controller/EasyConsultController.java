@@ -1,5 +1,7 @@
 package com.fiap.hospital.bff.infra.entrypoint.controller;
 
+import com.fiap.hospital.bff.infra.adapter.easyconsult.ConsultField;
+import com.fiap.hospital.bff.infra.adapter.easyconsult.ConsultListing;
 import com.fiap.hospital.bff.infra.adapter.easyconsult.EasyConsultService;
 import com.fiap.hospital.bff.infra.entrypoint.controller.docs.EasyConsultControllerDocs;
 import com.fiap.hospital.bff.infra.entrypoint.dto.graphql.ConsultFilterDto;
@@ -11,10 +13,12 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
 
@@ -24,6 +28,10 @@ public class EasyConsultController implements EasyConsultControllerDocs {
 
     private static final Logger log = LoggerFactory.getLogger(EasyConsultController.class);
 
+    static final String X_CACHE = "X-Cache";
+    static final String STALE_WARNING = "110 - \"Response is Stale\"";
+    static final String STALE_IF_ERROR_WARNING = "111 - \"Revalidation Failed\"";
+
     private final EasyConsultService easyConsultService;
 
     public EasyConsultController(EasyConsultService easyConsultService) {
@@ -32,50 +40,69 @@ public class EasyConsultController implements EasyConsultControllerDocs {
 
     @SecurityRequirement(name = "bearerAuth")
     @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<GraphQLConsultResponse> create(@Valid @RequestBody ConsultRequestDto consultRequest) {
+    public Mono<ResponseEntity<GraphQLConsultResponse>> create(@Valid @RequestBody ConsultRequestDto consultRequest) {
         log.info("Creating new consult: {}", consultRequest);
-        var response = easyConsultService.createConsult(consultRequest);
-        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        return easyConsultService.createConsult(consultRequest)
+                .map(response -> ResponseEntity.status(HttpStatus.CREATED).body(response));
     }
 
     @SecurityRequirement(name = "bearerAuth")
     @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<List<GraphQLConsultResponse>> getAll() {
+    public Mono<ResponseEntity<List<GraphQLConsultResponse>>> getAll(@RequestParam(required = false) String fields) {
         log.info("Fetching all consults");
-        var response = easyConsultService.getAllConsults();
-        return ResponseEntity.ok(response);
+        return easyConsultService.getAllConsults(ConsultField.parse(fields))
+                .map(EasyConsultController::toResponse);
     }
 
     @SecurityRequirement(name = "bearerAuth")
     @GetMapping(value = "/filter", produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<List<GraphQLConsultResponse>> getByFilter(
+    public Mono<ResponseEntity<List<GraphQLConsultResponse>>> getByFilter(
             @RequestParam(required = false) String patientEmail,
             @RequestParam(required = false) String professionalEmail,
             @RequestParam(required = false) String localTime,
             @RequestParam(required = false) String date,
-            @RequestParam(required = false) String status) {
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String fields) {
 
         log.info("Fetching consults with filters");
 
         ConsultFilterDto filter = new ConsultFilterDto(patientEmail, professionalEmail, localTime, date, status);
-        var response = easyConsultService.getConsultsByFilter(filter);
-        return ResponseEntity.ok(response);
+        return easyConsultService.getConsultsByFilter(filter, ConsultField.parse(fields))
+                .map(EasyConsultController::toResponse);
     }
 
     @SecurityRequirement(name = "bearerAuth")
     @PutMapping(consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<GraphQLConsultResponse> update(@Valid @RequestBody ConsultUpdateRequestDto updateRequest) {
+    public Mono<ResponseEntity<GraphQLConsultResponse>> update(@Valid @RequestBody ConsultUpdateRequestDto updateRequest) {
         log.info("Updating consult: {}", updateRequest);
-        var response = easyConsultService.updateConsult(updateRequest);
-        return ResponseEntity.ok(response);
+        return easyConsultService.updateConsult(updateRequest)
+                .map(ResponseEntity::ok);
     }
 
     @SecurityRequirement(name = "bearerAuth")
     @DeleteMapping(consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<Boolean> delete(@Valid @RequestBody ConsultDeleteRequestDto deleteRequest) {
+    public Mono<ResponseEntity<Boolean>> delete(@Valid @RequestBody ConsultDeleteRequestDto deleteRequest) {
         log.info("Deleting consult: {}", deleteRequest);
-        var response = easyConsultService.deleteConsult(deleteRequest);
-        return ResponseEntity.ok(response);
+        return easyConsultService.deleteConsult(deleteRequest)
+                .map(ResponseEntity::ok);
+    }
+
+    /**
+     * Listagens antigas saem com {@code X-Cache: STALE}, {@code Warning} (110 enquanto revalida,
+     * 111 quando o serviço falhou) e {@code Age} em segundos.
+     */
+    private static ResponseEntity<List<GraphQLConsultResponse>> toResponse(ConsultListing listing) {
+        if (!listing.stale()) {
+            return ResponseEntity.ok(listing.consults());
+        }
+        String warning = listing.freshness() == ConsultListing.Freshness.STALE_IF_ERROR
+                ? STALE_IF_ERROR_WARNING
+                : STALE_WARNING;
+        return ResponseEntity.ok()
+                .header(X_CACHE, "STALE")
+                .header(HttpHeaders.WARNING, warning)
+                .header(HttpHeaders.AGE, String.valueOf(listing.age().toSeconds()))
+                .body(listing.consults());
     }
 
 }
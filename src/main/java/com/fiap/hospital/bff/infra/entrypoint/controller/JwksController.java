@@ -0,0 +1,24 @@
+package com.fiap.hospital.bff.infra.entrypoint.controller;
+
+import com.fiap.hospital.bff.infra.adapter.security.JwtSigningKeys;
+import com.fiap.hospital.bff.infra.entrypoint.controller.docs.JwksControllerDocs;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+@RestController
+public class JwksController implements JwksControllerDocs {
+
+    private final JwtSigningKeys jwtSigningKeys;
+
+    public JwksController(JwtSigningKeys jwtSigningKeys) {
+        this.jwtSigningKeys = jwtSigningKeys;
+    }
+
+    @GetMapping(value = "/.well-known/jwks.json", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Map<String, Object> jwks() {
+        return jwtSigningKeys.publicJwkSet();
+    }
+}
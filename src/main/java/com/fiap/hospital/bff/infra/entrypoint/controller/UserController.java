@@ -1,26 +1,47 @@
 package com.fiap.hospital.bff.infra.entrypoint.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fiap.hospital.bff.infra.entrypoint.dto.request.TypeUsers;
 import com.fiap.hospital.bff.infra.entrypoint.dto.request.UserUpdateRequestDto;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import com.fiap.hospital.bff.core.inputport.UserCommandUseCase;
 import com.fiap.hospital.bff.core.inputport.UserQueryUseCase;
 import com.fiap.hospital.bff.core.domain.model.user.User;
+import com.fiap.hospital.bff.core.domain.model.user.UserImportResult;
+import com.fiap.hospital.bff.core.domain.model.user.UserPage;
 import com.fiap.hospital.bff.infra.entrypoint.controller.docs.UserControllerDocs;
 import com.fiap.hospital.bff.infra.entrypoint.dto.request.UserRequestDto;
+import com.fiap.hospital.bff.infra.entrypoint.dto.response.UserImportReportDto;
+import com.fiap.hospital.bff.infra.entrypoint.dto.response.UserImportRowDto;
 import com.fiap.hospital.bff.infra.entrypoint.dto.response.UserResponseDto;
 import com.fiap.hospital.bff.infra.entrypoint.mapper.UserMapper;
 import com.fiap.hospital.bff.infra.exception.UserNotFoundException;
+import com.fiap.hospital.bff.infra.exception.ValidationException;
 
 @RestController
 @RequestMapping("/api/v1/users")
@@ -28,16 +49,28 @@ public class UserController implements UserControllerDocs {
 
     private static final Logger log = LoggerFactory.getLogger(UserController.class);
 
+    public static final String NDJSON_VALUE = "application/x-ndjson";
+    private static final int MAX_PAGE_SIZE = 500;
+
     private final UserCommandUseCase userCommandUseCase;
     private final UserQueryUseCase userQueryUseCase;
     private final UserMapper userMapper;
+    private final ObjectMapper objectMapper;
+    private final UserImportReader userImportReader;
+    private final int importBatchSize;
 
     public UserController(UserCommandUseCase userCommandUseCase,
                           UserQueryUseCase userQueryUseCase,
-                          UserMapper userMapper) {
+                          UserMapper userMapper,
+                          ObjectMapper objectMapper,
+                          UserImportReader userImportReader,
+                          @Value("${app.users.import.batch-size:500}") int importBatchSize) {
         this.userCommandUseCase = userCommandUseCase;
         this.userQueryUseCase = userQueryUseCase;
         this.userMapper = userMapper;
+        this.objectMapper = objectMapper;
+        this.userImportReader = userImportReader;
+        this.importBatchSize = importBatchSize;
     }
 
     @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
@@ -51,17 +84,89 @@ public class UserController implements UserControllerDocs {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    /**
+     * Importação em lote: o corpo é lido item a item e enviado ao caso de uso em lotes de
+     * {@code app.users.import.batch-size}; cada lote é gravado em uma transação própria.
+     */
+    @SecurityRequirement(name = "bearerAuth")
+    @PostMapping(value = "/import", consumes = {MediaType.APPLICATION_JSON_VALUE, NDJSON_VALUE},
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<UserImportReportDto> importUsers(HttpServletRequest request) throws IOException {
+        boolean ndjson = MediaType.parseMediaType(request.getContentType())
+                .isCompatibleWith(MediaType.parseMediaType(NDJSON_VALUE));
+        log.info("Importing users ({})", ndjson ? "NDJSON" : "JSON array");
+
+        List<UserImportRowDto> report = new ArrayList<>();
+        List<UserImportReader.Row> batch = new ArrayList<>(importBatchSize);
+        userImportReader.read(request.getInputStream(), ndjson, row -> {
+            batch.add(row);
+            if (batch.size() == importBatchSize) {
+                report.addAll(importBatch(batch));
+                batch.clear();
+            }
+        });
+        if (!batch.isEmpty()) {
+            report.addAll(importBatch(batch));
+        }
+
+        int created = (int) report.stream()
+                .filter(row -> UserImportResult.Status.CREATED.name().equals(row.status()))
+                .count();
+        log.info("User import finished: {} rows, {} created", report.size(), created);
+        return ResponseEntity.ok(new UserImportReportDto(report.size(), created, report.size() - created, report));
+    }
+
     @SecurityRequirement(name = "bearerAuth")
     @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<List<UserResponseDto>> getAllUsers() {
-        log.info("Fetching all users");
+    public ResponseEntity<List<UserResponseDto>> getAllUsers(@RequestParam(required = false) String tipo,
+                                                             @RequestParam(required = false) String after,
+                                                             @RequestParam(defaultValue = "50") int limit) {
+        log.info("Fetching users page: tipo={}, after={}, limit={}", tipo, after, limit);
+
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new ValidationException("limit", "must be between 1 and " + MAX_PAGE_SIZE);
+        }
 
-        List<User> users = userQueryUseCase.getAllUsers();
-        List<UserResponseDto> response = users.stream()
+        UserPage page = userQueryUseCase.getUsers(parseTipo(tipo), decodeCursor(after), limit);
+        List<UserResponseDto> response = page.getUsers().stream()
                 .map(userMapper::toUserResponseDto)
                 .toList();
 
-        return ResponseEntity.ok(response);
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+        if (page.getNextAfterId() != null) {
+            String next = ServletUriComponentsBuilder.fromCurrentRequest()
+                    .replaceQueryParam("after", encodeCursor(page.getNextAfterId()))
+                    .build()
+                    .toUriString();
+            builder.header(HttpHeaders.LINK, "<" + next + ">; rel=\"next\"");
+        }
+        return builder.body(response);
+    }
+
+    /**
+     * Escreve cada usuário direto na resposta conforme é lido do cursor do banco; o buffer do
+     * servlet é descarregado à medida que enche, então a memória não cresce com o total de usuários.
+     */
+    @SecurityRequirement(name = "bearerAuth")
+    @GetMapping(value = "/stream", produces = NDJSON_VALUE)
+    public void streamUsers(@RequestParam(required = false) String tipo,
+                            HttpServletResponse response) throws IOException {
+        log.info("Streaming users: tipo={}", tipo);
+
+        String tipoFilter = parseTipo(tipo);
+        response.setContentType(NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        OutputStream outputStream = response.getOutputStream();
+
+        userQueryUseCase.streamUsers(tipoFilter, user -> {
+            try {
+                outputStream.write(objectMapper.writeValueAsBytes(userMapper.toUserResponseDto(user)));
+                outputStream.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        outputStream.flush();
     }
 
     @SecurityRequirement(name = "bearerAuth")
@@ -109,4 +214,59 @@ public class UserController implements UserControllerDocs {
 
         return ResponseEntity.noContent().build();
     }
-}
\ No newline at end of file
+
+    private List<UserImportRowDto> importBatch(List<UserImportReader.Row> rows) {
+        List<User> users = rows.stream()
+                .filter(row -> row.user() != null)
+                .map(row -> userMapper.toUserDomain(row.user()))
+                .toList();
+        Iterator<UserImportResult> results = users.isEmpty()
+                ? Collections.emptyIterator()
+                : userCommandUseCase.importUsers(users).iterator();
+
+        List<UserImportRowDto> report = new ArrayList<>(rows.size());
+        for (UserImportReader.Row row : rows) {
+            if (row.user() == null) {
+                report.add(new UserImportRowDto(row.index(), row.email(), UserImportResult.Status.INVALID.name(), row.error()));
+            } else {
+                UserImportResult result = results.next();
+                report.add(new UserImportRowDto(row.index(), result.getEmail(), result.getStatus().name(), result.getMessage()));
+            }
+        }
+        return report;
+    }
+
+    private static String parseTipo(String tipo) {
+        if (tipo == null || tipo.isBlank()) {
+            return null;
+        }
+        try {
+            return TypeUsers.valueOf(tipo.trim().toUpperCase(Locale.ROOT)).name();
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException("tipo", "must be one of " + List.of(TypeUsers.values()));
+        }
+    }
+
+    /**
+     * O cursor é opaco para o cliente: o último id da página, codificado em base64url.
+     */
+    private static String encodeCursor(Long id) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(id.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Long decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            long id = Long.parseLong(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8));
+            if (id < 0) {
+                throw new NumberFormatException();
+            }
+            return id;
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException("after", "invalid cursor");
+        }
+    }
+}
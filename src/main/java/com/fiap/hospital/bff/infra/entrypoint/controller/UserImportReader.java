@@ -0,0 +1,111 @@
+package com.fiap.hospital.bff.infra.entrypoint.controller;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fiap.hospital.bff.infra.entrypoint.dto.request.UserRequestDto;
+import com.fiap.hospital.bff.infra.exception.ValidationException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Comparator;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Lê o corpo da importação em lote, um usuário por vez, sem carregar o documento inteiro:
+ * um array JSON ({@code application/json}) ou um objeto por linha ({@code application/x-ndjson}).
+ *
+ * Cada item é validado individualmente; itens que não convertem ou não passam na validação viram
+ * linhas inválidas no relatório em vez de rejeitar a importação inteira. Só um array malformado
+ * (erro de sintaxe) interrompe a leitura, já que não há como localizar o próximo item.
+ */
+@Component
+public class UserImportReader {
+
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+
+    public UserImportReader(ObjectMapper objectMapper, Validator validator) {
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+    }
+
+    /**
+     * Linha lida: {@code user} preenchido quando válida, {@code error} caso contrário.
+     */
+    public record Row(int index, String email, UserRequestDto user, String error) {
+    }
+
+    public void read(InputStream body, boolean ndjson, Consumer<Row> rows) throws IOException {
+        if (ndjson) {
+            readLines(body, rows);
+        } else {
+            readArray(body, rows);
+        }
+    }
+
+    private void readLines(InputStream body, Consumer<Row> rows) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        int index = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+            JsonNode node;
+            try {
+                node = objectMapper.readTree(line);
+            } catch (JsonProcessingException e) {
+                rows.accept(new Row(index++, null, null, "Malformed JSON"));
+                continue;
+            }
+            rows.accept(toRow(index++, node));
+        }
+    }
+
+    private void readArray(InputStream body, Consumer<Row> rows) throws IOException {
+        try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new ValidationException("body", "must be a JSON array of users");
+            }
+            int index = 0;
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                rows.accept(toRow(index++, objectMapper.readTree(parser)));
+            }
+        } catch (JsonProcessingException e) {
+            throw new ValidationException("body", "malformed JSON: " + e.getOriginalMessage());
+        }
+    }
+
+    private Row toRow(int index, JsonNode node) {
+        String email = node.path("email").isTextual() ? node.path("email").asText() : null;
+        UserRequestDto user;
+        try {
+            user = objectMapper.treeToValue(node, UserRequestDto.class);
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            return new Row(index, email, null, "Invalid user: " + e.getMessage().lines().findFirst().orElse(""));
+        }
+
+        Set<ConstraintViolation<UserRequestDto>> violations = validator.validate(user);
+        if (!violations.isEmpty()) {
+            return new Row(index, email, null, violations.stream()
+                    .sorted(Comparator.comparing(violation -> violation.getPropertyPath().toString()))
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .collect(Collectors.joining("; ")));
+        }
+        if (user.tipo() == null) {
+            return new Row(index, email, null, "tipo: must not be null");
+        }
+        return new Row(index, email, user, null);
+    }
+}
@@ -9,6 +9,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RequestBody;
+import com.fiap.hospital.bff.infra.entrypoint.dto.request.RefreshTokenRequestDto;
 import com.fiap.hospital.bff.infra.entrypoint.dto.request.UserAuthRequestDto;
 import com.fiap.hospital.bff.infra.entrypoint.dto.request.UserCredentialsRequestDto;
 import com.fiap.hospital.bff.infra.exception.ApiErrorMessage;
@@ -29,6 +30,25 @@ public interface AuthControllerDocs {
     })
     ResponseEntity<UserAuthRequestDto> login(@Valid @RequestBody UserCredentialsRequestDto loginRequest);
 
+    @Operation(summary = "Refresh token", description = "Exchanges a valid refresh token for a new access token and refresh token without re-entering the password")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Tokens renewed successfully",
+                    content = @Content(schema = @Schema(implementation = UserAuthRequestDto.class))),
+            @ApiResponse(responseCode = "400", description = "Refresh token not provided",
+                    content = @Content(schema = @Schema(implementation = ApiErrorMessage.class))),
+            @ApiResponse(responseCode = "401", description = "Invalid, expired or already used refresh token",
+                    content = @Content(schema = @Schema(implementation = ApiErrorMessage.class)))
+    })
+    ResponseEntity<UserAuthRequestDto> refresh(@Valid @RequestBody RefreshTokenRequestDto request);
+
+    @Operation(summary = "Revoke refresh token", description = "Revokes a refresh token so it can no longer be used to renew the session")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Refresh token revoked"),
+            @ApiResponse(responseCode = "400", description = "Refresh token not provided",
+                    content = @Content(schema = @Schema(implementation = ApiErrorMessage.class)))
+    })
+    ResponseEntity<Void> revoke(@Valid @RequestBody RefreshTokenRequestDto request);
+
     @Operation(summary = "Change password", description = "Allows a user to change an already registered password")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "204", description = "Password changed successfully"),
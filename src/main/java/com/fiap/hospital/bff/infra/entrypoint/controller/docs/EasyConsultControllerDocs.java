@@ -16,6 +16,7 @@ import jakarta.validation.Valid;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
 
@@ -33,12 +34,14 @@ public interface EasyConsultControllerDocs {
               @ApiResponse(responseCode = "502", description = "Bad Gateway",
                     content = @Content(schema = @Schema(implementation = ApiErrorMessage.class)))
     })
-    ResponseEntity<GraphQLConsultResponse> create(@Valid @RequestBody ConsultRequestDto consultaRequest);
+    Mono<ResponseEntity<GraphQLConsultResponse>> create(@Valid @RequestBody ConsultRequestDto consultaRequest);
 
     @Operation(summary = "Get all consults", description = "Retrieve a list of all registered consults.")
         @ApiResponses(value = {
-                @ApiResponse(responseCode = "200", description = "Consults retrieved successfully.",
+                @ApiResponse(responseCode = "200", description = "Consults retrieved successfully. A previous response may be served with X-Cache: STALE, Warning and Age headers while it is refreshed or when the consult service fails.",
                     content = @Content(schema = @Schema(implementation = ConsultRequestDto.class))),
+                @ApiResponse(responseCode = "400", description = "Unknown field in fields.",
+                        content = @Content(schema = @Schema(implementation = ApiErrorMessage.class))),
                 @ApiResponse(responseCode = "401", description = "Unauthorized.",
                         content = @Content(schema = @Schema(implementation = ApiErrorMessage.class))),
                 @ApiResponse(responseCode = "500", description = "Internal server error.",
@@ -46,12 +49,15 @@ public interface EasyConsultControllerDocs {
                 @ApiResponse(responseCode = "502", description = "Bad Gateway",
                         content = @Content(schema = @Schema(implementation = ApiErrorMessage.class)))
     })
-    ResponseEntity<List<GraphQLConsultResponse>> getAll();
+    Mono<ResponseEntity<List<GraphQLConsultResponse>>> getAll(
+            @Parameter(description = "Comma-separated fields to return, from: id, patient, nameProfessional, localTime, date, statusConsultation, reason. id is always returned; all fields when omitted") @RequestParam(required = false) String fields);
 
     @Operation(summary = "Get consults by filter", description = "Retrieve consults filtered by patient email, professional email, local time, date, and status")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Consults retrieved successfully.",
+            @ApiResponse(responseCode = "200", description = "Consults retrieved successfully. A previous response may be served with X-Cache: STALE, Warning and Age headers while it is refreshed or when the consult service fails.",
                 content = @Content(schema = @Schema(implementation = GraphQLConsultResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Unknown field in fields.",
+                    content = @Content(schema = @Schema(implementation = ApiErrorMessage.class))),
             @ApiResponse(responseCode = "401", description = "Unauthorized.",
                     content = @Content(schema = @Schema(implementation = ApiErrorMessage.class))),
             @ApiResponse(responseCode = "500", description = "Internal server error.",
@@ -59,12 +65,13 @@ public interface EasyConsultControllerDocs {
             @ApiResponse(responseCode = "502", description = "Bad Gateway",
                     content = @Content(schema = @Schema(implementation = ApiErrorMessage.class)))
     })
-    ResponseEntity<List<GraphQLConsultResponse>> getByFilter(
+    Mono<ResponseEntity<List<GraphQLConsultResponse>>> getByFilter(
             @Parameter(description = "Patient email filter") @RequestParam(required = false) String patientEmail,
             @Parameter(description = "Professional email filter") @RequestParam(required = false) String professionalEmail,
             @Parameter(description = "Local time filter") @RequestParam(required = false) String localTime,
             @Parameter(description = "Date filter") @RequestParam(required = false) String date,
-            @Parameter(description = "Status filter") @RequestParam(required = false) String status);
+            @Parameter(description = "Status filter") @RequestParam(required = false) String status,
+            @Parameter(description = "Comma-separated fields to return, from: id, patient, nameProfessional, localTime, date, statusConsultation, reason. id is always returned; all fields when omitted") @RequestParam(required = false) String fields);
 
     @Operation(summary = "Update consult", description = "Update an existing consult")
     @ApiResponses(value = {
@@ -79,7 +86,7 @@ public interface EasyConsultControllerDocs {
             @ApiResponse(responseCode = "502", description = "Bad Gateway",
                     content = @Content(schema = @Schema(implementation = ApiErrorMessage.class)))
     })
-    ResponseEntity<GraphQLConsultResponse> update(@Valid @RequestBody ConsultUpdateRequestDto updateRequest);
+    Mono<ResponseEntity<GraphQLConsultResponse>> update(@Valid @RequestBody ConsultUpdateRequestDto updateRequest);
 
     @Operation(summary = "Delete consult", description = "Delete an existing consult")
     @ApiResponses(value = {
@@ -94,5 +101,5 @@ public interface EasyConsultControllerDocs {
             @ApiResponse(responseCode = "502", description = "Bad Gateway",
                     content = @Content(schema = @Schema(implementation = ApiErrorMessage.class)))
     })
-    ResponseEntity<Boolean> delete(@Valid @RequestBody ConsultDeleteRequestDto deleteRequest);
+    Mono<ResponseEntity<Boolean>> delete(@Valid @RequestBody ConsultDeleteRequestDto deleteRequest);
 }
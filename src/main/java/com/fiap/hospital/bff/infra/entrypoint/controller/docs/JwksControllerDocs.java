@@ -0,0 +1,18 @@
+package com.fiap.hospital.bff.infra.entrypoint.controller.docs;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+import java.util.Map;
+
+@Tag(name = "Authentication", description = "API endpoints for user authentication")
+public interface JwksControllerDocs {
+
+    @Operation(summary = "Public signing keys", description = "Returns the public keys, identified by kid, that verify tokens issued by this API")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "JWK Set returned successfully")
+    })
+    Map<String, Object> jwks();
+}
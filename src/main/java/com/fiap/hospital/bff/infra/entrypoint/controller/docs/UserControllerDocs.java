@@ -1,17 +1,22 @@
 package com.fiap.hospital.bff.infra.entrypoint.controller.docs;
 
+import java.io.IOException;
 import java.util.List;
 
 import com.fiap.hospital.bff.infra.entrypoint.dto.request.UserUpdateRequestDto;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import com.fiap.hospital.bff.infra.entrypoint.dto.request.UserRequestDto;
+import com.fiap.hospital.bff.infra.entrypoint.dto.response.UserImportReportDto;
 import com.fiap.hospital.bff.infra.entrypoint.dto.response.UserResponseDto;
 
 @Tag(name = "Users", description = "API for user management")
@@ -24,11 +29,35 @@ public interface UserControllerDocs {
     })
     ResponseEntity<UserResponseDto> createUser(@RequestBody UserRequestDto userRequestDto);
 
-    @Operation(summary = "List all users", description = "Returns list of all users")
+    @Operation(summary = "Import users in bulk", description = "Creates many users at once from a JSON array or an "
+            + "NDJSON stream (one user per line). Rows are validated individually, passwords are hashed in parallel and "
+            + "users are inserted in JDBC batches. Returns one result per input row: CREATED, DUPLICATE, INVALID or FAILED")
     @ApiResponses(value = {
-        @ApiResponse(responseCode = "200", description = "List returned successfully")
+        @ApiResponse(responseCode = "200", description = "Import processed, see the per-row report"),
+        @ApiResponse(responseCode = "400", description = "Body is not a JSON array or NDJSON stream")
     })
-    ResponseEntity<List<UserResponseDto>> getAllUsers();
+    ResponseEntity<UserImportReportDto> importUsers(@Parameter(hidden = true) HttpServletRequest request) throws IOException;
+
+    @Operation(summary = "List users", description = "Returns a page of users ordered by ID "
+            + "(50 by default, not the full list). When there are more users, the Link header carries the URL of the "
+            + "next page (rel=\"next\"); follow it until it is absent, or use /stream, to read every user")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Page returned successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid limit, cursor or user type")
+    })
+    ResponseEntity<List<UserResponseDto>> getAllUsers(
+            @Parameter(description = "User type filter (PACIENTE, MEDICO, ENFERMEIRO)") @RequestParam(required = false) String tipo,
+            @Parameter(description = "Opaque cursor taken from the Link header of the previous page") @RequestParam(required = false) String after,
+            @Parameter(description = "Page size, from 1 to 500") @RequestParam(defaultValue = "50") int limit);
+
+    @Operation(summary = "Stream users", description = "Streams every user ordered by ID as newline-delimited JSON, "
+            + "reading from a database cursor instead of loading the whole list in memory")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Stream started"),
+        @ApiResponse(responseCode = "400", description = "Invalid user type")
+    })
+    void streamUsers(@Parameter(description = "User type filter (PACIENTE, MEDICO, ENFERMEIRO)") @RequestParam(required = false) String tipo,
+                     @Parameter(hidden = true) HttpServletResponse response) throws IOException;
 
     @Operation(summary = "Get user by ID", description = "Returns specific user by ID")
     @ApiResponses(value = {
@@ -6,4 +6,23 @@ public record ConsultFilterDto(
         String localTime,
         String date,
         String status
-) {}
+) {
+
+    /**
+     * Remove espaços e converte valores em branco para null, para que filtros equivalentes
+     * gerem a mesma requisição e a mesma chave de cache.
+     */
+    public ConsultFilterDto normalized() {
+        return new ConsultFilterDto(
+                trimToNull(patientEmail),
+                trimToNull(professionalEmail),
+                trimToNull(localTime),
+                trimToNull(date),
+                trimToNull(status)
+        );
+    }
+
+    private static String trimToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+}
@@ -0,0 +1,7 @@
+package com.fiap.hospital.bff.infra.entrypoint.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+
+public record RefreshTokenRequestDto(
+        @NotBlank String refreshToken) {
+}
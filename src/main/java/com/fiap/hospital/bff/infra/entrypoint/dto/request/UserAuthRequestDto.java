@@ -1,4 +1,8 @@
 package com.fiap.hospital.bff.infra.entrypoint.dto.request;
 
-public record UserAuthRequestDto(String accessToken, Long expiresIn) {
+public record UserAuthRequestDto(String accessToken, Long expiresIn, String refreshToken) {
+
+    public UserAuthRequestDto(String accessToken, Long expiresIn) {
+        this(accessToken, expiresIn, null);
+    }
 }
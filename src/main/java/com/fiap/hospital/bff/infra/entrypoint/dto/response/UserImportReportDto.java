@@ -0,0 +1,10 @@
+package com.fiap.hospital.bff.infra.entrypoint.dto.response;
+
+import java.util.List;
+
+public record UserImportReportDto(
+    int total,
+    int created,
+    int failed,
+    List<UserImportRowDto> rows
+) {}
@@ -0,0 +1,11 @@
+package com.fiap.hospital.bff.infra.entrypoint.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record UserImportRowDto(
+    int index,
+    String email,
+    String status,
+    String message
+) {}
@@ -8,6 +8,7 @@ import com.fiap.hospital.bff.infra.entrypoint.dto.request.UserRequestDto;
 import com.fiap.hospital.bff.infra.entrypoint.dto.request.UserUpdateRequestDto;
 import com.fiap.hospital.bff.infra.entrypoint.dto.response.UserResponseDto;
 import com.fiap.hospital.bff.infra.persistence.entity.UserEntity;
+import com.fiap.hospital.bff.infra.persistence.projection.UserSummaryProjection;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -43,16 +44,27 @@ public class UserMapper {
                 .build();
     }
 
+    // O hash da senha não sai da camada de persistência: o login usa a projeção de credenciais
     public User toUserDomain(UserEntity userEntity) {
         return new User(
                 userEntity.getNome(),
                 userEntity.getEmail(),
                 userEntity.getLogin(),
-                userEntity.getSenha(),
+                null,
                 userEntity.getTipo().name()
         );
     }
 
+    public User toUserDomain(UserSummaryProjection summary) {
+        return new User(
+                summary.getNome(),
+                summary.getEmail(),
+                summary.getLogin(),
+                null,
+                summary.getTipo().name()
+        );
+    }
+
     public UserResponseDto toUserResponseDto(User user) {
         return new UserResponseDto(
                 null,
@@ -64,6 +76,6 @@ public class UserMapper {
     }
 
     public UserAuthRequestDto toTokenResponseDto(Token token) {
-        return new UserAuthRequestDto(token.getAccessToken(), token.getExpiresIn());
+        return new UserAuthRequestDto(token.getAccessToken(), token.getExpiresIn(), token.getRefreshToken());
     }
 }
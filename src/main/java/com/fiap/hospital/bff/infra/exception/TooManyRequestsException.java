@@ -0,0 +1,14 @@
+package com.fiap.hospital.bff.infra.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * Exception for requests rejected because a bounded resource is saturated
+ */
+public class TooManyRequestsException extends BusinessException {
+
+    public TooManyRequestsException(String message) {
+        super(message, HttpStatus.TOO_MANY_REQUESTS);
+    }
+
+}
@@ -0,0 +1,67 @@
+package com.fiap.hospital.bff.infra.persistence.cache;
+
+import com.fiap.hospital.bff.infra.persistence.entity.UserEntity;
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.cache.jcache.internal.JCacheRegionFactory;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Cache de segundo nível de {@link UserEntity}, ligado por {@code app.persistence.second-level-cache.enabled}.
+ *
+ * As linhas ficam na região {@code usuarios} e os ids devolvidos pela busca por email e pela listagem
+ * por tipo na região {@code usuarios-queries}, ambas em Caffeine local (JCache, limites e expiração em
+ * hibernate-cache.conf). O Hibernate já atualiza as regiões quando a entidade é alterada pela sessão;
+ * os gateways de update e delete chamam {@link #evict(Long)} para que escritas que não passam pela
+ * entidade (update em massa, SQL nativo) também não deixem leituras antigas em cache.
+ *
+ * O cache é de cada instância: com várias réplicas, uma escrita feita em uma só aparece nas outras
+ * depois que a região expira. Taxa de acerto em {@code cache.gets{cache=usuarios|usuarios-queries}}.
+ */
+@Component
+public class UserEntityCache {
+
+    private static final Logger log = LoggerFactory.getLogger(UserEntityCache.class);
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final SessionFactoryImplementor sessionFactory;
+
+    public UserEntityCache(EntityManagerFactory entityManagerFactory, MeterRegistry meterRegistry) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+
+        if (sessionFactory.getServiceRegistry().getService(RegionFactory.class)
+                instanceof JCacheRegionFactory regionFactory) {
+            // A região de consultas só é criada no primeiro uso; cria agora para publicar as métricas
+            sessionFactory.getCache().getQueryResultsCache(UserEntity.QUERY_CACHE_REGION);
+            monitor(regionFactory, UserEntity.CACHE_REGION, meterRegistry);
+            monitor(regionFactory, UserEntity.QUERY_CACHE_REGION, meterRegistry);
+            log.info("Hibernate second-level cache enabled for {}", UserEntity.class.getSimpleName());
+        }
+    }
+
+    /**
+     * Remove o usuário da região de entidades e descarta as consultas em cache, que podem conter
+     * seu id (busca por email) ou deixar de contê-lo (listagem por tipo).
+     */
+    public void evict(Long id) {
+        entityManagerFactory.getCache().evict(UserEntity.class, id);
+        if (sessionFactory.getSessionFactoryOptions().isQueryCacheEnabled()) {
+            sessionFactory.getCache().evictQueryRegion(UserEntity.QUERY_CACHE_REGION);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void monitor(JCacheRegionFactory regionFactory, String region, MeterRegistry meterRegistry) {
+        javax.cache.Cache<Object, Object> cache = regionFactory.getCacheManager().getCache(region);
+        if (cache != null) {
+            CaffeineCacheMetrics.monitor(meterRegistry, (Cache<Object, Object>) cache.unwrap(Cache.class), region);
+        }
+    }
+}
@@ -6,17 +6,34 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
-@Table(name = "usuarios")
+@Table(name = "usuarios",
+        uniqueConstraints = @UniqueConstraint(name = UserEntity.EMAIL_UNIQUE_CONSTRAINT, columnNames = "email"),
+        indexes = {
+                @Index(name = "idx_usuarios_login", columnList = "login"),
+                @Index(name = "idx_usuarios_tipo_id", columnList = "tipo, id")
+        })
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = UserEntity.CACHE_REGION)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class UserEntity {
 
+    public static final String EMAIL_UNIQUE_CONSTRAINT = "uk_usuarios_email";
+
+    // Regiões do cache de segundo nível (hibernate-cache.conf); só usadas com app.persistence.second-level-cache.enabled
+    public static final String CACHE_REGION = "usuarios";
+    public static final String QUERY_CACHE_REGION = "usuarios-queries";
+
+    // Sequência com alocação em blocos: ao contrário de IDENTITY, permite ao Hibernate agrupar INSERTs em batch
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "usuarios_id_seq")
+    @SequenceGenerator(name = "usuarios_id_seq", sequenceName = "usuarios_id_seq", allocationSize = 50)
     private Long id;
 
     private String nome;
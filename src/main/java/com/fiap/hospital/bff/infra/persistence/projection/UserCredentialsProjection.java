@@ -0,0 +1,17 @@
+package com.fiap.hospital.bff.infra.persistence.projection;
+
+import com.fiap.hospital.bff.infra.entrypoint.dto.request.TypeUsers;
+
+/**
+ * Projeção usada no login: seleciona apenas id, email, hash da senha e tipo.
+ */
+public interface UserCredentialsProjection {
+
+    Long getId();
+
+    String getEmail();
+
+    String getSenha();
+
+    TypeUsers getTipo();
+}
@@ -0,0 +1,16 @@
+package com.fiap.hospital.bff.infra.persistence.projection;
+
+import com.fiap.hospital.bff.infra.entrypoint.dto.request.TypeUsers;
+
+public interface UserSummaryProjection {
+
+    Long getId();
+
+    String getNome();
+
+    String getEmail();
+
+    String getLogin();
+
+    TypeUsers getTipo();
+}
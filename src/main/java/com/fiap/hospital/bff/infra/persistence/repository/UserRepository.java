@@ -2,17 +2,66 @@ package com.fiap.hospital.bff.infra.persistence.repository;
 
 import com.fiap.hospital.bff.infra.entrypoint.dto.request.TypeUsers;
 import com.fiap.hospital.bff.infra.persistence.entity.UserEntity;
+import com.fiap.hospital.bff.infra.persistence.projection.UserCredentialsProjection;
+import com.fiap.hospital.bff.infra.persistence.projection.UserSummaryProjection;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 
 @Repository
-public interface UserRepository extends JpaRepository<UserEntity, Long> {
+public interface UserRepository extends JpaRepository<UserEntity, Long>, UserReturningRepository {
 
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = UserEntity.QUERY_CACHE_REGION)})
     Optional<UserEntity> findByEmail(String email);
 
+    Optional<UserCredentialsProjection> findCredentialsByEmail(String email);
+
+    @Query("select u.email from UserEntity u where u.email in :emails")
+    List<String> findExistingEmails(Collection<String> emails);
+
+    // Sempre no primário: a escala é recarregada logo após a escrita de um enfermeiro (muitas vezes num
+    // cadastro anônimo, fora da janela de leitura das próprias escritas) e uma réplica atrasada a deixaria
+    // desatualizada até o próximo refresh. Transação própria e não somente leitura, inclusive quando
+    // chamada depois do commit ou dentro de uma transação somente leitura.
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = UserEntity.QUERY_CACHE_REGION)})
     List<UserEntity> findAllByTipo(TypeUsers tipo);
+
+    // Leituras projetadas: só as colunas da resposta, sem o hash da senha
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = UserEntity.QUERY_CACHE_REGION)})
+    Optional<UserSummaryProjection> findSummaryById(Long id);
+
+    List<UserSummaryProjection> findByIdGreaterThanOrderByIdAsc(Long afterId, Limit limit);
+
+    List<UserSummaryProjection> findByTipoAndIdGreaterThanOrderByIdAsc(TypeUsers tipo, Long afterId, Limit limit);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    Stream<UserSummaryProjection> streamAllByOrderByIdAsc();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    Stream<UserSummaryProjection> streamByTipoOrderByIdAsc(TypeUsers tipo);
+
+    /**
+     * Linhas buscadas por ida ao banco nas consultas em stream. No PostgreSQL o driver só usa
+     * cursor (em vez de carregar o resultado inteiro) dentro de uma transação.
+     */
+    String STREAM_FETCH_SIZE = "500";
 }
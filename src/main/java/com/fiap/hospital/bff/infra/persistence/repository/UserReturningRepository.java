@@ -0,0 +1,29 @@
+package com.fiap.hospital.bff.infra.persistence.repository;
+
+import com.fiap.hospital.bff.infra.persistence.projection.UserSummaryProjection;
+
+import java.util.Optional;
+
+/**
+ * Escritas em usuarios feitas em um único comando SQL que já devolve a linha afetada, sem carregar
+ * a entidade antes nem hidratá-la no contexto de persistência.
+ */
+public interface UserReturningRepository {
+
+    /**
+     * Atualiza os campos não nulos e devolve a linha resultante; vazio se o id não existir.
+     * A senha deve chegar já criptografada.
+     */
+    Optional<UserSummaryProjection> updateReturning(Long id, String email, String login, String senha);
+
+    /**
+     * Troca a senha do usuário com o email informado e devolve a linha resultante; vazio se o email
+     * não existir. A senha deve chegar já criptografada.
+     */
+    Optional<UserSummaryProjection> updatePasswordReturning(String email, String senha);
+
+    /**
+     * Exclui o usuário e devolve a linha removida; vazio se o id não existir.
+     */
+    Optional<UserSummaryProjection> deleteReturning(Long id);
+}
@@ -0,0 +1,127 @@
+package com.fiap.hospital.bff.infra.persistence.repository;
+
+import com.fiap.hospital.bff.infra.entrypoint.dto.request.TypeUsers;
+import com.fiap.hospital.bff.infra.persistence.entity.UserEntity;
+import com.fiap.hospital.bff.infra.persistence.projection.UserSummaryProjection;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.NativeQuery;
+import org.hibernate.type.StandardBasicTypes;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * No PostgreSQL usa {@code UPDATE/DELETE ... RETURNING}; nos demais bancos (H2 nos testes) a mesma
+ * escrita é lida pela tabela delta do comando ({@code FINAL TABLE} / {@code OLD TABLE}). Em ambos os
+ * casos é uma única ida ao banco.
+ *
+ * Como o comando é SQL nativo, o Hibernate não atualiza o cache de segundo nível nem o contexto de
+ * persistência: quem chama invalida o cache (UserEntityCache), e aqui o contexto é descarregado antes
+ * e limpo depois, como em um {@code @Modifying(flushAutomatically = true, clearAutomatically = true)}.
+ */
+public class UserReturningRepositoryImpl implements UserReturningRepository {
+
+    private static final String COLUMNS = "id, nome, email, login, tipo";
+
+    private static final String UPDATE = "UPDATE usuarios SET email = COALESCE(:email, email), "
+            + "login = COALESCE(:login, login), senha = COALESCE(:senha, senha) WHERE id = :id";
+
+    private static final String UPDATE_PASSWORD = "UPDATE usuarios SET senha = :senha WHERE email = :email";
+
+    private static final String DELETE = "DELETE FROM usuarios WHERE id = :id";
+
+    private final EntityManager entityManager;
+    private final String updateReturning;
+    private final String updatePasswordReturning;
+    private final String deleteReturning;
+
+    public UserReturningRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+        boolean postgres = entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices().getDialect() instanceof PostgreSQLDialect;
+        this.updateReturning = postgres
+                ? UPDATE + " RETURNING " + COLUMNS
+                : "SELECT " + COLUMNS + " FROM FINAL TABLE (" + UPDATE + ")";
+        this.updatePasswordReturning = postgres
+                ? UPDATE_PASSWORD + " RETURNING " + COLUMNS
+                : "SELECT " + COLUMNS + " FROM FINAL TABLE (" + UPDATE_PASSWORD + ")";
+        this.deleteReturning = postgres
+                ? DELETE + " RETURNING " + COLUMNS
+                : "SELECT " + COLUMNS + " FROM OLD TABLE (" + DELETE + ")";
+    }
+
+    @Override
+    @Transactional
+    public Optional<UserSummaryProjection> updateReturning(Long id, String email, String login, String senha) {
+        return execute(query(updateReturning)
+                .setParameter("id", id)
+                .setParameter("email", email, StandardBasicTypes.STRING)
+                .setParameter("login", login, StandardBasicTypes.STRING)
+                .setParameter("senha", senha, StandardBasicTypes.STRING));
+    }
+
+    @Override
+    @Transactional
+    public Optional<UserSummaryProjection> updatePasswordReturning(String email, String senha) {
+        return execute(query(updatePasswordReturning)
+                .setParameter("email", email)
+                .setParameter("senha", senha));
+    }
+
+    @Override
+    @Transactional
+    public Optional<UserSummaryProjection> deleteReturning(Long id) {
+        return execute(query(deleteReturning).setParameter("id", id));
+    }
+
+    private NativeQuery<Object[]> query(String sql) {
+        return entityManager.unwrap(Session.class)
+                .createNativeQuery(sql, Object[].class)
+                .addSynchronizedEntityClass(UserEntity.class);
+    }
+
+    private Optional<UserSummaryProjection> execute(NativeQuery<Object[]> query) {
+        entityManager.flush();
+        List<Object[]> rows = query.getResultList();
+        entityManager.clear();
+        return rows.stream().findFirst().map(UserRow::of);
+    }
+
+    private record UserRow(Long id, String nome, String email, String login, TypeUsers tipo)
+            implements UserSummaryProjection {
+
+        static UserRow of(Object[] row) {
+            return new UserRow(((Number) row[0]).longValue(), (String) row[1], (String) row[2],
+                    (String) row[3], TypeUsers.valueOf((String) row[4]));
+        }
+
+        @Override
+        public Long getId() {
+            return id;
+        }
+
+        @Override
+        public String getNome() {
+            return nome;
+        }
+
+        @Override
+        public String getEmail() {
+            return email;
+        }
+
+        @Override
+        public String getLogin() {
+            return login;
+        }
+
+        @Override
+        public TypeUsers getTipo() {
+            return tipo;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.fiap.hospital.bff.infra.persistence.routing;
+
+import com.fiap.hospital.bff.infra.adapter.gateway.UserChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+
+/**
+ * Janela de leitura das próprias escritas: depois que um usuário cria, altera ou remove um registro,
+ * as leituras feitas em seu nome vão para o primário por {@code app.datasource.replica.read-your-writes-window},
+ * tempo que cobre o atraso de replicação. Ficam marcados quem fez a escrita (subject do JWT) e o email
+ * do registro alterado, que é o subject do próprio usuário.
+ *
+ * A janela é de cada instância: sem afinidade de sessão no balanceador, a leitura seguinte pode cair
+ * em outra instância e ler da réplica.
+ */
+public class ReadYourWritesWindow {
+
+    private static final long MAX_TRACKED_USERS = 10_000;
+
+    private final Cache<String, Boolean> recentWriters;
+    private final boolean enabled;
+
+    public ReadYourWritesWindow(Duration window) {
+        this(window, Ticker.systemTicker());
+    }
+
+    ReadYourWritesWindow(Duration window, Ticker ticker) {
+        this.enabled = !window.isZero() && !window.isNegative();
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(enabled ? window : Duration.ofNanos(1))
+                .maximumSize(MAX_TRACKED_USERS)
+                .ticker(ticker)
+                .build();
+    }
+
+    @EventListener
+    public void onUserChanged(UserChangedEvent event) {
+        mark(currentPrincipal());
+        if (event.user() != null) {
+            mark(event.user().getEmail());
+        }
+    }
+
+    /**
+     * Indica se o usuário autenticado na thread atual escreveu dentro da janela.
+     */
+    public boolean pinsCurrentPrincipal() {
+        String principal = currentPrincipal();
+        return principal != null && recentWriters.getIfPresent(principal) != null;
+    }
+
+    void mark(String principal) {
+        if (enabled && principal != null) {
+            recentWriters.put(principal, Boolean.TRUE);
+        }
+    }
+
+    private static String currentPrincipal() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || authentication instanceof AnonymousAuthenticationToken
+                || !authentication.isAuthenticated()) {
+            return null;
+        }
+        return authentication.getName();
+    }
+}
@@ -0,0 +1,76 @@
+package com.fiap.hospital.bff.infra.persistence.routing;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Envia transações {@code @Transactional(readOnly = true)} às réplicas, em rodízio, e todo o resto
+ * (escritas, leituras sem transação somente leitura, Flyway) ao primário. Leituras de quem acabou de
+ * escrever ficam no primário enquanto durar a {@link ReadYourWritesWindow}.
+ *
+ * O destino é escolhido quando o primeiro comando é executado, e não no início da transação: nesse
+ * momento o Spring ainda não marcou a transação como somente leitura. Por isso o roteador fica atrás
+ * de um {@link LazyConnectionDataSourceProxy}.
+ */
+public class ReplicaRoutingDataSource extends LazyConnectionDataSourceProxy implements Closeable {
+
+    static final String PRIMARY = "primary";
+
+    private final HikariDataSource primary;
+    private final List<HikariDataSource> replicas;
+
+    public ReplicaRoutingDataSource(HikariDataSource primary, List<HikariDataSource> replicas,
+                                    ReadYourWritesWindow readYourWritesWindow) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        setTargetDataSource(new Router(primary, this.replicas, readYourWritesWindow));
+        afterPropertiesSet();
+    }
+
+    @Override
+    public void close() {
+        replicas.forEach(HikariDataSource::close);
+        primary.close();
+    }
+
+    private static final class Router extends AbstractRoutingDataSource {
+
+        private final List<String> replicaKeys = new ArrayList<>();
+        private final ReadYourWritesWindow readYourWritesWindow;
+        private final AtomicInteger next = new AtomicInteger();
+
+        Router(HikariDataSource primary, List<HikariDataSource> replicas, ReadYourWritesWindow readYourWritesWindow) {
+            this.readYourWritesWindow = readYourWritesWindow;
+
+            Map<Object, Object> targets = new HashMap<>();
+            targets.put(PRIMARY, primary);
+            for (int i = 0; i < replicas.size(); i++) {
+                String key = "replica-" + (i + 1);
+                replicaKeys.add(key);
+                targets.put(key, replicas.get(i));
+            }
+            setTargetDataSources(targets);
+            setDefaultTargetDataSource(primary);
+            afterPropertiesSet();
+        }
+
+        @Override
+        protected Object determineCurrentLookupKey() {
+            if (replicaKeys.isEmpty()
+                    || !TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                    || readYourWritesWindow.pinsCurrentPrincipal()) {
+                return PRIMARY;
+            }
+            return replicaKeys.get(Math.floorMod(next.getAndIncrement(), replicaKeys.size()));
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+/**
+ * Troca a coluna IDENTITY de usuarios.id pela sequência usuarios_id_seq (incremento 50), usada pelo
+ * Hibernate para alocar ids em blocos e agrupar os INSERTs em batch.
+ *
+ * É uma migration Java porque a sequência precisa começar depois do maior id existente, e nem
+ * PostgreSQL nem H2 aceitam expressão em START WITH. O otimizador "pooled" do Hibernate trata o
+ * valor lido como o topo do bloco (ids de valor - 49 até valor), por isso o início é max(id) + 50.
+ */
+public class V3__UsuariosIdSequence extends BaseJavaMigration {
+
+    private static final int ALLOCATION_SIZE = 50;
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        try (Statement statement = context.getConnection().createStatement()) {
+            long maxId;
+            try (ResultSet resultSet = statement.executeQuery("SELECT COALESCE(MAX(id), 0) FROM usuarios")) {
+                resultSet.next();
+                maxId = resultSet.getLong(1);
+            }
+            statement.execute("CREATE SEQUENCE usuarios_id_seq START WITH " + (maxId + ALLOCATION_SIZE)
+                    + " INCREMENT BY " + ALLOCATION_SIZE);
+            statement.execute("ALTER TABLE usuarios ALTER COLUMN id DROP IDENTITY");
+        }
+    }
+}
@@ -0,0 +1,21 @@
+-- Schema inicial, equivalente ao que o ddl-auto=update gerava.
+-- IF NOT EXISTS permite aplicar sobre bancos que já tinham as tabelas.
+
+CREATE TABLE IF NOT EXISTS usuarios (
+    id    BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    nome  VARCHAR(255),
+    email VARCHAR(255),
+    login VARCHAR(255),
+    senha VARCHAR(255),
+    tipo  VARCHAR(255) CHECK (tipo IN ('MEDICO', 'ENFERMEIRO', 'PACIENTE'))
+);
+
+CREATE TABLE IF NOT EXISTS refresh_tokens (
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    token_hash VARCHAR(64)              NOT NULL,
+    email      VARCHAR(255)             NOT NULL,
+    expires_at TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    CONSTRAINT uk_refresh_tokens_token_hash UNIQUE (token_hash)
+);
+
+CREATE INDEX IF NOT EXISTS idx_refresh_tokens_email ON refresh_tokens (email);
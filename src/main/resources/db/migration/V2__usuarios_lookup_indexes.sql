@@ -0,0 +1,12 @@
+-- Índices das buscas quentes em usuarios:
+--   email       -> login, cadastro e troca de senha (findByEmail / findCredentialsByEmail); único
+--   login       -> identificação por login
+--   (tipo, id)  -> escala de enfermeiros (findAllByTipo) e listagem paginada filtrada por tipo
+--
+-- O índice único falha se já houver emails duplicados; nesse caso remova as duplicatas antes.
+
+CREATE UNIQUE INDEX IF NOT EXISTS uk_usuarios_email ON usuarios (email);
+
+CREATE INDEX IF NOT EXISTS idx_usuarios_login ON usuarios (login);
+
+CREATE INDEX IF NOT EXISTS idx_usuarios_tipo_id ON usuarios (tipo, id);
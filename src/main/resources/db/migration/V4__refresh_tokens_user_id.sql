@@ -0,0 +1,14 @@
+-- Refresh tokens passam a pertencer ao usuário (id), não ao email: uma conta cadastrada depois com
+-- o mesmo email não herda tokens da conta anterior. Tokens sem usuário correspondente são descartados.
+
+ALTER TABLE refresh_tokens ADD COLUMN user_id BIGINT;
+
+UPDATE refresh_tokens
+SET user_id = (SELECT u.id FROM usuarios u WHERE u.email = refresh_tokens.email);
+
+DELETE FROM refresh_tokens WHERE user_id IS NULL;
+
+ALTER TABLE refresh_tokens ALTER COLUMN user_id SET NOT NULL;
+
+DROP INDEX IF EXISTS idx_refresh_tokens_email;
+CREATE INDEX IF NOT EXISTS idx_refresh_tokens_user_id ON refresh_tokens (user_id);
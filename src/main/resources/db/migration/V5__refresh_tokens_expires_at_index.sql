@@ -0,0 +1,3 @@
+-- Expirados são removidos por uma tarefa periódica (delete ... where expires_at < now), não mais no login.
+
+CREATE INDEX IF NOT EXISTS idx_refresh_tokens_expires_at ON refresh_tokens (expires_at);
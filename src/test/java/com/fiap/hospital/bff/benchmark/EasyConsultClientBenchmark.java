@@ -0,0 +1,86 @@
+package com.fiap.hospital.bff.benchmark;
+
+import com.fiap.hospital.bff.infra.config.GraphQlClientConfig;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.graphql.client.ClientGraphQlResponse;
+import org.springframework.graphql.client.GraphQlClient;
+import org.springframework.graphql.client.HttpGraphQlClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara o cliente GraphQL criado por chamada (comportamento anterior do EasyConsultService)
+ * com o cliente compartilhado e com pool de conexões definido em {@link GraphQlClientConfig}.
+ *
+ * Executar com {@code ./mvnw -Pbenchmark test -Djmh.args="EasyConsultClient -prof gc"} para
+ * obter latência média e alocação por operação (gc.alloc.rate.norm).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EasyConsultClientBenchmark {
+
+    private static final String QUERY = "query { getAllConsults { id date statusConsult } }";
+    private static final byte[] RESPONSE = """
+            {"data":{"getAllConsults":[{"id":"1","date":"2025-10-14","statusConsult":"SCHEDULED"}]}}
+            """.getBytes(StandardCharsets.UTF_8);
+
+    private HttpServer server;
+    private String url;
+    private ConnectionProvider connectionProvider;
+    private GraphQlClient sharedClient;
+
+    @Setup
+    public void setUp() throws Exception {
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/graphql", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            exchange.getResponseHeaders().add("Content-Type", "application/graphql-response+json");
+            exchange.sendResponseHeaders(200, RESPONSE.length);
+            exchange.getResponseBody().write(RESPONSE);
+            exchange.close();
+        });
+        server.setExecutor(Executors.newFixedThreadPool(4));
+        server.start();
+        url = "http://localhost:" + server.getAddress().getPort() + "/graphql";
+
+        GraphQlClientConfig config = new GraphQlClientConfig();
+        connectionProvider = config.easyConsultConnectionProvider(50, 200, Duration.ofSeconds(5),
+                Duration.ofSeconds(30), Duration.ofMinutes(5), Duration.ofSeconds(60));
+        sharedClient = config.graphQlClient(connectionProvider, url, false, new SimpleMeterRegistry());
+    }
+
+    @TearDown
+    public void tearDown() {
+        connectionProvider.dispose();
+        server.stop(0);
+    }
+
+    @Benchmark
+    public ClientGraphQlResponse perCallClient() {
+        GraphQlClient client = HttpGraphQlClient.builder()
+                .url(url)
+                .header("Authorization", "Bearer benchmark-token")
+                .build();
+        return client.document(QUERY).execute().block();
+    }
+
+    @Benchmark
+    public ClientGraphQlResponse sharedPooledClient() {
+        return sharedClient.document(QUERY)
+                .attribute(GraphQlClientConfig.ACCESS_TOKEN_ATTRIBUTE, "benchmark-token")
+                .execute()
+                .block();
+    }
+}
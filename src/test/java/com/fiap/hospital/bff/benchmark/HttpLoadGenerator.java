@@ -0,0 +1,157 @@
+package com.fiap.hospital.bff.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Gerador de carga HTTP para comparar os modos de execução da aplicação
+ * (pool de platform threads padrão vs. perfil {@code vthreads}).
+ *
+ * Cada cliente roda em uma virtual thread, para que o próprio gerador não seja o gargalo
+ * com milhares de clientes concorrentes. Depende apenas do JDK e pode ser executado direto
+ * pelo launcher de arquivo único:
+ *
+ * <pre>
+ * java src/test/java/com/fiap/hospital/bff/benchmark/HttpLoadGenerator.java \
+ *     --url=http://localhost:8080 --email=joao@hospital.com --password=senha123456 \
+ *     --scenario=users --clients=2000 --duration=60
+ * </pre>
+ *
+ * Cenários: {@code users} (GET /api/v1/users autenticado) e {@code login} (POST /api/v1/auth/login).
+ */
+public final class HttpLoadGenerator {
+
+    private static final Pattern ACCESS_TOKEN = Pattern.compile("\"accessToken\"\\s*:\\s*\"([^\"]+)\"");
+
+    private HttpLoadGenerator() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parseOptions(args);
+        String baseUrl = options.getOrDefault("url", "http://localhost:8080");
+        String scenario = options.getOrDefault("scenario", "users");
+        int clients = Integer.parseInt(options.getOrDefault("clients", "2000"));
+        Duration duration = Duration.ofSeconds(Long.parseLong(options.getOrDefault("duration", "60")));
+        String loginBody = """
+                {"email":"%s","password":"%s"}""".formatted(options.get("email"), options.get("password"));
+
+        HttpClient http = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(10))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+
+        HttpRequest request = switch (scenario) {
+            case "login" -> loginRequest(baseUrl, loginBody);
+            case "users" -> HttpRequest.newBuilder(URI.create(baseUrl + "/api/v1/users"))
+                    .header("Authorization", "Bearer " + login(http, baseUrl, loginBody))
+                    .GET()
+                    .build();
+            default -> throw new IllegalArgumentException("Unknown scenario: " + scenario);
+        };
+
+        LongAdder errors = new LongAdder();
+        long[][] latenciesPerClient = new long[clients][];
+        long deadline = System.nanoTime() + duration.toNanos();
+
+        System.out.printf("Running scenario '%s' with %d clients for %ds against %s%n",
+                scenario, clients, duration.toSeconds(), baseUrl);
+
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < clients; i++) {
+                int client = i;
+                executor.submit(() -> latenciesPerClient[client] = runClient(http, request, deadline, errors));
+            }
+        }
+
+        report(latenciesPerClient, errors.sum(), duration);
+    }
+
+    /**
+     * Executa requisições em sequência até o prazo. A posição 0 do array guarda a quantidade
+     * de latências registradas.
+     */
+    private static long[] runClient(HttpClient http, HttpRequest request, long deadline, LongAdder errors) {
+        long[] latencies = new long[1024];
+        int count = 0;
+        while (System.nanoTime() < deadline) {
+            long start = System.nanoTime();
+            try {
+                HttpResponse<Void> response = http.send(request, HttpResponse.BodyHandlers.discarding());
+                if (response.statusCode() >= 400) {
+                    errors.increment();
+                    continue;
+                }
+            } catch (Exception e) {
+                errors.increment();
+                continue;
+            }
+            if (count + 1 >= latencies.length) {
+                latencies = Arrays.copyOf(latencies, latencies.length * 2);
+            }
+            latencies[++count] = System.nanoTime() - start;
+        }
+        latencies[0] = count;
+        return latencies;
+    }
+
+    private static void report(long[][] latenciesPerClient, long errors, Duration duration) {
+        long total = Arrays.stream(latenciesPerClient).mapToLong(latencies -> latencies[0]).sum();
+        long[] all = new long[(int) total];
+        int offset = 0;
+        for (long[] latencies : latenciesPerClient) {
+            int count = (int) latencies[0];
+            System.arraycopy(latencies, 1, all, offset, count);
+            offset += count;
+        }
+        Arrays.sort(all);
+
+        System.out.printf("Requests ok: %d, errors: %d%n", total, errors);
+        System.out.printf("Throughput: %.1f req/s%n", total / (double) duration.toSeconds());
+        if (all.length > 0) {
+            System.out.printf("Latency p50: %.1f ms, p99: %.1f ms, max: %.1f ms%n",
+                    percentile(all, 0.50), percentile(all, 0.99), all[all.length - 1] / 1_000_000.0);
+        }
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        int index = (int) Math.min(sorted.length - 1, Math.ceil(percentile * sorted.length) - 1);
+        return sorted[Math.max(index, 0)] / 1_000_000.0;
+    }
+
+    private static String login(HttpClient http, String baseUrl, String loginBody) throws Exception {
+        HttpResponse<String> response = http.send(loginRequest(baseUrl, loginBody), HttpResponse.BodyHandlers.ofString());
+        Matcher matcher = ACCESS_TOKEN.matcher(response.body());
+        if (response.statusCode() != 200 || !matcher.find()) {
+            throw new IllegalStateException("Login failed with status " + response.statusCode() + ": " + response.body());
+        }
+        return matcher.group(1);
+    }
+
+    private static HttpRequest loginRequest(String baseUrl, String loginBody) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/api/v1/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(loginBody))
+                .build();
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (arg.startsWith("--") && arg.contains("=")) {
+                int separator = arg.indexOf('=');
+                options.put(arg.substring(2, separator), arg.substring(separator + 1));
+            }
+        }
+        return options;
+    }
+}
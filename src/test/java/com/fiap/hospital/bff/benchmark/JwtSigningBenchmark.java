@@ -0,0 +1,80 @@
+package com.fiap.hospital.bff.benchmark;
+
+import com.fiap.hospital.bff.infra.adapter.security.JwtSigningKeys;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.gen.ECKeyGenerator;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo de assinar (login) e verificar (cada requisição sem cache) um token com cada algoritmo
+ * suportado por {@link JwtSigningKeys}.
+ *
+ * Executar com {@code ./mvnw -Pbenchmark test -Djmh.args="JwtSigning -prof gc"}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtSigningBenchmark {
+
+    @Param({"RS256", "PS256", "ES256", "ES384"})
+    private String algorithm;
+
+    private JwtEncoder encoder;
+    private JwtDecoder decoder;
+    private JwtEncoderParameters parameters;
+    private String token;
+
+    @Setup
+    public void setUp() throws Exception {
+        JwtSigningKeys keys = JwtSigningKeys.fromJwkSet(new ByteArrayResource(
+                new JWKSet(key(algorithm)).toString(false).getBytes(StandardCharsets.UTF_8)), "benchmark");
+        encoder = keys.encoder();
+        decoder = keys.decoder();
+
+        Instant now = Instant.now();
+        parameters = JwtEncoderParameters.from(JwtClaimsSet.builder()
+                .issuer("HospitalAPI")
+                .subject("benchmark@hospital.com")
+                .issuedAt(now)
+                .claim("scope", "medico")
+                .expiresAt(now.plusSeconds(3600))
+                .build());
+        token = encoder.encode(parameters).getTokenValue();
+    }
+
+    @Benchmark
+    public Jwt sign() {
+        return encoder.encode(parameters);
+    }
+
+    @Benchmark
+    public Jwt verify() {
+        return decoder.decode(token);
+    }
+
+    private static JWK key(String algorithm) throws Exception {
+        JWSAlgorithm alg = JWSAlgorithm.parse(algorithm);
+        return switch (algorithm) {
+            case "ES256" -> new ECKeyGenerator(Curve.P_256).keyID("benchmark").algorithm(alg).generate();
+            case "ES384" -> new ECKeyGenerator(Curve.P_384).keyID("benchmark").algorithm(alg).generate();
+            default -> new RSAKeyGenerator(2048).keyID("benchmark").algorithm(alg).generate();
+        };
+    }
+}
@@ -0,0 +1,88 @@
+package com.fiap.hospital.bff.benchmark;
+
+import com.fiap.hospital.bff.HospitalMain;
+import com.fiap.hospital.bff.core.domain.model.token.Token;
+import com.fiap.hospital.bff.core.domain.model.user.User;
+import com.fiap.hospital.bff.core.domain.model.user.UserCredentials;
+import com.fiap.hospital.bff.core.inputport.AuthenticationQueryUseCase;
+import com.fiap.hospital.bff.core.outputport.FindByGateway;
+import com.fiap.hospital.bff.infra.entrypoint.dto.request.TypeUsers;
+import com.fiap.hospital.bff.infra.persistence.entity.UserEntity;
+import com.fiap.hospital.bff.infra.persistence.repository.UserRepository;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mede o caminho de login contra o H2 do perfil de testes: a leitura das credenciais isolada
+ * (duas buscas da entidade completa, como era feito antes, vs. uma única busca projetada)
+ * e o {@code validateLogin} completo, dominado pelo BCrypt.
+ *
+ * Executar com {@code ./mvnw -Pbenchmark test -Djmh.args="Login -prof gc"}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LoginBenchmark {
+
+    private static final String EMAIL = "benchmark@hospital.com";
+    private static final String PASSWORD = "senha123456";
+
+    private ConfigurableApplicationContext context;
+    private FindByGateway findByGateway;
+    private AuthenticationQueryUseCase authenticationQueryUseCase;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(HospitalMain.class)
+                .profiles("test")
+                .properties("logging.level.root=WARN",
+                        "logging.level.com.fiap.hospital.bff=WARN",
+                        "logging.level.org.hibernate.SQL=WARN",
+                        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+                        "spring.jpa.show-sql=false")
+                .run();
+
+        String hash = context.getBean(BCryptPasswordEncoder.class).encode(PASSWORD);
+        context.getBean(UserRepository.class).save(UserEntity.builder()
+                .nome("Benchmark")
+                .email(EMAIL)
+                .login("benchmark")
+                .senha(hash)
+                .tipo(TypeUsers.PACIENTE)
+                .build());
+
+        findByGateway = context.getBean(FindByGateway.class);
+        authenticationQueryUseCase = context.getBean(AuthenticationQueryUseCase.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void doubleEntityLookup(Blackhole blackhole) {
+        Optional<User> user = findByGateway.findByEmail(EMAIL);
+        blackhole.consume(user);
+        blackhole.consume(findByGateway.findByEmail(EMAIL));
+    }
+
+    @Benchmark
+    public Optional<UserCredentials> projectedCredentialsLookup() {
+        return findByGateway.findCredentialsByEmail(EMAIL);
+    }
+
+    @Benchmark
+    public Token validateLogin() {
+        return authenticationQueryUseCase.validateLogin(EMAIL, PASSWORD);
+    }
+}
@@ -0,0 +1,131 @@
+package com.fiap.hospital.bff.benchmark;
+
+import com.fiap.hospital.bff.HospitalMain;
+import com.fiap.hospital.bff.infra.entrypoint.dto.request.TypeUsers;
+import com.fiap.hospital.bff.infra.persistence.entity.UserEntity;
+import com.fiap.hospital.bff.infra.persistence.repository.UserRepository;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Vazão da camada de persistência com as configurações padrão ({@code application.properties}: SQL no
+ * stdout, driver sem ajustes) e com o perfil {@code prod} (sem log de SQL, pool fixo, statements
+ * preparados no servidor e batch reescrito pelo driver), com 4 threads disputando o pool Hikari.
+ *
+ * {@code credentialsLookup} é a busca do login; {@code importBatch} grava 50 usuários em uma transação,
+ * como a importação em lote. O stdout do processo vai para um arquivo temporário, como o log do
+ * container, para que o SQL impresso no perfil padrão não inunde a saída do JMH.
+ *
+ * Por padrão usa o H2 do perfil de testes, onde só o log de SQL e o pool fazem diferença. Para medir
+ * também o pgjdbc contra um PostgreSQL descartável (as migrations são aplicadas nele):
+ * {@code ./mvnw -Pbenchmark test -Djmh.args="PersistenceProfile -jvmArgs -Dbenchmark.jdbc.url=jdbc:postgresql://localhost:5432/postgres"}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Threads(4)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class PersistenceProfileBenchmark {
+
+    private static final int SEEDED_USERS = 10_000;
+    private static final int IMPORT_BATCH = 50;
+    private static final String SEEDED_DOMAIN = "@carga.hospital.com";
+    private static final String IMPORTED_DOMAIN = "@importacao.hospital.com";
+
+    @Param({"default", "prod"})
+    public String profile;
+
+    private final AtomicLong imported = new AtomicLong();
+
+    private PrintStream stdout;
+    private Path stdoutFile;
+    private ConfigurableApplicationContext context;
+    private UserRepository userRepository;
+
+    @Setup
+    public void setUp() throws IOException {
+        stdout = System.out;
+        stdoutFile = Files.createTempFile("persistence-benchmark", ".log");
+        System.setOut(new PrintStream(new FileOutputStream(stdoutFile.toFile()), true));
+
+        List<String> properties = new ArrayList<>(List.of(
+                "logging.level.root=WARN",
+                "logging.level.com.fiap.hospital.bff=WARN",
+                "logging.level.org.hibernate.SQL=WARN",
+                "logging.level.org.springframework.web.client.RestTemplate=WARN"));
+        String url = System.getProperty("benchmark.jdbc.url");
+        if (url != null) {
+            properties.addAll(List.of(
+                    "spring.datasource.url=" + url,
+                    "spring.datasource.driver-class-name=org.postgresql.Driver",
+                    "spring.datasource.username=" + System.getProperty("benchmark.jdbc.user", "postgres"),
+                    "spring.datasource.password=" + System.getProperty("benchmark.jdbc.password", "postgres"),
+                    "spring.jpa.database-platform=org.hibernate.dialect.PostgreSQLDialect"));
+        }
+
+        context = new SpringApplicationBuilder(HospitalMain.class)
+                .profiles(profile.equals("prod") ? new String[]{"test", "prod"} : new String[]{"test"})
+                .properties(properties.toArray(String[]::new))
+                .run();
+        userRepository = context.getBean(UserRepository.class);
+
+        for (int from = 0; from < SEEDED_USERS; from += 1_000) {
+            List<UserEntity> users = new ArrayList<>();
+            for (int i = from; i < from + 1_000; i++) {
+                users.add(user("usuario" + i + SEEDED_DOMAIN));
+            }
+            userRepository.saveAll(users);
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        context.getBean(JdbcTemplate.class).update("DELETE FROM usuarios WHERE email LIKE ? OR email LIKE ?",
+                "%" + SEEDED_DOMAIN, "%" + IMPORTED_DOMAIN);
+        context.close();
+        System.out.close();
+        System.setOut(stdout);
+        Files.deleteIfExists(stdoutFile);
+    }
+
+    @Benchmark
+    public void credentialsLookup(Blackhole blackhole) {
+        int i = ThreadLocalRandom.current().nextInt(SEEDED_USERS);
+        blackhole.consume(userRepository.findCredentialsByEmail("usuario" + i + SEEDED_DOMAIN));
+    }
+
+    @Benchmark
+    public void importBatch(Blackhole blackhole) {
+        List<UserEntity> users = new ArrayList<>(IMPORT_BATCH);
+        for (int i = 0; i < IMPORT_BATCH; i++) {
+            users.add(user("importado" + imported.getAndIncrement() + IMPORTED_DOMAIN));
+        }
+        blackhole.consume(userRepository.saveAll(users));
+    }
+
+    private static UserEntity user(String email) {
+        return UserEntity.builder()
+                .nome("Usuário Carga")
+                .email(email)
+                .login(email.substring(0, email.indexOf('@')))
+                .senha("{bcrypt}hash")
+                .tipo(TypeUsers.PACIENTE)
+                .build();
+    }
+}
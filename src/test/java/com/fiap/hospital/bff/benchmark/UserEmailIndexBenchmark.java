@@ -0,0 +1,132 @@
+package com.fiap.hospital.bff.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latência do login com a tabela usuarios populada ({@code users}, 1M por padrão), antes e depois
+ * do índice único em email criado pela migration V2.
+ *
+ * {@code credentialsLookup} mede só a consulta projetada do login; {@code login} soma o BCrypt
+ * (custo 10) para mostrar o peso da varredura sem índice na latência total.
+ *
+ * Por padrão usa um H2 em memória no modo PostgreSQL. Para medir contra um PostgreSQL real:
+ * {@code ./mvnw -Pbenchmark test -Djmh.args="UserEmailIndex -jvmArgs -Dbenchmark.jdbc.url=jdbc:postgresql://localhost:5432/postgres"}
+ * (a tabela {@code benchmark_usuarios} é recriada a cada execução).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class UserEmailIndexBenchmark {
+
+    private static final String TABLE = "benchmark_usuarios";
+    private static final String PASSWORD = "senha123456";
+
+    @Param({"1000000"})
+    public int users;
+
+    @Param({"false", "true"})
+    public boolean emailIndex;
+
+    private Connection connection;
+    private PreparedStatement lookup;
+    private BCryptPasswordEncoder encoder;
+    private String hash;
+
+    @Setup
+    public void setUp() throws SQLException {
+        String url = System.getProperty("benchmark.jdbc.url", "jdbc:h2:mem:index-benchmark;MODE=PostgreSQL");
+        connection = DriverManager.getConnection(url,
+                System.getProperty("benchmark.jdbc.user", "postgres"),
+                System.getProperty("benchmark.jdbc.password", "postgres"));
+
+        encoder = new BCryptPasswordEncoder(10);
+        hash = encoder.encode(PASSWORD);
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + TABLE);
+            statement.execute("CREATE TABLE " + TABLE + " (id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, "
+                    + "nome VARCHAR(255), email VARCHAR(255), login VARCHAR(255), senha VARCHAR(255), tipo VARCHAR(255))");
+        }
+        seed();
+        try (Statement statement = connection.createStatement()) {
+            if (emailIndex) {
+                statement.execute("CREATE UNIQUE INDEX uk_" + TABLE + "_email ON " + TABLE + " (email)");
+            }
+            if (connection.getMetaData().getDatabaseProductName().equals("PostgreSQL")) {
+                statement.execute("ANALYZE " + TABLE);
+            }
+        }
+
+        lookup = connection.prepareStatement("SELECT email, senha, tipo FROM " + TABLE + " WHERE email = ?");
+    }
+
+    private void seed() throws SQLException {
+        connection.setAutoCommit(false);
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO " + TABLE + " (nome, email, login, senha, tipo) VALUES (?, ?, ?, ?, ?)")) {
+            for (int i = 0; i < users; i++) {
+                insert.setString(1, "Usuário " + i);
+                insert.setString(2, email(i));
+                insert.setString(3, "usuario" + i);
+                insert.setString(4, hash);
+                insert.setString(5, i % 10 == 0 ? "MEDICO" : "PACIENTE");
+                insert.addBatch();
+                if (i % 10_000 == 9_999) {
+                    insert.executeBatch();
+                    connection.commit();
+                }
+            }
+            insert.executeBatch();
+            connection.commit();
+        } finally {
+            connection.setAutoCommit(true);
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE " + TABLE);
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    public void credentialsLookup(Blackhole blackhole) throws SQLException {
+        blackhole.consume(findHash(randomEmail()));
+    }
+
+    @Benchmark
+    public boolean login() throws SQLException {
+        return encoder.matches(PASSWORD, findHash(randomEmail()));
+    }
+
+    private String findHash(String email) throws SQLException {
+        lookup.setString(1, email);
+        try (ResultSet resultSet = lookup.executeQuery()) {
+            return resultSet.next() ? resultSet.getString(2) : null;
+        }
+    }
+
+    private String randomEmail() {
+        return email(ThreadLocalRandom.current().nextInt(users));
+    }
+
+    private static String email(int i) {
+        return "usuario" + i + "@hospital.com";
+    }
+}
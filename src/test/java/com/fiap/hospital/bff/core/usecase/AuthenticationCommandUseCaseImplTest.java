@@ -1,5 +1,8 @@
 package com.fiap.hospital.bff.core.usecase;
 
+import com.fiap.hospital.bff.core.domain.model.user.UserCredentials;
+import com.fiap.hospital.bff.core.outputport.FindByGateway;
+import com.fiap.hospital.bff.core.outputport.RefreshTokenGateway;
 import com.fiap.hospital.bff.core.outputport.UpdateGateway;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -9,6 +12,8 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.Optional;
+
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
@@ -27,6 +32,12 @@ class AuthenticationCommandUseCaseImplTest {
 
     @Mock
     private UpdateGateway updateGateway;
+
+    @Mock
+    private FindByGateway findByGateway;
+
+    @Mock
+    private RefreshTokenGateway refreshTokenGateway;
     
     @InjectMocks
     private AuthenticationCommandUseCaseImpl authenticationCommandUseCase;
@@ -137,4 +148,47 @@ class AuthenticationCommandUseCaseImplTest {
             verify(updateGateway, times(1)).updatePassword(nullEmail, nullPassword);
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("Testes de Revogação de Refresh Tokens")
+    class RefreshTokenRevocationTests {
+
+        @Test
+        @DisplayName("Deve revogar todos os refresh tokens do usuário após trocar a senha")
+        void shouldRevokeAllRefreshTokens_WhenPasswordIsUpdated() {
+            // Arrange
+            String email = "joao.silva@hospital.com";
+            when(findByGateway.findCredentialsByEmail(email))
+                    .thenReturn(Optional.of(new UserCredentials(7L, email, "$2a$10$hashedPassword", "PACIENTE")));
+
+            // Act
+            authenticationCommandUseCase.updatePassword(email, "novaSenha123456");
+
+            // Assert
+            var inOrder = inOrder(updateGateway, refreshTokenGateway);
+            inOrder.verify(updateGateway).updatePassword(email, "novaSenha123456");
+            inOrder.verify(refreshTokenGateway).revokeAll(7L);
+        }
+
+        @Test
+        @DisplayName("Não deve revogar refresh tokens quando o email não pertence a nenhum usuário")
+        void shouldNotRevoke_WhenEmailHasNoUser() {
+            // Act
+            authenticationCommandUseCase.updatePassword("inexistente@hospital.com", "novaSenha123456");
+
+            // Assert
+            verify(refreshTokenGateway, never()).revokeAll(any());
+        }
+
+        @Test
+        @DisplayName("Deve revogar o refresh token informado")
+        void shouldRevokeGivenRefreshToken() {
+            // Act
+            authenticationCommandUseCase.revokeRefreshToken("refresh-token");
+
+            // Assert
+            verify(refreshTokenGateway, times(1)).revoke("refresh-token");
+            verifyNoInteractions(updateGateway);
+        }
+    }
+}
@@ -1,22 +1,25 @@
 package com.fiap.hospital.bff.core.usecase;
 
+import com.fiap.hospital.bff.core.domain.model.token.RefreshTokenOwner;
 import com.fiap.hospital.bff.core.domain.model.token.Token;
-import com.fiap.hospital.bff.core.domain.model.user.User;
+import com.fiap.hospital.bff.core.domain.model.user.UserCredentials;
 import com.fiap.hospital.bff.core.outputport.FindByGateway;
+import com.fiap.hospital.bff.core.outputport.RefreshTokenGateway;
+import com.fiap.hospital.bff.core.outputport.UpdateGateway;
 import com.fiap.hospital.bff.infra.exception.UserCredentialsException;
-import com.fiap.hospital.bff.util.TestDataBuilder;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.oauth2.jwt.JwtEncoder;
 import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
 import org.springframework.security.oauth2.jwt.Jwt;
 
+import java.time.Duration;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
@@ -42,7 +45,13 @@ class AuthenticationQueryUseCaseImplTest {
     private FindByGateway findByGateway;
     
     @Mock
-    private BCryptPasswordEncoder passwordEncoder;
+    private UpdateGateway updateGateway;
+
+    @Mock
+    private RefreshTokenGateway refreshTokenGateway;
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
     
     @Mock
     private JwtEncoder jwtEncoder;
@@ -50,9 +59,14 @@ class AuthenticationQueryUseCaseImplTest {
     @Mock
     private Jwt jwt;
     
-    @InjectMocks
     private AuthenticationQueryUseCaseImpl authenticationQueryUseCase;
 
+    @BeforeEach
+    void setUp() {
+        authenticationQueryUseCase = new AuthenticationQueryUseCaseImpl(findByGateway, updateGateway,
+                refreshTokenGateway, passwordEncoder, jwtEncoder, Duration.ofMinutes(5));
+    }
+
     @Nested
     @DisplayName("Testes de Validação de Login")
     class ValidateLoginTests {
@@ -66,11 +80,10 @@ class AuthenticationQueryUseCaseImplTest {
             String hashedPassword = "$2a$10$hashedPassword";
             String expectedTokenValue = "eyJhbGciOiJSUzI1NiJ9.eyJzdWIiOiJ0ZXN0ZUBlbWFpbC5jb20ifQ.token";
             
-            User user = TestDataBuilder.createValidUserDomain();
-            user.setSenha(hashedPassword);
+            UserCredentials user = new UserCredentials(1L, email, hashedPassword, "PACIENTE");
             
             // Configurar mocks
-            when(findByGateway.findByEmail(eq(email))).thenReturn(Optional.of(user));
+            when(findByGateway.findCredentialsByEmail(eq(email))).thenReturn(Optional.of(user));
             when(passwordEncoder.matches(eq(password), eq(hashedPassword))).thenReturn(true);
             when(jwt.getTokenValue()).thenReturn(expectedTokenValue);
             when(jwtEncoder.encode(any(JwtEncoderParameters.class))).thenReturn(jwt);
@@ -84,7 +97,7 @@ class AuthenticationQueryUseCaseImplTest {
             assertThat(actualToken.getExpiresIn()).isEqualTo(300L); // 5 minutos
             
             // Verificar interações
-            verify(findByGateway, times(2)).findByEmail(email); // Uma para verificar existência, outra para buscar senha
+            verify(findByGateway, times(1)).findCredentialsByEmail(email); // Uma única consulta traz hash e claims
             verify(passwordEncoder, times(1)).matches(password, hashedPassword);
             verify(jwtEncoder, times(1)).encode(any(JwtEncoderParameters.class));
         }
@@ -96,14 +109,14 @@ class AuthenticationQueryUseCaseImplTest {
             String nonExistentEmail = "naoexiste@hospital.com";
             String password = "senha123456";
             
-            when(findByGateway.findByEmail(eq(nonExistentEmail))).thenReturn(Optional.empty());
+            when(findByGateway.findCredentialsByEmail(eq(nonExistentEmail))).thenReturn(Optional.empty());
 
             // Act & Assert
             assertThatThrownBy(() -> authenticationQueryUseCase.validateLogin(nonExistentEmail, password))
                     .isInstanceOf(UserCredentialsException.class)
                     .hasMessage("Invalid email or password");
             
-            verify(findByGateway, times(1)).findByEmail(nonExistentEmail);
+            verify(findByGateway, times(1)).findCredentialsByEmail(nonExistentEmail);
             verify(passwordEncoder, never()).matches(any(), any());
             verify(jwtEncoder, never()).encode(any());
         }
@@ -116,10 +129,9 @@ class AuthenticationQueryUseCaseImplTest {
             String wrongPassword = "senhaErrada";
             String hashedPassword = "$2a$10$hashedPassword";
             
-            User user = TestDataBuilder.createValidUserDomain();
-            user.setSenha(hashedPassword);
+            UserCredentials user = new UserCredentials(1L, email, hashedPassword, "PACIENTE");
             
-            when(findByGateway.findByEmail(eq(email))).thenReturn(Optional.of(user));
+            when(findByGateway.findCredentialsByEmail(eq(email))).thenReturn(Optional.of(user));
             when(passwordEncoder.matches(eq(wrongPassword), eq(hashedPassword))).thenReturn(false);
 
             // Act & Assert
@@ -127,7 +139,7 @@ class AuthenticationQueryUseCaseImplTest {
                     .isInstanceOf(UserCredentialsException.class)
                     .hasMessage("Invalid email or password");
             
-            verify(findByGateway, times(2)).findByEmail(email);
+            verify(findByGateway, times(1)).findCredentialsByEmail(email);
             verify(passwordEncoder, times(1)).matches(wrongPassword, hashedPassword);
             verify(jwtEncoder, never()).encode(any());
         }
@@ -141,10 +153,9 @@ class AuthenticationQueryUseCaseImplTest {
             String hashedPassword = "$2a$10$hashedPassword";
             String expectedTokenValue = "eyJhbGciOiJSUzI1NiJ9.token";
             
-            User doctorUser = TestDataBuilder.createValidDoctorDomain();
-            doctorUser.setSenha(hashedPassword);
+            UserCredentials doctorUser = new UserCredentials(1L, email, hashedPassword, "MEDICO");
             
-            when(findByGateway.findByEmail(eq(email))).thenReturn(Optional.of(doctorUser));
+            when(findByGateway.findCredentialsByEmail(eq(email))).thenReturn(Optional.of(doctorUser));
             when(passwordEncoder.matches(eq(password), eq(hashedPassword))).thenReturn(true);
             when(jwt.getTokenValue()).thenReturn(expectedTokenValue);
             when(jwtEncoder.encode(any(JwtEncoderParameters.class))).thenReturn(jwt);
@@ -169,10 +180,9 @@ class AuthenticationQueryUseCaseImplTest {
             String hashedPassword = "$2a$10$hashedPassword";
             String expectedTokenValue = "eyJhbGciOiJSUzI1NiJ9.token";
             
-            User user = TestDataBuilder.createValidUserDomain();
-            user.setSenha(hashedPassword);
+            UserCredentials user = new UserCredentials(1L, email, hashedPassword, "PACIENTE");
             
-            when(findByGateway.findByEmail(eq(email))).thenReturn(Optional.of(user));
+            when(findByGateway.findCredentialsByEmail(eq(email))).thenReturn(Optional.of(user));
             when(passwordEncoder.matches(eq(password), eq(hashedPassword))).thenReturn(true);
             when(jwt.getTokenValue()).thenReturn(expectedTokenValue);
             when(jwtEncoder.encode(any(JwtEncoderParameters.class))).thenReturn(jwt);
@@ -192,12 +202,11 @@ class AuthenticationQueryUseCaseImplTest {
             String password = "senha123456";
             String hashedPassword = "$2a$10$hashedPassword";
             
-            User user = TestDataBuilder.createValidUserDomain();
-            user.setSenha(hashedPassword);
+            UserCredentials user = new UserCredentials(1L, email, hashedPassword, "PACIENTE");
             
             RuntimeException tokenError = new RuntimeException("Erro na geração do token");
             
-            when(findByGateway.findByEmail(eq(email))).thenReturn(Optional.of(user));
+            when(findByGateway.findCredentialsByEmail(eq(email))).thenReturn(Optional.of(user));
             when(passwordEncoder.matches(eq(password), eq(hashedPassword))).thenReturn(true);
             when(jwtEncoder.encode(any(JwtEncoderParameters.class))).thenThrow(tokenError);
 
@@ -209,4 +218,181 @@ class AuthenticationQueryUseCaseImplTest {
             verify(jwtEncoder, times(1)).encode(any(JwtEncoderParameters.class));
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("Testes de Atualização do Hash da Senha")
+    class PasswordHashUpgradeTests {
+
+        private final String email = "joao.silva@hospital.com";
+        private final String password = "senha123456";
+
+        private void givenValidLogin(String hashedPassword) {
+            when(findByGateway.findCredentialsByEmail(eq(email)))
+                    .thenReturn(Optional.of(new UserCredentials(1L, email, hashedPassword, "PACIENTE")));
+            when(passwordEncoder.matches(eq(password), eq(hashedPassword))).thenReturn(true);
+            when(jwt.getTokenValue()).thenReturn("token");
+            when(jwtEncoder.encode(any(JwtEncoderParameters.class))).thenReturn(jwt);
+        }
+
+        @Test
+        @DisplayName("Deve regravar o hash quando o custo armazenado difere do configurado")
+        void shouldRehashPassword_WhenEncodingNeedsUpgrade() {
+            // Arrange
+            String hashedPassword = "$2a$08$hashedPassword";
+            givenValidLogin(hashedPassword);
+            when(passwordEncoder.upgradeEncoding(hashedPassword)).thenReturn(true);
+
+            // Act
+            Token token = authenticationQueryUseCase.validateLogin(email, password);
+
+            // Assert
+            assertThat(token.getAccessToken()).isEqualTo("token");
+            verify(updateGateway, times(1)).updatePassword(email, password);
+        }
+
+        @Test
+        @DisplayName("Não deve regravar o hash quando ele já está no formato e custo configurados")
+        void shouldNotRehashPassword_WhenEncodingIsCurrent() {
+            // Arrange
+            String hashedPassword = "{bcrypt}$2a$10$hashedPassword";
+            givenValidLogin(hashedPassword);
+            when(passwordEncoder.upgradeEncoding(hashedPassword)).thenReturn(false);
+
+            // Act
+            authenticationQueryUseCase.validateLogin(email, password);
+
+            // Assert
+            verifyNoInteractions(updateGateway);
+        }
+
+        @Test
+        @DisplayName("Deve concluir o login mesmo quando a regravação do hash falha")
+        void shouldStillLogin_WhenRehashFails() {
+            // Arrange
+            String hashedPassword = "$2a$12$hashedPassword";
+            givenValidLogin(hashedPassword);
+            when(passwordEncoder.upgradeEncoding(hashedPassword)).thenReturn(true);
+            doThrow(new RuntimeException("Database unavailable")).when(updateGateway).updatePassword(email, password);
+
+            // Act
+            Token token = authenticationQueryUseCase.validateLogin(email, password);
+
+            // Assert
+            assertThat(token.getAccessToken()).isEqualTo("token");
+        }
+
+        @Test
+        @DisplayName("Não deve regravar o hash quando a senha está incorreta")
+        void shouldNotRehashPassword_WhenPasswordIsWrong() {
+            // Arrange
+            when(findByGateway.findCredentialsByEmail(eq(email)))
+                    .thenReturn(Optional.of(new UserCredentials(1L, email, "$2a$08$hashedPassword", "PACIENTE")));
+            when(passwordEncoder.matches(eq(password), any())).thenReturn(false);
+
+            // Act & Assert
+            assertThatThrownBy(() -> authenticationQueryUseCase.validateLogin(email, password))
+                    .isInstanceOf(UserCredentialsException.class);
+            verify(passwordEncoder, never()).upgradeEncoding(any());
+            verifyNoInteractions(updateGateway);
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes de Validade do Access Token")
+    class AccessTokenTtlTests {
+
+        @Test
+        @DisplayName("Deve usar a validade configurada no expiresIn e na claim exp")
+        void shouldUseConfiguredTtl_ForExpiresInAndExpClaim() {
+            // Arrange
+            String email = "joao.silva@hospital.com";
+            authenticationQueryUseCase = new AuthenticationQueryUseCaseImpl(findByGateway, updateGateway,
+                    refreshTokenGateway, passwordEncoder, jwtEncoder, Duration.ofMinutes(15));
+            when(refreshTokenGateway.consume("refresh-token")).thenReturn(Optional.of(new RefreshTokenOwner(1L, email)));
+            when(findByGateway.findCredentialsByEmail(email))
+                    .thenReturn(Optional.of(new UserCredentials(1L, email, "$2a$10$hashedPassword", "PACIENTE")));
+            when(jwt.getTokenValue()).thenReturn("token");
+            when(jwtEncoder.encode(any(JwtEncoderParameters.class))).thenReturn(jwt);
+
+            // Act
+            Token token = authenticationQueryUseCase.refresh("refresh-token");
+
+            // Assert
+            assertThat(token.getExpiresIn()).isEqualTo(900L);
+            verify(jwtEncoder).encode(argThat(parameters -> Duration.between(
+                    parameters.getClaims().getIssuedAt(), parameters.getClaims().getExpiresAt()).toSeconds() == 900));
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes de Renovação por Refresh Token")
+    class RefreshTests {
+
+        @Test
+        @DisplayName("Deve emitir novo par de tokens sem verificar a senha")
+        void shouldIssueNewTokens_WithoutCheckingPassword() {
+            // Arrange
+            String email = "joao.silva@hospital.com";
+            when(refreshTokenGateway.consume("refresh-antigo")).thenReturn(Optional.of(new RefreshTokenOwner(1L, email)));
+            when(findByGateway.findCredentialsByEmail(email))
+                    .thenReturn(Optional.of(new UserCredentials(1L, email, "$2a$10$hashedPassword", "MEDICO")));
+            when(refreshTokenGateway.issue(1L, email)).thenReturn("refresh-novo");
+            when(jwt.getTokenValue()).thenReturn("token");
+            when(jwtEncoder.encode(any(JwtEncoderParameters.class))).thenReturn(jwt);
+
+            // Act
+            Token token = authenticationQueryUseCase.refresh("refresh-antigo");
+
+            // Assert
+            assertThat(token.getAccessToken()).isEqualTo("token");
+            assertThat(token.getRefreshToken()).isEqualTo("refresh-novo");
+            verify(jwtEncoder).encode(argThat(parameters ->
+                    "medico".equals(parameters.getClaims().getClaimAsString("scope"))));
+            verifyNoInteractions(passwordEncoder);
+        }
+
+        @Test
+        @DisplayName("Deve lançar exceção quando refresh token é inválido, expirado ou já usado")
+        void shouldThrowException_WhenRefreshTokenIsInvalid() {
+            // Arrange
+            when(refreshTokenGateway.consume("refresh-invalido")).thenReturn(Optional.empty());
+
+            // Act & Assert
+            assertThatThrownBy(() -> authenticationQueryUseCase.refresh("refresh-invalido"))
+                    .isInstanceOf(UserCredentialsException.class)
+                    .hasMessage("Invalid or expired refresh token");
+            verifyNoInteractions(findByGateway, jwtEncoder);
+        }
+
+        @Test
+        @DisplayName("Deve lançar exceção quando o usuário do refresh token foi removido")
+        void shouldThrowException_WhenUserNoLongerExists() {
+            // Arrange
+            when(refreshTokenGateway.consume("refresh-orfao"))
+                    .thenReturn(Optional.of(new RefreshTokenOwner(1L, "removido@hospital.com")));
+            when(findByGateway.findCredentialsByEmail("removido@hospital.com")).thenReturn(Optional.empty());
+
+            // Act & Assert
+            assertThatThrownBy(() -> authenticationQueryUseCase.refresh("refresh-orfao"))
+                    .isInstanceOf(UserCredentialsException.class);
+            verify(refreshTokenGateway, never()).issue(any(), any());
+        }
+
+        @Test
+        @DisplayName("Deve lançar exceção quando o email foi cadastrado de novo por outro usuário")
+        void shouldThrowException_WhenEmailBelongsToAnotherUser() {
+            // Arrange
+            String email = "joao.silva@hospital.com";
+            when(refreshTokenGateway.consume("refresh-conta-antiga")).thenReturn(Optional.of(new RefreshTokenOwner(1L, email)));
+            when(findByGateway.findCredentialsByEmail(email))
+                    .thenReturn(Optional.of(new UserCredentials(2L, email, "$2a$10$hashedPassword", "PACIENTE")));
+
+            // Act & Assert
+            assertThatThrownBy(() -> authenticationQueryUseCase.refresh("refresh-conta-antiga"))
+                    .isInstanceOf(UserCredentialsException.class)
+                    .hasMessage("Invalid or expired refresh token");
+            verify(refreshTokenGateway, never()).issue(any(), any());
+            verifyNoInteractions(jwtEncoder);
+        }
+    }
+}
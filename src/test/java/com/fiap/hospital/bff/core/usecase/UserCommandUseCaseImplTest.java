@@ -1,7 +1,10 @@
 package com.fiap.hospital.bff.core.usecase;
 
 import com.fiap.hospital.bff.core.domain.model.user.User;
+import com.fiap.hospital.bff.core.domain.model.user.UserImportResult;
 import com.fiap.hospital.bff.core.outputport.DeleteGateway;
+import com.fiap.hospital.bff.core.outputport.ImportGateway;
+import com.fiap.hospital.bff.core.outputport.RefreshTokenGateway;
 import com.fiap.hospital.bff.core.outputport.SaveGateway;
 import com.fiap.hospital.bff.core.outputport.UpdateGateway;
 import com.fiap.hospital.bff.util.TestDataBuilder;
@@ -14,6 +17,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
@@ -43,6 +47,12 @@ class UserCommandUseCaseImplTest {
     
     @Mock 
     private DeleteGateway deleteGateway;
+
+    @Mock
+    private ImportGateway importGateway;
+
+    @Mock
+    private RefreshTokenGateway refreshTokenGateway;
     
     @InjectMocks
     private UserCommandUseCaseImpl userCommandUseCase;
@@ -92,6 +102,29 @@ class UserCommandUseCaseImplTest {
         }
     }
 
+    @Nested
+    @DisplayName("Testes de Importação em Lote")
+    class ImportUsersTests {
+
+        @Test
+        @DisplayName("Deve delegar o lote ao gateway de importação e devolver o resultado por usuário")
+        void shouldDelegateBatchToImportGateway() {
+            // Arrange
+            List<User> users = List.of(TestDataBuilder.createValidUserDomain(), TestDataBuilder.createValidDoctorDomain());
+            List<UserImportResult> expected = List.of(
+                    UserImportResult.created(users.get(0).getEmail()),
+                    UserImportResult.duplicate(users.get(1).getEmail()));
+            when(importGateway.importAll(users)).thenReturn(expected);
+
+            // Act
+            List<UserImportResult> results = userCommandUseCase.importUsers(users);
+
+            // Assert
+            assertThat(results).isSameAs(expected);
+            verifyNoInteractions(saveGateway);
+        }
+    }
+
     @Nested
     @DisplayName("Testes de Atualização de Usuário")
     class UpdateUserTests {
@@ -116,6 +149,24 @@ class UserCommandUseCaseImplTest {
             assertThat(actualUser.get().getEmail()).isEqualTo(expectedUser.getEmail());
             
             verify(updateGateway, times(1)).update(userId, inputUser);
+            verify(refreshTokenGateway, times(1)).revokeAll(userId);
+        }
+
+        @Test
+        @DisplayName("Não deve revogar refresh tokens quando email e senha não são alterados")
+        void shouldNotRevokeRefreshTokens_WhenEmailAndPasswordAreKept() {
+            // Arrange
+            Long userId = 1L;
+            User inputUser = new User(null, null, "novologin", null, null);
+
+            when(updateGateway.update(userId, inputUser))
+                    .thenReturn(Optional.of(TestDataBuilder.createValidUserDomain()));
+
+            // Act
+            userCommandUseCase.updateUser(userId, inputUser);
+
+            // Assert
+            verifyNoInteractions(refreshTokenGateway);
         }
 
         @Test
@@ -135,6 +186,7 @@ class UserCommandUseCaseImplTest {
             assertThat(actualUser).isEmpty();
             
             verify(updateGateway, times(1)).update(nonExistentUserId, inputUser);
+            verifyNoInteractions(refreshTokenGateway);
         }
 
         @Test
@@ -178,6 +230,7 @@ class UserCommandUseCaseImplTest {
             assertThat(deletedUser.get().getEmail()).isEqualTo(expectedDeletedUser.getEmail());
             
             verify(deleteGateway, times(1)).deleteById(userId);
+            verify(refreshTokenGateway, times(1)).revokeAll(userId);
         }
 
         @Test
@@ -195,6 +248,7 @@ class UserCommandUseCaseImplTest {
             assertThat(deletedUser).isEmpty();
             
             verify(deleteGateway, times(1)).deleteById(nonExistentUserId);
+            verifyNoInteractions(refreshTokenGateway);
         }
 
         @Test
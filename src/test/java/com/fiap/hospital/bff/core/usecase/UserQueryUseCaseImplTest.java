@@ -1,6 +1,7 @@
 package com.fiap.hospital.bff.core.usecase;
 
 import com.fiap.hospital.bff.core.domain.model.user.User;
+import com.fiap.hospital.bff.core.domain.model.user.UserPage;
 import com.fiap.hospital.bff.core.outputport.FindByGateway;
 import com.fiap.hospital.bff.util.TestDataBuilder;
 import org.junit.jupiter.api.DisplayName;
@@ -11,10 +12,9 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.util.Arrays;
-import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.eq;
@@ -24,7 +24,7 @@ import static org.mockito.Mockito.*;
  * Testes unitários para UserQueryUseCaseImpl
  * 
  * Testa as regras de negócio relacionadas às consultas de usuário:
- * - Busca de todos os usuários
+ * - Paginação e streaming de usuários
  * - Busca de usuário por ID
  * 
  * Utiliza mocks para isolar as dependências externas (gateways)
@@ -40,64 +40,34 @@ class UserQueryUseCaseImplTest {
     private UserQueryUseCaseImpl userQueryUseCase;
 
     @Nested
-    @DisplayName("Testes de Busca de Todos os Usuários")
-    class GetAllUsersTests {
+    @DisplayName("Testes de Paginação e Streaming")
+    class PageAndStreamTests {
 
         @Test
-        @DisplayName("Deve retornar lista de usuários quando existem usuários cadastrados")
-        void shouldReturnUsersList_WhenUsersExist() {
+        @DisplayName("Deve repassar filtro, cursor e limite ao gateway")
+        void shouldDelegatePageToGateway() {
             // Arrange
-            User user1 = TestDataBuilder.createValidUserDomain();
-            User user2 = TestDataBuilder.createValidDoctorDomain();
-            List<User> expectedUsers = Arrays.asList(user1, user2);
-            
-            when(findByGateway.getAll()).thenReturn(expectedUsers);
+            UserPage expectedPage = new UserPage(List.of(TestDataBuilder.createValidDoctorDomain()), 7L);
+            when(findByGateway.findPage("MEDICO", 5L, 20)).thenReturn(expectedPage);
 
             // Act
-            List<User> actualUsers = userQueryUseCase.getAllUsers();
+            UserPage actualPage = userQueryUseCase.getUsers("MEDICO", 5L, 20);
 
             // Assert
-            assertThat(actualUsers).isNotNull();
-            assertThat(actualUsers).hasSize(2);
-            assertThat(actualUsers).containsExactlyInAnyOrder(user1, user2);
-            
-            // Verificar propriedades específicas
-            assertThat(actualUsers.get(0).getNome()).isNotBlank();
-            assertThat(actualUsers.get(0).getEmail()).isNotBlank();
-            assertThat(actualUsers.get(0).getTipo()).isNotBlank();
-            
-            verify(findByGateway, times(1)).getAll();
+            assertThat(actualPage).isSameAs(expectedPage);
         }
 
         @Test
-        @DisplayName("Deve retornar lista vazia quando não existem usuários cadastrados")
-        void shouldReturnEmptyList_WhenNoUsersExist() {
+        @DisplayName("Deve repassar o consumidor ao streaming do gateway")
+        void shouldDelegateStreamToGateway() {
             // Arrange
-            when(findByGateway.getAll()).thenReturn(Collections.emptyList());
+            Consumer<User> consumer = user -> { };
 
             // Act
-            List<User> actualUsers = userQueryUseCase.getAllUsers();
+            userQueryUseCase.streamUsers(null, consumer);
 
             // Assert
-            assertThat(actualUsers).isNotNull();
-            assertThat(actualUsers).isEmpty();
-            
-            verify(findByGateway, times(1)).getAll();
-        }
-
-        @Test
-        @DisplayName("Deve propagar exceção quando gateway falha na busca de todos usuários")
-        void shouldPropagateException_WhenGatewayFailsOnGetAll() {
-            // Arrange
-            RuntimeException expectedError = new RuntimeException("Erro na busca de usuários");
-            when(findByGateway.getAll()).thenThrow(expectedError);
-
-            // Act & Assert
-            assertThatThrownBy(() -> userQueryUseCase.getAllUsers())
-                    .isInstanceOf(RuntimeException.class)
-                    .hasMessage("Erro na busca de usuários");
-            
-            verify(findByGateway, times(1)).getAll();
+            verify(findByGateway, times(1)).streamAll(null, consumer);
         }
     }
 
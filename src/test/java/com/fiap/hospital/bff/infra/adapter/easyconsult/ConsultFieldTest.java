@@ -0,0 +1,64 @@
+package com.fiap.hospital.bff.infra.adapter.easyconsult;
+
+import com.fiap.hospital.bff.infra.exception.ValidationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes unitários para ConsultField
+ *
+ * Testa a conversão do parâmetro fields:
+ * - Seleção completa quando ausente
+ * - Inclusão obrigatória do id
+ * - Rejeição de campos fora da allow-list
+ */
+@DisplayName("ConsultField - Testes Unitários")
+class ConsultFieldTest {
+
+    @Nested
+    @DisplayName("Testes de Conversão")
+    class ParseTests {
+
+        @Test
+        @DisplayName("Deve selecionar todos os campos quando fields não é informado")
+        void shouldSelectAllFields_WhenFieldsIsMissing() {
+            // Act & Assert
+            assertThat(ConsultField.parse(null)).isEqualTo(ConsultField.ALL);
+            assertThat(ConsultField.parse("  ")).isEqualTo(ConsultField.ALL);
+        }
+
+        @Test
+        @DisplayName("Deve incluir o id e ignorar espaços e itens vazios")
+        void shouldIncludeId_AndIgnoreBlankItems() {
+            // Act
+            var fields = ConsultField.parse(" date ,, statusConsultation ");
+
+            // Assert
+            assertThat(fields).containsExactlyInAnyOrder(ConsultField.ID, ConsultField.DATE, ConsultField.STATUS);
+        }
+
+        @Test
+        @DisplayName("Deve lançar ValidationException para campos fora da allow-list")
+        void shouldThrowValidationException_ForUnknownField() {
+            // Act & Assert
+            assertThatThrownBy(() -> ConsultField.parse("date,patient.email"))
+                    .isInstanceOf(ValidationException.class)
+                    .hasMessageContaining("unknown field 'patient.email'")
+                    .hasMessageContaining("statusConsultation");
+        }
+
+        @Test
+        @DisplayName("Deve lançar ValidationException quando fields não tem nenhum nome")
+        void shouldThrowValidationException_WhenNoFieldNamesGiven() {
+            // Act & Assert
+            assertThatThrownBy(() -> ConsultField.parse(","))
+                    .isInstanceOf(ValidationException.class)
+                    .hasMessageContaining("no field names given");
+            assertThatThrownBy(() -> ConsultField.parse(" , ,"))
+                    .isInstanceOf(ValidationException.class);
+        }
+    }
+}
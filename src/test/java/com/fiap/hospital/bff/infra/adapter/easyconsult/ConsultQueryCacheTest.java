@@ -0,0 +1,258 @@
+package com.fiap.hospital.bff.infra.adapter.easyconsult;
+
+import com.fiap.hospital.bff.infra.entrypoint.dto.graphql.ConsultFilterDto;
+import com.fiap.hospital.bff.infra.entrypoint.dto.graphql.GraphQLConsultResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes unitários para ConsultQueryCache
+ *
+ * Testa o cache read-through das listagens de consultas:
+ * - Reaproveitamento de resultados por filtro normalizado e escopo
+ * - Compartilhamento de cargas em andamento (single-flight)
+ * - Não armazenamento de falhas
+ * - Invalidação orientada a eventos de mutation
+ * - Publicação de métricas
+ */
+@DisplayName("ConsultQueryCache - Testes Unitários")
+class ConsultQueryCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ConsultQueryCache cache;
+    private AtomicInteger upstreamCalls;
+
+    private final GraphQLConsultResponse consult = new GraphQLConsultResponse(
+            "1", new GraphQLConsultResponse.PatientResponse("João Silva", "joao@email.com"),
+            "Enfermeira Maria", "10:30:00", "2025-10-14", "SCHEDULED", "Rotina");
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new ConsultQueryCache(Duration.ofSeconds(30), 100, meterRegistry);
+        upstreamCalls = new AtomicInteger();
+    }
+
+    @Nested
+    @DisplayName("Testes de Leitura")
+    class ReadThroughTests {
+
+        @Test
+        @DisplayName("Deve chamar o serviço apenas uma vez para filtros equivalentes do mesmo escopo")
+        void shouldCallUpstreamOnce_ForEquivalentFiltersInSameScope() {
+            // Arrange
+            var first = ConsultQueryCache.Key.of(jwt("enfermeiro", "maria@hospital.com"),
+                    new ConsultFilterDto(" joao@email.com ", null, null, "", null).normalized());
+            var second = ConsultQueryCache.Key.of(jwt("enfermeiro", "ana@hospital.com"),
+                    new ConsultFilterDto("joao@email.com", null, null, null, null).normalized());
+
+            // Act
+            var firstResult = cache.get(first, upstream()).block();
+            var secondResult = cache.get(second, upstream()).block();
+
+            // Assert
+            assertThat(firstResult).containsExactly(consult);
+            assertThat(secondResult).containsExactly(consult);
+            assertThat(upstreamCalls).hasValue(1);
+        }
+
+        @Test
+        @DisplayName("Deve separar entradas por escopo e por paciente")
+        void shouldSeparateEntries_ByScopeAndPatient() {
+            // Act
+            cache.get(ConsultQueryCache.Key.of(jwt("medico", "dr@hospital.com"), null), upstream()).block();
+            cache.get(ConsultQueryCache.Key.of(jwt("paciente", "joao@email.com"), null), upstream()).block();
+            cache.get(ConsultQueryCache.Key.of(jwt("paciente", "ana@email.com"), null), upstream()).block();
+
+            // Assert
+            assertThat(upstreamCalls).hasValue(3);
+        }
+
+        @Test
+        @DisplayName("Não deve armazenar falhas do serviço")
+        void shouldNotCacheFailures() {
+            // Arrange
+            var key = ConsultQueryCache.Key.of(jwt("medico", "dr@hospital.com"), null);
+            Mono<List<GraphQLConsultResponse>> failing = Mono.error(new IllegalStateException("down"));
+
+            // Act & Assert
+            assertThatThrownBy(() -> cache.get(key, failing).block()).hasMessageContaining("down");
+            assertThat(cache.get(key, upstream()).block()).containsExactly(consult);
+            assertThat(upstreamCalls).hasValue(1);
+        }
+
+        @Test
+        @DisplayName("Deve compartilhar a carga em andamento entre chamadas simultâneas da mesma chave")
+        void shouldShareInFlightLoad_ForConcurrentCallsWithSameKey() {
+            // Arrange
+            var key = ConsultQueryCache.Key.of(jwt("medico", "dr@hospital.com"), null);
+            Sinks.One<List<GraphQLConsultResponse>> pending = Sinks.one();
+
+            // Act
+            var first = cache.get(key, pendingUpstream(pending)).toFuture();
+            var second = cache.get(key, pendingUpstream(pending)).toFuture();
+            pending.tryEmitValue(List.of(consult));
+            cache.get(key, upstream()).block();
+
+            // Assert
+            assertThat(first.join()).containsExactly(consult);
+            assertThat(second.join()).containsExactly(consult);
+            assertThat(upstreamCalls).hasValue(1);
+            assertThat(meterRegistry.get("graphql.client.coalesced.calls").counter().count()).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("Deve publicar métricas de acertos e falhas do cache")
+        void shouldPublishHitAndMissMetrics() {
+            // Arrange
+            var key = ConsultQueryCache.Key.of(jwt("medico", "dr@hospital.com"), null);
+
+            // Act
+            cache.get(key, upstream()).block();
+            cache.get(key, upstream()).block();
+
+            // Assert
+            assertThat(meterRegistry.get("cache.gets").tag("cache", "consults").tag("result", "hit")
+                    .functionCounter().count()).isEqualTo(1.0);
+            assertThat(meterRegistry.get("cache.gets").tag("cache", "consults").tag("result", "miss")
+                    .functionCounter().count()).isEqualTo(1.0);
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes de Invalidação")
+    class InvalidationTests {
+
+        @Test
+        @DisplayName("Deve invalidar apenas filtros compatíveis quando uma consulta é criada")
+        void shouldInvalidateOnlyCompatibleFilters_WhenConsultCreated() {
+            // Arrange
+            var auth = jwt("medico", "dr@hospital.com");
+            var all = ConsultQueryCache.Key.of(auth, null);
+            var samePatient = ConsultQueryCache.Key.of(auth, new ConsultFilterDto("joao@email.com", null, null, null, null));
+            var otherPatient = ConsultQueryCache.Key.of(auth, new ConsultFilterDto("ana@email.com", null, null, null, null));
+            cache.get(all, upstream()).block();
+            cache.get(samePatient, upstream()).block();
+            cache.get(otherPatient, upstream()).block();
+
+            // Act
+            cache.onConsultChanged(new ConsultChangedEvent(ConsultChangedEvent.Operation.CREATED, consult));
+            cache.get(all, upstream()).block();
+            cache.get(samePatient, upstream()).block();
+            cache.get(otherPatient, upstream()).block();
+
+            // Assert
+            assertThat(upstreamCalls).hasValue(5);
+        }
+
+        @Test
+        @DisplayName("Deve invalidar filtros que diferem da consulta criada apenas no formato")
+        void shouldInvalidateFilters_ThatDifferOnlyInFormat() {
+            // Arrange
+            var auth = jwt("medico", "dr@hospital.com");
+            var sameConsult = ConsultQueryCache.Key.of(auth,
+                    new ConsultFilterDto("Joao@Email.com", null, "10:30", "2025-10-14", "scheduled"));
+            var otherTime = ConsultQueryCache.Key.of(auth,
+                    new ConsultFilterDto("joao@email.com", null, "11:00", null, null));
+            cache.get(sameConsult, upstream()).block();
+            cache.get(otherTime, upstream()).block();
+
+            // Act
+            cache.onConsultChanged(new ConsultChangedEvent(ConsultChangedEvent.Operation.CREATED, consult));
+            cache.get(sameConsult, upstream()).block();
+            cache.get(otherTime, upstream()).block();
+
+            // Assert
+            assertThat(upstreamCalls).hasValue(3);
+        }
+
+        @Test
+        @DisplayName("Não deve compartilhar cargas iniciadas antes de uma mutation")
+        void shouldNotShareLoadsStartedBeforeMutation() {
+            // Arrange
+            var key = ConsultQueryCache.Key.of(jwt("medico", "dr@hospital.com"), null);
+            cache.get(key, pendingUpstream(Sinks.one())).toFuture();
+
+            // Act
+            cache.onConsultChanged(new ConsultChangedEvent(ConsultChangedEvent.Operation.UPDATED, consult));
+            var afterMutation = cache.get(key, upstream()).block();
+
+            // Assert
+            assertThat(afterMutation).containsExactly(consult);
+            assertThat(upstreamCalls).hasValue(2);
+            assertThat(meterRegistry.get("graphql.client.coalesced.calls").counter().count()).isZero();
+        }
+
+        @Test
+        @DisplayName("Não deve compartilhar cargas iniciadas antes da criação de uma consulta compatível")
+        void shouldNotShareLoadsStartedBeforeCreate() {
+            // Arrange
+            var key = ConsultQueryCache.Key.of(jwt("medico", "dr@hospital.com"), null);
+            Sinks.One<List<GraphQLConsultResponse>> pending = Sinks.one();
+            var beforeCreate = cache.get(key, pendingUpstream(pending)).toFuture();
+
+            // Act
+            cache.onConsultChanged(new ConsultChangedEvent(ConsultChangedEvent.Operation.CREATED, consult));
+            pending.tryEmitValue(List.of());
+            var afterCreate = cache.get(key, upstream()).block();
+
+            // Assert
+            assertThat(beforeCreate.join()).isEmpty();
+            assertThat(afterCreate).containsExactly(consult);
+            assertThat(upstreamCalls).hasValue(2);
+            assertThat(meterRegistry.get("graphql.client.coalesced.calls").counter().count()).isZero();
+        }
+
+        @Test
+        @DisplayName("Deve invalidar todas as entradas quando uma consulta é atualizada ou removida")
+        void shouldInvalidateAllEntries_WhenConsultUpdatedOrDeleted() {
+            // Arrange
+            var auth = jwt("medico", "dr@hospital.com");
+            var otherPatient = ConsultQueryCache.Key.of(auth, new ConsultFilterDto("ana@email.com", null, null, null, null));
+            cache.get(otherPatient, upstream()).block();
+
+            // Act
+            cache.onConsultChanged(new ConsultChangedEvent(ConsultChangedEvent.Operation.DELETED, null));
+            cache.get(otherPatient, upstream()).block();
+
+            // Assert
+            assertThat(upstreamCalls).hasValue(2);
+        }
+    }
+
+    private Mono<List<GraphQLConsultResponse>> upstream() {
+        return Mono.fromSupplier(() -> {
+            upstreamCalls.incrementAndGet();
+            return List.of(consult);
+        });
+    }
+
+    private Mono<List<GraphQLConsultResponse>> pendingUpstream(Sinks.One<List<GraphQLConsultResponse>> pending) {
+        return Mono.defer(() -> {
+            upstreamCalls.incrementAndGet();
+            return pending.asMono();
+        });
+    }
+
+    private JwtAuthenticationToken jwt(String scope, String subject) {
+        Jwt jwt = Jwt.withTokenValue("jwt-token")
+                .header("alg", "RS256")
+                .subject(subject)
+                .claim("scope", scope)
+                .build();
+        return new JwtAuthenticationToken(jwt);
+    }
+}
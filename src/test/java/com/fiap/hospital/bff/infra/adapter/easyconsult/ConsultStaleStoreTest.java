@@ -0,0 +1,194 @@
+package com.fiap.hospital.bff.infra.adapter.easyconsult;
+
+import com.fiap.hospital.bff.infra.adapter.easyconsult.ConsultListing.Freshness;
+import com.fiap.hospital.bff.infra.entrypoint.dto.graphql.GraphQLConsultResponse;
+import com.fiap.hospital.bff.infra.exception.ExternalServiceException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes unitários para ConsultStaleStore
+ *
+ * Testa a última resposta boa das listagens de consultas (relógio controlado pelo teste):
+ * - Caminho normal dentro do TTL
+ * - Stale-while-revalidate com recarga em segundo plano
+ * - Stale-if-error limitado pela idade máxima
+ * - Efeito das mutations
+ */
+@DisplayName("ConsultStaleStore - Testes Unitários")
+class ConsultStaleStoreTest {
+
+    private static final ConsultQueryCache.Key KEY = new ConsultQueryCache.Key("enfermeiro", null, null, ConsultField.ALL);
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+    private final AtomicBoolean upstreamDown = new AtomicBoolean();
+
+    private SimpleMeterRegistry meterRegistry;
+    private ConsultStaleStore store;
+
+    private final GraphQLConsultResponse scheduled = consult("SCHEDULED");
+    private final GraphQLConsultResponse done = consult("DONE");
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        store = new ConsultStaleStore(Duration.ofSeconds(30), Duration.ofSeconds(60), Duration.ofMinutes(15), 100,
+                meterRegistry, nanos::get);
+    }
+
+    @Nested
+    @DisplayName("Testes de Stale-While-Revalidate")
+    class StaleWhileRevalidateTests {
+
+        @Test
+        @DisplayName("Deve seguir o caminho normal enquanto a última resposta está dentro do TTL")
+        void shouldUseFreshPath_WithinTtl() {
+            // Arrange
+            read(List.of(scheduled));
+            advance(Duration.ofSeconds(10));
+
+            // Act
+            ConsultListing listing = read(List.of(done));
+
+            // Assert
+            assertThat(listing.freshness()).isEqualTo(Freshness.FRESH);
+            assertThat(listing.consults()).containsExactly(done);
+            assertThat(upstreamCalls).hasValue(2);
+        }
+
+        @Test
+        @DisplayName("Deve servir a última resposta na hora e revalidar em segundo plano após o TTL")
+        void shouldServeStaleAndRevalidate_AfterTtl() {
+            // Arrange
+            read(List.of(scheduled));
+            advance(Duration.ofSeconds(45));
+
+            // Act
+            ConsultListing stale = read(List.of(done));
+            ConsultListing refreshed = read(List.of(done));
+
+            // Assert
+            assertThat(stale.freshness()).isEqualTo(Freshness.STALE_WHILE_REVALIDATE);
+            assertThat(stale.consults()).containsExactly(scheduled);
+            assertThat(stale.age()).isEqualTo(Duration.ofSeconds(45));
+            assertThat(refreshed.freshness()).isEqualTo(Freshness.FRESH);
+            assertThat(upstreamCalls).hasValue(3);
+            assertThat(staleResponses("revalidate")).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("Deve esperar o serviço depois de uma mutation")
+        void shouldWaitForService_AfterMutation() {
+            // Arrange
+            read(List.of(scheduled));
+            advance(Duration.ofSeconds(45));
+            store.onConsultChanged(new ConsultChangedEvent(ConsultChangedEvent.Operation.UPDATED, done));
+
+            // Act
+            ConsultListing listing = read(List.of(done));
+
+            // Assert
+            assertThat(listing.freshness()).isEqualTo(Freshness.FRESH);
+            assertThat(listing.consults()).containsExactly(done);
+        }
+
+        @Test
+        @DisplayName("Deve esperar o serviço quando a última resposta passou da janela de revalidação")
+        void shouldWaitForService_AfterRevalidateWindow() {
+            // Arrange
+            read(List.of(scheduled));
+            advance(Duration.ofSeconds(120));
+
+            // Act
+            ConsultListing listing = read(List.of(done));
+
+            // Assert
+            assertThat(listing.freshness()).isEqualTo(Freshness.FRESH);
+            assertThat(listing.consults()).containsExactly(done);
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes de Stale-If-Error")
+    class StaleIfErrorTests {
+
+        @Test
+        @DisplayName("Deve servir a última resposta quando o serviço falha")
+        void shouldServeLastGoodResponse_WhenServiceFails() {
+            // Arrange
+            read(List.of(scheduled));
+            store.onConsultChanged(new ConsultChangedEvent(ConsultChangedEvent.Operation.DELETED, null));
+            advance(Duration.ofMinutes(5));
+            upstreamDown.set(true);
+
+            // Act
+            ConsultListing listing = read(List.of(done));
+
+            // Assert
+            assertThat(listing.freshness()).isEqualTo(Freshness.STALE_IF_ERROR);
+            assertThat(listing.consults()).containsExactly(scheduled);
+            assertThat(listing.age()).isEqualTo(Duration.ofMinutes(5));
+            assertThat(staleResponses("error")).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("Deve propagar a falha quando a última resposta passou da idade máxima")
+        void shouldPropagateFailure_AfterMaxStaleness() {
+            // Arrange
+            read(List.of(scheduled));
+            advance(Duration.ofMinutes(16));
+            upstreamDown.set(true);
+
+            // Act & Assert
+            assertThatThrownBy(() -> read(List.of(done)))
+                    .isInstanceOf(ExternalServiceException.class);
+        }
+
+        @Test
+        @DisplayName("Deve propagar a falha quando não há resposta anterior")
+        void shouldPropagateFailure_WithoutPreviousResponse() {
+            // Arrange
+            upstreamDown.set(true);
+
+            // Act & Assert
+            assertThatThrownBy(() -> read(List.of(done)))
+                    .isInstanceOf(ExternalServiceException.class);
+        }
+    }
+
+    private ConsultListing read(List<GraphQLConsultResponse> response) {
+        Mono<List<GraphQLConsultResponse>> upstream = Mono.defer(() -> {
+            upstreamCalls.incrementAndGet();
+            return upstreamDown.get()
+                    ? Mono.error(new ExternalServiceException("Error executing GraphQL query: Connection refused"))
+                    : Mono.just(response);
+        });
+        return store.read(KEY, store.recording(KEY, upstream)).block();
+    }
+
+    private void advance(Duration duration) {
+        nanos.addAndGet(duration.toNanos());
+    }
+
+    private double staleResponses(String reason) {
+        return meterRegistry.get("graphql.client.stale.responses").tag("reason", reason).counter().count();
+    }
+
+    private static GraphQLConsultResponse consult(String status) {
+        return new GraphQLConsultResponse("1", new GraphQLConsultResponse.PatientResponse("João Silva", "joao@email.com"),
+                "Enfermeira Maria", "10:30:00", "2025-10-14", status, "Rotina");
+    }
+}
@@ -0,0 +1,63 @@
+package com.fiap.hospital.bff.infra.adapter.easyconsult;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes unitários para EasyConsultDocuments
+ *
+ * Testa os documentos das listagens com seleção reduzida:
+ * - Documento completo quando todos os campos são pedidos
+ * - Seleção apenas dos campos pedidos, com texto estável
+ * - Registro para as persisted queries
+ */
+@DisplayName("EasyConsultDocuments - Testes Unitários")
+class EasyConsultDocumentsTest {
+
+    @Nested
+    @DisplayName("Testes de Seleção de Campos")
+    class FieldSelectionTests {
+
+        @Test
+        @DisplayName("Deve usar o documento completo quando todos os campos são pedidos")
+        void shouldUseFullDocument_WhenAllFieldsRequested() {
+            // Act & Assert
+            assertThat(EasyConsultDocuments.getAllConsults(ConsultField.ALL)).isSameAs(EasyConsultDocuments.GET_ALL_CONSULTS);
+            assertThat(EasyConsultDocuments.getFilteredConsults(ConsultField.ALL))
+                    .isSameAs(EasyConsultDocuments.GET_FILTERED_CONSULTS);
+        }
+
+        @Test
+        @DisplayName("Deve pedir ao serviço apenas os campos selecionados")
+        void shouldSelectOnlyRequestedFields() {
+            // Act
+            GraphQlDocument document = EasyConsultDocuments.getFilteredConsults(
+                    EnumSet.of(ConsultField.STATUS, ConsultField.ID, ConsultField.DATE));
+
+            // Assert
+            assertThat(document.operationName()).isEqualTo("GetFilteredConsults");
+            assertThat(document.text())
+                    .contains("getFilteredConsults(filter: $filter)")
+                    .containsSubsequence("id", "date", "statusConsult")
+                    .doesNotContain("patient", "reason", "nameProfessional", "localTime");
+        }
+
+        @Test
+        @DisplayName("Deve reaproveitar o documento e registrá-lo para as persisted queries")
+        void shouldReuseDocument_AndRegisterForPersistedQueries() {
+            // Act
+            GraphQlDocument first = EasyConsultDocuments.getAllConsults(EnumSet.of(ConsultField.ID, ConsultField.PATIENT));
+            GraphQlDocument second = EasyConsultDocuments.getAllConsults(EnumSet.of(ConsultField.PATIENT, ConsultField.ID));
+
+            // Assert
+            assertThat(second).isSameAs(first);
+            assertThat(first.text()).contains("patient {").doesNotContain("reason");
+            assertThat(EasyConsultDocuments.find(first.text())).contains(first);
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.fiap.hospital.bff.infra.adapter.easyconsult;
+
+import com.fiap.hospital.bff.infra.exception.ExternalServiceException;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.core.IntervalFunction;
+import io.github.resilience4j.retry.RetryConfig;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiterConfig;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.graphql.client.GraphQlTransportException;
+import org.springframework.graphql.support.DefaultGraphQlRequest;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes unitários para EasyConsultResilience
+ *
+ * Testa as proteções das chamadas ao EasyConsult, com a mesma classificação de falhas da configuração:
+ * - Retry com backoff apenas para queries e falhas de transporte/timeouts
+ * - Timeout por operação
+ * - Falha rápida com circuito aberto e bulkhead cheio
+ */
+@DisplayName("EasyConsultResilience - Testes Unitários")
+class EasyConsultResilienceTest {
+
+    private EasyConsultResilience resilience;
+    private AtomicInteger attempts;
+
+    @BeforeEach
+    void setUp() {
+        CircuitBreakerConfig circuitBreakerConfig = CircuitBreakerConfig.custom()
+                .recordExceptions(GraphQlTransportException.class, TimeoutException.class)
+                .build();
+        RetryConfig retryConfig = RetryConfig.custom()
+                .maxAttempts(3)
+                .intervalFunction(IntervalFunction.ofExponentialRandomBackoff(Duration.ofMillis(10), 2, 0.5))
+                .retryExceptions(GraphQlTransportException.class, TimeoutException.class)
+                .build();
+        TimeLimiterRegistry timeLimiterRegistry = TimeLimiterRegistry.of(
+                TimeLimiterConfig.custom().timeoutDuration(Duration.ofSeconds(5)).build());
+        timeLimiterRegistry.timeLimiter("easyconsult-deleteconsult",
+                TimeLimiterConfig.custom().timeoutDuration(Duration.ofMillis(50)).build());
+
+        resilience = new EasyConsultResilience(
+                CircuitBreakerRegistry.of(circuitBreakerConfig),
+                BulkheadRegistry.of(BulkheadConfig.custom().maxConcurrentCalls(1).maxWaitDuration(Duration.ZERO).build()),
+                RetryRegistry.of(retryConfig),
+                timeLimiterRegistry);
+        attempts = new AtomicInteger();
+    }
+
+    @Nested
+    @DisplayName("Testes de Retry")
+    class RetryTests {
+
+        @Test
+        @DisplayName("Deve repetir queries com falha de transporte até obter resposta")
+        void shouldRetryQuery_OnTransportFailure() {
+            // Act
+            String result = resilience.query(EasyConsultDocuments.GET_ALL_CONSULTS, failingTimes(2)).block();
+
+            // Assert
+            assertThat(result).isEqualTo("ok");
+            assertThat(attempts).hasValue(3);
+        }
+
+        @Test
+        @DisplayName("Não deve repetir mutations")
+        void shouldNotRetryMutation() {
+            // Act & Assert
+            assertThatThrownBy(() -> resilience.mutation(EasyConsultDocuments.UPDATE_CONSULT, failingTimes(1)).block())
+                    .isInstanceOf(GraphQlTransportException.class);
+            assertThat(attempts).hasValue(1);
+        }
+
+        @Test
+        @DisplayName("Não deve repetir queries com falhas que não são de transporte")
+        void shouldNotRetryQuery_OnNonTransportFailure() {
+            // Arrange
+            Mono<String> call = Mono.defer(() -> {
+                attempts.incrementAndGet();
+                return Mono.error(new IllegalStateException("invalid response"));
+            });
+
+            // Act & Assert
+            assertThatThrownBy(() -> resilience.query(EasyConsultDocuments.GET_ALL_CONSULTS, call).block())
+                    .isInstanceOf(IllegalStateException.class);
+            assertThat(attempts).hasValue(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes de Falha Rápida")
+    class FailFastTests {
+
+        @Test
+        @DisplayName("Deve aplicar o timeout da operação e lançar ExternalServiceException")
+        void shouldApplyOperationTimeout() {
+            // Act & Assert
+            assertThatThrownBy(() -> resilience.mutation(EasyConsultDocuments.DELETE_CONSULT, Mono.never()).block())
+                    .isInstanceOf(ExternalServiceException.class)
+                    .hasMessageContaining("timed out");
+            assertThat(resilience.timeLimiter(EasyConsultDocuments.DELETE_CONSULT).getTimeLimiterConfig()
+                    .getTimeoutDuration()).isEqualTo(Duration.ofMillis(50));
+            assertThat(resilience.timeLimiter(EasyConsultDocuments.GET_ALL_CONSULTS).getTimeLimiterConfig()
+                    .getTimeoutDuration()).isEqualTo(Duration.ofSeconds(5));
+        }
+
+        @Test
+        @DisplayName("Deve falhar sem chamar o serviço quando o circuito está aberto")
+        void shouldFailFast_WhenCircuitIsOpen() {
+            // Arrange
+            resilience.circuitBreaker().transitionToOpenState();
+
+            // Act & Assert
+            assertThatThrownBy(() -> resilience.query(EasyConsultDocuments.GET_ALL_CONSULTS, failingTimes(0)).block())
+                    .isInstanceOf(ExternalServiceException.class)
+                    .hasMessageContaining("circuit breaker open");
+            assertThat(attempts).hasValue(0);
+        }
+
+        @Test
+        @DisplayName("Deve rejeitar chamadas além do limite do bulkhead")
+        void shouldReject_WhenBulkheadIsFull() {
+            // Arrange
+            resilience.query(EasyConsultDocuments.GET_ALL_CONSULTS, Mono.never()).subscribe();
+
+            // Act & Assert
+            assertThatThrownBy(() -> resilience.query(EasyConsultDocuments.GET_ALL_CONSULTS, failingTimes(0)).block())
+                    .isInstanceOf(ExternalServiceException.class)
+                    .hasMessageContaining("too many concurrent calls");
+            assertThat(attempts).hasValue(0);
+        }
+    }
+
+    private Mono<String> failingTimes(int failures) {
+        return Mono.defer(() -> attempts.incrementAndGet() <= failures
+                ? Mono.error(new GraphQlTransportException(new IOException("connection reset"),
+                        new DefaultGraphQlRequest("query { getAllConsults { id } }")))
+                : Mono.just("ok"));
+    }
+}
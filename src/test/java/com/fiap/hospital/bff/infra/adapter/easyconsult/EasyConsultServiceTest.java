@@ -1,13 +1,14 @@
 package com.fiap.hospital.bff.infra.adapter.easyconsult;
 
+import com.fiap.hospital.bff.infra.config.GraphQlClientConfig;
+import com.fiap.hospital.bff.infra.entrypoint.dto.graphql.GraphQLConsultResponse;
 import com.fiap.hospital.bff.infra.entrypoint.dto.request.ConsultRequestDto;
 import com.fiap.hospital.bff.infra.entrypoint.dto.request.PatientData;
-import com.fiap.hospital.bff.infra.entrypoint.dto.request.TypeUsers;
+import com.fiap.hospital.bff.infra.entrypoint.dto.request.ProfessionalData;
 import com.fiap.hospital.bff.infra.entrypoint.dto.graphql.ConsultUpdateRequestDto;
 import com.fiap.hospital.bff.infra.entrypoint.dto.graphql.ConsultDeleteRequestDto;
 import com.fiap.hospital.bff.infra.exception.ExternalServiceException;
-import com.fiap.hospital.bff.infra.persistence.entity.UserEntity;
-import com.fiap.hospital.bff.infra.persistence.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -15,14 +16,29 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.retry.RetryConfig;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.graphql.client.GraphQlClient;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import reactor.core.publisher.Mono;
 
+import java.time.Duration;
 import java.util.List;
-import java.util.Collections;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 /**
@@ -35,26 +51,37 @@ import static org.mockito.Mockito.*;
  * - Exclusão de consultas
  * - Tratamento de falhas de serviços externos
  * 
- * Utiliza mocks para isolar as dependências externas (GraphQL Client e UserRepository)
+ * Utiliza mocks para isolar as dependências externas (GraphQL Client e NurseRoster)
  */
 @ExtendWith(MockitoExtension.class)
 @DisplayName("EasyConsultService - Testes Unitários")
 class EasyConsultServiceTest {
 
     @Mock
-    private UserRepository userRepository;
+    private NurseRoster nurseRoster;
+
+    @Mock
+    private GraphQlClient graphQlClient;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private ConsultQueryCache consultQueryCache =
+            new ConsultQueryCache(Duration.ofSeconds(30), 100, new SimpleMeterRegistry());
+
+    @Spy
+    private ConsultStaleStore consultStaleStore = new ConsultStaleStore(Duration.ofSeconds(30), Duration.ofSeconds(60),
+            Duration.ofMinutes(15), 100, new SimpleMeterRegistry());
+
+    @Spy
+    private EasyConsultResilience resilience = new EasyConsultResilience(CircuitBreakerRegistry.ofDefaults(),
+            BulkheadRegistry.ofDefaults(), RetryRegistry.of(RetryConfig.custom().maxAttempts(1).build()),
+            TimeLimiterRegistry.ofDefaults());
     
     @InjectMocks
     private EasyConsultService easyConsultService;
 
-    private final String graphqlUrl = "http://localhost:8081/graphql";
-
-    @BeforeEach
-    void setUp() {
-        // Configurar URL GraphQL usando ReflectionTestUtils
-        ReflectionTestUtils.setField(easyConsultService, "graphqlUrl", graphqlUrl);
-    }
-
     @Nested
     @DisplayName("Testes de Seleção de Enfermeiros")
     class NurseSelectionTests {
@@ -65,32 +92,29 @@ class EasyConsultServiceTest {
             // Arrange
             ConsultRequestDto requestDto = createValidConsultRequestDto();
             
-            when(userRepository.findAllByTipo(TypeUsers.ENFERMEIRO))
-                    .thenReturn(Collections.emptyList());
+            when(nurseRoster.next()).thenThrow(new ExternalServiceException("No nurse available"));
 
             // Act & Assert
             assertThatThrownBy(() -> easyConsultService.createConsult(requestDto))
                     .isInstanceOf(ExternalServiceException.class)
                     .hasMessage("No nurse available");
             
-            verify(userRepository, times(1)).findAllByTipo(TypeUsers.ENFERMEIRO);
+            verify(nurseRoster, times(1)).next();
         }
 
         @Test
-        @DisplayName("Deve encontrar enfermeiro disponível quando existem enfermeiros cadastrados")
-        void shouldFindAvailableNurse_WhenNursesExist() {
+        @DisplayName("Deve obter enfermeiro da escala em memória ao criar consulta")
+        void shouldTakeNurseFromRoster_WhenCreatingConsult() {
             // Arrange
-            UserEntity mockNurse = createMockNurseEntity();
-            
-            when(userRepository.findAllByTipo(TypeUsers.ENFERMEIRO))
-                    .thenReturn(List.of(mockNurse));
+            when(nurseRoster.next())
+                    .thenReturn(new ProfessionalData("Enfermeira Maria", "maria.enfermeira@hospital.com"));
 
-            // Act & Assert - Como o teste vai tentar conectar ao GraphQL, vamos testar apenas se encontra o enfermeiro
-            // Verificar que o repositório foi chamado corretamente
+            // Act & Assert - sem token a criação falha, mas somente após a seleção do enfermeiro
             assertThatThrownBy(() -> easyConsultService.createConsult(createValidConsultRequestDto()))
-                    .isInstanceOf(ExternalServiceException.class); // Vai falhar na conexão GraphQL, mas passa da verificação do enfermeiro
+                    .isInstanceOf(ExternalServiceException.class)
+                    .hasMessage("No valid authentication token found");
             
-            verify(userRepository, times(1)).findAllByTipo(TypeUsers.ENFERMEIRO);
+            verify(nurseRoster, times(1)).next();
         }
     }
 
@@ -105,7 +129,7 @@ class EasyConsultServiceTest {
             SecurityContextHolder.getContext().setAuthentication(null);
 
             // Act & Assert
-            assertThatThrownBy(() -> easyConsultService.getAllConsults())
+            assertThatThrownBy(() -> easyConsultService.getAllConsults(ConsultField.ALL))
                     .isInstanceOf(ExternalServiceException.class)
                     .hasMessage("No valid authentication token found");
         }
@@ -145,6 +169,76 @@ class EasyConsultServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("Testes do Pipeline Reativo")
+    class ReactivePipelineTests {
+
+        @Mock
+        private GraphQlClient.RequestSpec requestSpec;
+
+        @Mock
+        private GraphQlClient.RetrieveSpec retrieveSpec;
+
+        @BeforeEach
+        void setUp() {
+            authenticateWithJwt();
+            when(graphQlClient.document(anyString())).thenReturn(requestSpec);
+            when(requestSpec.variables(anyMap())).thenReturn(requestSpec);
+            when(requestSpec.attribute(eq(GraphQlClientConfig.ACCESS_TOKEN_ATTRIBUTE), eq("jwt-token")))
+                    .thenReturn(requestSpec);
+            when(requestSpec.retrieve("getAllConsults")).thenReturn(retrieveSpec);
+        }
+
+        @AfterEach
+        void tearDown() {
+            SecurityContextHolder.clearContext();
+        }
+
+        @Test
+        @DisplayName("Deve retornar Mono sem bloquear e emitir as consultas quando inscrito")
+        void shouldReturnLazyMono_AndEmitConsultsOnSubscribe() {
+            // Arrange
+            GraphQLConsultResponse consult = new GraphQLConsultResponse(
+                    "1", null, "Enfermeira Maria", "10:30:00", "2025-10-14", "SCHEDULED", "Rotina");
+            AtomicBoolean subscribed = new AtomicBoolean(false);
+            when(retrieveSpec.toEntityList(GraphQLConsultResponse.class))
+                    .thenReturn(Mono.just(List.of(consult)).doOnSubscribe(s -> subscribed.set(true)));
+
+            // Act
+            Mono<ConsultListing> result = easyConsultService.getAllConsults(ConsultField.ALL);
+
+            // Assert
+            assertThat(subscribed).isFalse();
+            assertThat(result.block().consults()).containsExactly(consult);
+            assertThat(subscribed).isTrue();
+        }
+
+        @Test
+        @DisplayName("Deve converter falhas do transporte em ExternalServiceException")
+        void shouldMapTransportErrors_ToExternalServiceException() {
+            // Arrange
+            when(retrieveSpec.toEntityList(GraphQLConsultResponse.class))
+                    .thenReturn(Mono.error(new IllegalStateException("Connection refused")));
+
+            // Act & Assert
+            assertThatThrownBy(() -> easyConsultService.getAllConsults(ConsultField.ALL).block())
+                    .isInstanceOf(ExternalServiceException.class)
+                    .hasMessage("Error executing GraphQL query: Connection refused");
+        }
+
+        @Test
+        @DisplayName("Deve lançar ExternalServiceException quando o serviço não retorna dados")
+        void shouldThrowExternalServiceException_WhenResponseIsEmpty() {
+            // Arrange
+            when(retrieveSpec.toEntityList(GraphQLConsultResponse.class)).thenReturn(Mono.empty());
+
+            // Act & Assert
+            assertThatThrownBy(() -> easyConsultService.getAllConsults(ConsultField.ALL).block())
+                    .isInstanceOf(ExternalServiceException.class)
+                    .hasMessage("Null response from GraphQL query");
+        }
+    }
+
     // Métodos auxiliares para criação de objetos de teste
     private ConsultRequestDto createValidConsultRequestDto() {
         PatientData patientData = new PatientData("João Silva", "joao@email.com");
@@ -156,12 +250,11 @@ class EasyConsultServiceTest {
         );
     }
 
-    private UserEntity createMockNurseEntity() {
-        UserEntity nurse = new UserEntity();
-        nurse.setId(1L);
-        nurse.setNome("Enfermeira Maria");
-        nurse.setEmail("maria.enfermeira@hospital.com");
-        nurse.setTipo(TypeUsers.ENFERMEIRO);
-        return nurse;
+    private void authenticateWithJwt() {
+        Jwt jwt = Jwt.withTokenValue("jwt-token")
+                .header("alg", "RS256")
+                .subject("enfermeira@hospital.com")
+                .build();
+        SecurityContextHolder.getContext().setAuthentication(new JwtAuthenticationToken(jwt));
     }
 }
\ No newline at end of file
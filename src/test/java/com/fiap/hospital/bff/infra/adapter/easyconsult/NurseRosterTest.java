@@ -0,0 +1,138 @@
+package com.fiap.hospital.bff.infra.adapter.easyconsult;
+
+import com.fiap.hospital.bff.core.domain.model.user.User;
+import com.fiap.hospital.bff.infra.adapter.gateway.UserChangedEvent;
+import com.fiap.hospital.bff.infra.entrypoint.dto.request.ProfessionalData;
+import com.fiap.hospital.bff.infra.entrypoint.dto.request.TypeUsers;
+import com.fiap.hospital.bff.infra.exception.ExternalServiceException;
+import com.fiap.hospital.bff.infra.persistence.entity.UserEntity;
+import com.fiap.hospital.bff.infra.persistence.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para NurseRoster
+ *
+ * Testa a escala de enfermeiros em memória:
+ * - Distribuição round-robin das consultas
+ * - Carga única do banco entre alterações
+ * - Recarga ao receber eventos de alteração de enfermeiros
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NurseRoster - Testes Unitários")
+class NurseRosterTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private NurseRoster nurseRoster;
+
+    @BeforeEach
+    void setUp() {
+        nurseRoster = new NurseRoster(userRepository, Duration.ofMinutes(5));
+    }
+
+    @Nested
+    @DisplayName("Testes de Seleção")
+    class SelectionTests {
+
+        @Test
+        @DisplayName("Deve distribuir consultas entre enfermeiros em round-robin")
+        void shouldDistributeConsultsRoundRobin() {
+            // Arrange
+            when(userRepository.findAllByTipo(TypeUsers.ENFERMEIRO))
+                    .thenReturn(List.of(nurse("Maria", "maria@hospital.com"), nurse("Ana", "ana@hospital.com")));
+
+            // Act
+            List<String> assigned = IntStream.range(0, 4)
+                    .mapToObj(i -> nurseRoster.next().email())
+                    .toList();
+
+            // Assert
+            assertThat(assigned).containsExactly(
+                    "ana@hospital.com", "maria@hospital.com", "ana@hospital.com", "maria@hospital.com");
+        }
+
+        @Test
+        @DisplayName("Deve consultar o banco apenas uma vez entre alterações da escala")
+        void shouldLoadFromDatabaseOnlyOnce() {
+            // Arrange
+            when(userRepository.findAllByTipo(TypeUsers.ENFERMEIRO))
+                    .thenReturn(List.of(nurse("Maria", "maria@hospital.com")));
+
+            // Act
+            IntStream.range(0, 10).forEach(i -> nurseRoster.next());
+
+            // Assert
+            verify(userRepository, times(1)).findAllByTipo(TypeUsers.ENFERMEIRO);
+        }
+
+        @Test
+        @DisplayName("Deve lançar ExternalServiceException quando não há enfermeiros cadastrados")
+        void shouldThrowExternalServiceException_WhenNoNurses() {
+            // Arrange
+            when(userRepository.findAllByTipo(TypeUsers.ENFERMEIRO)).thenReturn(Collections.emptyList());
+
+            // Act & Assert
+            assertThatThrownBy(() -> nurseRoster.next())
+                    .isInstanceOf(ExternalServiceException.class)
+                    .hasMessage("No nurse available");
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes de Atualização da Escala")
+    class RefreshTests {
+
+        @Test
+        @DisplayName("Deve recarregar a escala quando um enfermeiro é criado")
+        void shouldReloadRoster_WhenNurseCreated() {
+            // Arrange
+            when(userRepository.findAllByTipo(TypeUsers.ENFERMEIRO))
+                    .thenReturn(List.of(nurse("Maria", "maria@hospital.com")))
+                    .thenReturn(List.of(nurse("Maria", "maria@hospital.com"), nurse("Ana", "ana@hospital.com")));
+            nurseRoster.next();
+
+            // Act
+            nurseRoster.onUserChanged(new UserChangedEvent(UserChangedEvent.Operation.CREATED,
+                    new User("Ana", "ana@hospital.com", "senha123456", TypeUsers.ENFERMEIRO.name())));
+
+            // Assert
+            assertThat(List.of(nurseRoster.next(), nurseRoster.next()))
+                    .extracting(ProfessionalData::email)
+                    .containsExactlyInAnyOrder("ana@hospital.com", "maria@hospital.com");
+        }
+
+        @Test
+        @DisplayName("Deve ignorar alterações de usuários que não são enfermeiros")
+        void shouldIgnoreChanges_OfNonNurseUsers() {
+            // Act
+            nurseRoster.onUserChanged(new UserChangedEvent(UserChangedEvent.Operation.CREATED,
+                    new User("João", "joao@hospital.com", "senha123456", TypeUsers.PACIENTE.name())));
+
+            // Assert
+            verifyNoInteractions(userRepository);
+        }
+    }
+
+    private UserEntity nurse(String nome, String email) {
+        return UserEntity.builder()
+                .nome(nome)
+                .email(email)
+                .tipo(TypeUsers.ENFERMEIRO)
+                .build();
+    }
+}
@@ -0,0 +1,202 @@
+package com.fiap.hospital.bff.infra.adapter.easyconsult;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fiap.hospital.bff.infra.config.GraphQlClientConfig;
+import com.fiap.hospital.bff.infra.entrypoint.dto.graphql.ConsultDeleteRequestDto;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiterConfig;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.graphql.client.GraphQlClient;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Testes do envio de Automatic Persisted Queries contra um servidor GraphQL local (stub), que
+ * implementa o protocolo de APQ: hash desconhecido, registro com o texto completo e hash já conhecido.
+ */
+@DisplayName("PersistedQueryInterceptor - Testes com servidor GraphQL local")
+class PersistedQueryInterceptorTest {
+
+    private static final String DELETE_RESPONSE = "{\"data\":{\"deleteConsult\":true}}";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<Map<String, Object>> requests = new CopyOnWriteArrayList<>();
+    private final Map<String, String> persisted = new ConcurrentHashMap<>();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private volatile boolean apqSupported = true;
+    private HttpServer server;
+    private ConnectionProvider connectionProvider;
+    private GraphQlClient graphQlClient;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/graphql", this::handle);
+        server.start();
+
+        GraphQlClientConfig config = new GraphQlClientConfig();
+        connectionProvider = config.easyConsultConnectionProvider(10, 10, Duration.ofSeconds(5),
+                Duration.ofSeconds(30), Duration.ofMinutes(5), Duration.ofSeconds(60));
+        graphQlClient = config.graphQlClient(connectionProvider,
+                "http://localhost:" + server.getAddress().getPort() + "/graphql", true, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        connectionProvider.dispose();
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("Deve registrar o documento na primeira chamada e depois enviar só o hash")
+    void shouldRegisterOnFirstCall_ThenSendOnlyHash() {
+        // Arrange
+        String hash = EasyConsultDocuments.DELETE_CONSULT.sha256Hash();
+
+        // Act
+        Boolean first = delete("1");
+        Boolean second = delete("2");
+
+        // Assert
+        assertThat(first).isTrue();
+        assertThat(second).isTrue();
+        assertThat(requests).hasSize(3);
+        assertThat(requests.get(0)).doesNotContainKey("query");
+        assertThat(requests.get(1)).containsEntry("query", EasyConsultDocuments.DELETE_CONSULT.text());
+        assertThat(requests.get(2)).doesNotContainKey("query");
+        assertThat(requests).allSatisfy(body -> assertThat(hashOf(body)).isEqualTo(hash));
+        assertThat(persisted).containsKey(hash);
+        assertThat(count("miss")).isEqualTo(1.0);
+        assertThat(count("hit")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Deve voltar ao texto completo quando o serviço não suporta persisted queries")
+    void shouldFallBackToFullText_WhenServiceDoesNotSupportApq() {
+        // Arrange
+        apqSupported = false;
+
+        // Act
+        Boolean first = delete("1");
+        Boolean second = delete("2");
+
+        // Assert
+        assertThat(first).isTrue();
+        assertThat(second).isTrue();
+        assertThat(requests).hasSize(3);
+        assertThat(requests.get(0)).doesNotContainKey("query");
+        assertThat(requests.get(1)).containsEntry("query", EasyConsultDocuments.DELETE_CONSULT.text())
+                .doesNotContainKey("extensions");
+        assertThat(requests.get(2)).containsEntry("query", EasyConsultDocuments.DELETE_CONSULT.text())
+                .doesNotContainKey("extensions");
+        assertThat(count("unsupported")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Deve enviar documentos fora do registro sem alterações")
+    void shouldSendUnregisteredDocumentsUnchanged() {
+        // Act
+        Boolean deleted = graphQlClient.document("mutation { deleteConsult(id: \"1\") }")
+                .retrieve("deleteConsult").toEntity(Boolean.class).block();
+
+        // Assert
+        assertThat(deleted).isTrue();
+        assertThat(requests).singleElement().satisfies(body -> assertThat(body)
+                .containsEntry("query", "mutation { deleteConsult(id: \"1\") }")
+                .doesNotContainKey("extensions"));
+    }
+
+    private Boolean delete(String id) {
+        authenticateWithJwt();
+        EasyConsultService service = new EasyConsultService(mock(NurseRoster.class), graphQlClient,
+                new ConsultQueryCache(Duration.ofSeconds(30), 100, meterRegistry),
+                new ConsultStaleStore(Duration.ofSeconds(30), Duration.ofSeconds(60), Duration.ofMinutes(15), 100,
+                        meterRegistry),
+                new EasyConsultResilience(CircuitBreakerRegistry.ofDefaults(),
+                        BulkheadRegistry.ofDefaults(), RetryRegistry.ofDefaults(), TimeLimiterRegistry.of(
+                                TimeLimiterConfig.custom().timeoutDuration(Duration.ofSeconds(5)).build())),
+                mock(ApplicationEventPublisher.class));
+        return service.deleteConsult(new ConsultDeleteRequestDto(id)).block();
+    }
+
+    private double count(String result) {
+        return meterRegistry.get("graphql.client.persisted.queries").tag("result", result).counter().count();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static String hashOf(Map<String, Object> body) {
+        Map<String, Object> extensions = (Map<String, Object>) body.get("extensions");
+        return extensions == null ? null : (String) ((Map<String, Object>) extensions.get("persistedQuery")).get("sha256Hash");
+    }
+
+    /**
+     * Servidor APQ mínimo: sem texto, procura o hash; com texto e hash, confere e registra.
+     */
+    @SuppressWarnings("unchecked")
+    private void handle(HttpExchange exchange) throws IOException {
+        Map<String, Object> body = objectMapper.readValue(exchange.getRequestBody(), Map.class);
+        requests.add(body);
+
+        String query = (String) body.get("query");
+        String hash = hashOf(body);
+        String response;
+        if (hash != null && !apqSupported) {
+            response = error("PersistedQueryNotSupported", "PERSISTED_QUERY_NOT_SUPPORTED");
+        } else if (hash != null && query == null) {
+            response = persisted.containsKey(hash)
+                    ? DELETE_RESPONSE
+                    : error("PersistedQueryNotFound", "PERSISTED_QUERY_NOT_FOUND");
+        } else if (hash != null && !hash.equals(GraphQlDocument.sha256(query))) {
+            response = error("provided sha does not match query", "INTERNAL_SERVER_ERROR");
+        } else {
+            if (hash != null) {
+                persisted.put(hash, query);
+            }
+            response = DELETE_RESPONSE;
+        }
+
+        byte[] bytes = response.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/graphql-response+json");
+        exchange.sendResponseHeaders(200, bytes.length);
+        exchange.getResponseBody().write(bytes);
+        exchange.close();
+    }
+
+    private static String error(String message, String code) {
+        return "{\"errors\":[{\"message\":\"" + message + "\",\"extensions\":{\"code\":\"" + code + "\"}}]}";
+    }
+
+    private static void authenticateWithJwt() {
+        Jwt jwt = Jwt.withTokenValue("jwt-token")
+                .header("alg", "RS256")
+                .subject("enfermeira@hospital.com")
+                .build();
+        SecurityContextHolder.getContext().setAuthentication(new JwtAuthenticationToken(jwt));
+    }
+}
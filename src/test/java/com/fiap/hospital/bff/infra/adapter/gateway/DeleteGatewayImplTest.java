@@ -2,7 +2,8 @@ package com.fiap.hospital.bff.infra.adapter.gateway;
 
 import com.fiap.hospital.bff.core.domain.model.user.User;
 import com.fiap.hospital.bff.infra.entrypoint.mapper.UserMapper;
-import com.fiap.hospital.bff.infra.persistence.entity.UserEntity;
+import com.fiap.hospital.bff.infra.persistence.cache.UserEntityCache;
+import com.fiap.hospital.bff.infra.persistence.projection.UserSummaryProjection;
 import com.fiap.hospital.bff.infra.persistence.repository.UserRepository;
 import com.fiap.hospital.bff.util.TestDataBuilder;
 import org.junit.jupiter.api.DisplayName;
@@ -12,6 +13,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.Optional;
 
@@ -26,6 +28,7 @@ import static org.mockito.Mockito.*;
  * - Exclusão bem-sucedida quando usuário existe
  * - Comportamento quando usuário não existe
  * - Validação de integração com repository e mapper
+ * - Exclusão em um único comando (DELETE ... RETURNING), sem buscar o usuário antes
  * 
  * Utiliza mocks para isolar dependências externas (repository, mapper)
  */
@@ -39,6 +42,15 @@ class DeleteGatewayImplTest {
     @Mock
     private UserMapper userMapper;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private UserEntityCache userEntityCache;
+
+    @Mock
+    private UserSummaryProjection deletedRow;
+
     @InjectMocks
     private DeleteGatewayImpl deleteGateway;
 
@@ -51,12 +63,10 @@ class DeleteGatewayImplTest {
         void shouldDeleteUserSuccessfully_WhenIdExists() {
             // Arrange
             Long userId = 1L;
-            UserEntity userEntity = TestDataBuilder.createValidUserEntity();
-            userEntity.setId(userId);
             User expectedUser = TestDataBuilder.createValidUserDomain();
 
-            when(userRepository.findById(userId)).thenReturn(Optional.of(userEntity));
-            when(userMapper.toUserDomain(userEntity)).thenReturn(expectedUser);
+            when(userRepository.deleteReturning(userId)).thenReturn(Optional.of(deletedRow));
+            when(userMapper.toUserDomain(deletedRow)).thenReturn(expectedUser);
 
             // Act
             Optional<User> result = deleteGateway.deleteById(userId);
@@ -65,9 +75,10 @@ class DeleteGatewayImplTest {
             assertThat(result).isPresent();
             assertThat(result.get()).isEqualTo(expectedUser);
             
-            verify(userRepository, times(1)).findById(userId);
-            verify(userMapper, times(1)).toUserDomain(userEntity);
-            verify(userRepository, times(1)).deleteById(userId);
+            verify(userRepository, times(1)).deleteReturning(userId);
+            verify(userMapper, times(1)).toUserDomain(deletedRow);
+            verify(userEntityCache, times(1)).evict(userId);
+            verify(eventPublisher, times(1)).publishEvent(any(UserChangedEvent.class));
         }
 
         @Test
@@ -76,7 +87,7 @@ class DeleteGatewayImplTest {
             // Arrange
             Long nonExistentId = 999L;
             
-            when(userRepository.findById(nonExistentId)).thenReturn(Optional.empty());
+            when(userRepository.deleteReturning(nonExistentId)).thenReturn(Optional.empty());
 
             // Act
             Optional<User> result = deleteGateway.deleteById(nonExistentId);
@@ -84,28 +95,29 @@ class DeleteGatewayImplTest {
             // Assert
             assertThat(result).isEmpty();
             
-            verify(userRepository, times(1)).findById(nonExistentId);
-            verify(userMapper, never()).toUserDomain(any(UserEntity.class));
-            verify(userRepository, never()).deleteById(any(Long.class));
+            verify(userRepository, times(1)).deleteReturning(nonExistentId);
+            verify(userMapper, never()).toUserDomain(any(UserSummaryProjection.class));
+            verify(userEntityCache, never()).evict(any());
+            verify(eventPublisher, never()).publishEvent(any());
         }
 
         @Test
-        @DisplayName("Deve propagar exceção quando repository falha na busca")
-        void shouldPropagateException_WhenRepositoryFailsOnFind() {
+        @DisplayName("Deve propagar exceção quando repository falha na exclusão")
+        void shouldPropagateException_WhenRepositoryFailsOnDelete() {
             // Arrange
             Long userId = 1L;
-            RuntimeException repositoryException = new RuntimeException("Repository error");
+            RuntimeException deleteException = new RuntimeException("Delete error");
             
-            when(userRepository.findById(userId)).thenThrow(repositoryException);
+            when(userRepository.deleteReturning(userId)).thenThrow(deleteException);
 
             // Act & Assert
             assertThatThrownBy(() -> deleteGateway.deleteById(userId))
                     .isInstanceOf(RuntimeException.class)
-                    .hasMessage("Repository error");
+                    .hasMessage("Delete error");
             
-            verify(userRepository, times(1)).findById(userId);
-            verify(userMapper, never()).toUserDomain(any(UserEntity.class));
-            verify(userRepository, never()).deleteById(any(Long.class));
+            verify(userRepository, times(1)).deleteReturning(userId);
+            verify(userMapper, never()).toUserDomain(any(UserSummaryProjection.class));
+            verify(userEntityCache, never()).evict(any());
         }
 
         @Test
@@ -113,55 +125,29 @@ class DeleteGatewayImplTest {
         void shouldPropagateException_WhenMapperFails() {
             // Arrange
             Long userId = 1L;
-            UserEntity userEntity = TestDataBuilder.createValidUserEntity();
             RuntimeException mapperException = new RuntimeException("Mapper error");
             
-            when(userRepository.findById(userId)).thenReturn(Optional.of(userEntity));
-            when(userMapper.toUserDomain(userEntity)).thenThrow(mapperException);
+            when(userRepository.deleteReturning(userId)).thenReturn(Optional.of(deletedRow));
+            when(userMapper.toUserDomain(deletedRow)).thenThrow(mapperException);
 
             // Act & Assert
             assertThatThrownBy(() -> deleteGateway.deleteById(userId))
                     .isInstanceOf(RuntimeException.class)
                     .hasMessage("Mapper error");
             
-            verify(userRepository, times(1)).findById(userId);
-            verify(userMapper, times(1)).toUserDomain(userEntity);
-            verify(userRepository, never()).deleteById(any(Long.class));
-        }
-
-        @Test
-        @DisplayName("Deve propagar exceção quando repository falha na exclusão")
-        void shouldPropagateException_WhenRepositoryFailsOnDelete() {
-            // Arrange
-            Long userId = 1L;
-            UserEntity userEntity = TestDataBuilder.createValidUserEntity();
-            User mappedUser = TestDataBuilder.createValidUserDomain();
-            RuntimeException deleteException = new RuntimeException("Delete error");
-            
-            when(userRepository.findById(userId)).thenReturn(Optional.of(userEntity));
-            when(userMapper.toUserDomain(userEntity)).thenReturn(mappedUser);
-            doThrow(deleteException).when(userRepository).deleteById(userId);
-
-            // Act & Assert
-            assertThatThrownBy(() -> deleteGateway.deleteById(userId))
-                    .isInstanceOf(RuntimeException.class)
-                    .hasMessage("Delete error");
-            
-            verify(userRepository, times(1)).findById(userId);
-            verify(userMapper, times(1)).toUserDomain(userEntity);
-            verify(userRepository, times(1)).deleteById(userId);
+            verify(userRepository, times(1)).deleteReturning(userId);
+            verify(eventPublisher, never()).publishEvent(any());
         }
 
         @Test
-        @DisplayName("Deve manter ordem correta de operações: find -> map -> delete")
-        void shouldMaintainCorrectOperationOrder_FindMapDelete() {
+        @DisplayName("Deve manter ordem correta de operações: delete -> evict -> map -> evento")
+        void shouldMaintainCorrectOperationOrder_DeleteEvictMapPublish() {
             // Arrange
             Long userId = 1L;
-            UserEntity userEntity = TestDataBuilder.createValidUserEntity();
             User expectedUser = TestDataBuilder.createValidUserDomain();
 
-            when(userRepository.findById(userId)).thenReturn(Optional.of(userEntity));
-            when(userMapper.toUserDomain(userEntity)).thenReturn(expectedUser);
+            when(userRepository.deleteReturning(userId)).thenReturn(Optional.of(deletedRow));
+            when(userMapper.toUserDomain(deletedRow)).thenReturn(expectedUser);
 
             // Act
             Optional<User> result = deleteGateway.deleteById(userId);
@@ -170,10 +156,11 @@ class DeleteGatewayImplTest {
             assertThat(result).isPresent();
             
             // Verify order of operations using InOrder
-            var inOrder = inOrder(userRepository, userMapper);
-            inOrder.verify(userRepository).findById(userId);
-            inOrder.verify(userMapper).toUserDomain(userEntity);
-            inOrder.verify(userRepository).deleteById(userId);
+            var inOrder = inOrder(userRepository, userEntityCache, userMapper, eventPublisher);
+            inOrder.verify(userRepository).deleteReturning(userId);
+            inOrder.verify(userEntityCache).evict(userId);
+            inOrder.verify(userMapper).toUserDomain(deletedRow);
+            inOrder.verify(eventPublisher).publishEvent(any(UserChangedEvent.class));
         }
 
         @Test
@@ -187,12 +174,10 @@ class DeleteGatewayImplTest {
                 reset(userRepository, userMapper);
                 
                 // Arrange
-                UserEntity userEntity = TestDataBuilder.createValidUserEntity();
-                userEntity.setId(testId);
                 User expectedUser = TestDataBuilder.createValidUserDomain();
 
-                when(userRepository.findById(testId)).thenReturn(Optional.of(userEntity));
-                when(userMapper.toUserDomain(userEntity)).thenReturn(expectedUser);
+                when(userRepository.deleteReturning(testId)).thenReturn(Optional.of(deletedRow));
+                when(userMapper.toUserDomain(deletedRow)).thenReturn(expectedUser);
 
                 // Act
                 Optional<User> result = deleteGateway.deleteById(testId);
@@ -201,9 +186,9 @@ class DeleteGatewayImplTest {
                 assertThat(result).isPresent();
                 assertThat(result.get()).isEqualTo(expectedUser);
                 
-                verify(userRepository, times(1)).findById(testId);
-                verify(userRepository, times(1)).deleteById(testId);
-                verify(userMapper, times(1)).toUserDomain(userEntity);
+                verify(userRepository, times(1)).deleteReturning(testId);
+                verify(userMapper, times(1)).toUserDomain(deletedRow);
+                verify(userEntityCache, times(1)).evict(testId);
             }
         }
     }
@@ -216,16 +201,15 @@ class DeleteGatewayImplTest {
         @DisplayName("Deve tratar ID nulo graciosamente")
         void shouldHandleNullIdGracefully() {
             // Arrange
-            when(userRepository.findById(null)).thenReturn(Optional.empty());
+            when(userRepository.deleteReturning(null)).thenReturn(Optional.empty());
             
             // Act
             Optional<User> result = deleteGateway.deleteById(null);
             
             // Assert
             assertThat(result).isEmpty();
-            verify(userRepository, times(1)).findById(null);
-            verify(userMapper, never()).toUserDomain(any(UserEntity.class));
-            verify(userRepository, never()).deleteById(any());
+            verify(userRepository, times(1)).deleteReturning(null);
+            verify(userMapper, never()).toUserDomain(any(UserSummaryProjection.class));
         }
 
         @Test
@@ -233,14 +217,14 @@ class DeleteGatewayImplTest {
         void shouldTreatZeroIdAsValid() {
             // Arrange
             Long zeroId = 0L;
-            when(userRepository.findById(zeroId)).thenReturn(Optional.empty());
+            when(userRepository.deleteReturning(zeroId)).thenReturn(Optional.empty());
 
             // Act
             Optional<User> result = deleteGateway.deleteById(zeroId);
 
             // Assert
             assertThat(result).isEmpty();
-            verify(userRepository, times(1)).findById(zeroId);
+            verify(userRepository, times(1)).deleteReturning(zeroId);
         }
 
         @Test
@@ -248,14 +232,14 @@ class DeleteGatewayImplTest {
         void shouldTreatNegativeIdAsValid() {
             // Arrange
             Long negativeId = -1L;
-            when(userRepository.findById(negativeId)).thenReturn(Optional.empty());
+            when(userRepository.deleteReturning(negativeId)).thenReturn(Optional.empty());
 
             // Act
             Optional<User> result = deleteGateway.deleteById(negativeId);
 
             // Assert
             assertThat(result).isEmpty();
-            verify(userRepository, times(1)).findById(negativeId);
+            verify(userRepository, times(1)).deleteReturning(negativeId);
         }
     }
 
@@ -264,25 +248,23 @@ class DeleteGatewayImplTest {
     class PerformanceTests {
 
         @Test
-        @DisplayName("Deve fazer apenas uma chamada para cada dependência no caso de sucesso")
-        void shouldMakeOnlyOneCallToEachDependency_OnSuccess() {
+        @DisplayName("Deve excluir com uma única chamada ao repository, sem buscar o usuário antes")
+        void shouldMakeSingleRepositoryCall_OnSuccess() {
             // Arrange
             Long userId = 1L;
-            UserEntity userEntity = TestDataBuilder.createValidUserEntity();
             User expectedUser = TestDataBuilder.createValidUserDomain();
 
-            when(userRepository.findById(userId)).thenReturn(Optional.of(userEntity));
-            when(userMapper.toUserDomain(userEntity)).thenReturn(expectedUser);
+            when(userRepository.deleteReturning(userId)).thenReturn(Optional.of(deletedRow));
+            when(userMapper.toUserDomain(deletedRow)).thenReturn(expectedUser);
 
             // Act
             deleteGateway.deleteById(userId);
 
             // Assert - Verify each dependency is called exactly once
-            verify(userRepository, times(1)).findById(userId);
-            verify(userRepository, times(1)).deleteById(userId);
-            verify(userMapper, times(1)).toUserDomain(userEntity);
+            verify(userRepository, times(1)).deleteReturning(userId);
+            verify(userMapper, times(1)).toUserDomain(deletedRow);
             
-            // Verify no additional interactions
+            // Verify no additional interactions (findById / deleteById)
             verifyNoMoreInteractions(userRepository, userMapper);
         }
 
@@ -291,17 +273,16 @@ class DeleteGatewayImplTest {
         void shouldOptimizeCalls_WhenUserDoesNotExist() {
             // Arrange
             Long nonExistentId = 999L;
-            when(userRepository.findById(nonExistentId)).thenReturn(Optional.empty());
+            when(userRepository.deleteReturning(nonExistentId)).thenReturn(Optional.empty());
 
             // Act
             deleteGateway.deleteById(nonExistentId);
 
             // Assert - Should not call expensive operations when user doesn't exist
-            verify(userRepository, times(1)).findById(nonExistentId);
-            verify(userRepository, never()).deleteById(any(Long.class));
-            verify(userMapper, never()).toUserDomain(any(UserEntity.class));
+            verify(userRepository, times(1)).deleteReturning(nonExistentId);
+            verify(userMapper, never()).toUserDomain(any(UserSummaryProjection.class));
             
             verifyNoMoreInteractions(userRepository, userMapper);
         }
     }
-}
\ No newline at end of file
+}
@@ -1,11 +1,17 @@
 package com.fiap.hospital.bff.infra.adapter.gateway;
 
 import com.fiap.hospital.bff.core.domain.model.user.User;
+import com.fiap.hospital.bff.core.domain.model.user.UserCredentials;
+import com.fiap.hospital.bff.core.domain.model.user.UserPage;
+import com.fiap.hospital.bff.infra.entrypoint.dto.request.TypeUsers;
 import com.fiap.hospital.bff.infra.entrypoint.mapper.UserMapper;
 import com.fiap.hospital.bff.infra.exception.UserNotFoundException;
 import com.fiap.hospital.bff.infra.persistence.entity.UserEntity;
+import com.fiap.hospital.bff.infra.persistence.projection.UserCredentialsProjection;
+import com.fiap.hospital.bff.infra.persistence.projection.UserSummaryProjection;
 import com.fiap.hospital.bff.infra.persistence.repository.UserRepository;
 import com.fiap.hospital.bff.util.TestDataBuilder;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -13,11 +19,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 
+import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.eq;
@@ -47,74 +55,6 @@ class FindByGatewayImplTest {
     @InjectMocks
     private FindByGatewayImpl findByGateway;
 
-    @Nested
-    @DisplayName("Testes de Busca de Todos os Usuários")
-    class GetAllUsersTests {
-
-        @Test
-        @DisplayName("Deve retornar lista de usuários quando existem registros")
-        void shouldReturnUsersList_WhenRecordsExist() {
-            // Arrange
-            UserEntity entity1 = TestDataBuilder.createValidUserEntity();
-            entity1.setId(1L);
-            UserEntity entity2 = TestDataBuilder.createValidUserEntity();
-            entity2.setId(2L);
-            entity2.setEmail("medico@hospital.com");
-            
-            List<UserEntity> entities = Arrays.asList(entity1, entity2);
-            
-            User user1 = TestDataBuilder.createValidUserDomain();
-            User user2 = TestDataBuilder.createValidDoctorDomain();
-            
-            when(userRepository.findAll()).thenReturn(entities);
-            when(userMapper.toUserDomain(any(UserEntity.class))).thenReturn(user1, user2);
-
-            // Act
-            List<User> actualUsers = findByGateway.getAll();
-
-            // Assert
-            assertThat(actualUsers).isNotNull();
-            assertThat(actualUsers).hasSize(2);
-            assertThat(actualUsers).containsExactly(user1, user2);
-            
-            verify(userRepository, times(1)).findAll();
-            verify(userMapper, times(2)).toUserDomain(any(UserEntity.class));
-        }
-
-        @Test
-        @DisplayName("Deve retornar lista vazia quando não existem registros")
-        void shouldReturnEmptyList_WhenNoRecordsExist() {
-            // Arrange
-            when(userRepository.findAll()).thenReturn(Collections.emptyList());
-
-            // Act
-            List<User> actualUsers = findByGateway.getAll();
-
-            // Assert
-            assertThat(actualUsers).isNotNull();
-            assertThat(actualUsers).isEmpty();
-            
-            verify(userRepository, times(1)).findAll();
-            verify(userMapper, never()).toUserDomain(any(UserEntity.class));
-        }
-
-        @Test
-        @DisplayName("Deve propagar exceção quando repositório falha")
-        void shouldPropagateException_WhenRepositoryFails() {
-            // Arrange
-            RuntimeException repositoryError = new RuntimeException("Erro na busca");
-            when(userRepository.findAll()).thenThrow(repositoryError);
-
-            // Act & Assert
-            assertThatThrownBy(() -> findByGateway.getAll())
-                    .isInstanceOf(RuntimeException.class)
-                    .hasMessage("Erro na busca");
-            
-            verify(userRepository, times(1)).findAll();
-            verify(userMapper, never()).toUserDomain(any(UserEntity.class));
-        }
-    }
-
     @Nested
     @DisplayName("Testes de Busca de Usuário por ID")
     class GetUserByIdTests {
@@ -124,12 +64,11 @@ class FindByGatewayImplTest {
         void shouldReturnUser_WhenIdExists() {
             // Arrange
             Long userId = 1L;
-            UserEntity userEntity = TestDataBuilder.createValidUserEntity();
-            userEntity.setId(userId);
+            UserSummaryProjection summary = mock(UserSummaryProjection.class);
             User expectedUser = TestDataBuilder.createValidUserDomain();
 
-            when(userRepository.findById(eq(userId))).thenReturn(Optional.of(userEntity));
-            when(userMapper.toUserDomain(any(UserEntity.class))).thenReturn(expectedUser);
+            when(userRepository.findSummaryById(eq(userId))).thenReturn(Optional.of(summary));
+            when(userMapper.toUserDomain(any(UserSummaryProjection.class))).thenReturn(expectedUser);
 
             // Act
             Optional<User> actualUser = findByGateway.getById(userId);
@@ -138,8 +77,8 @@ class FindByGatewayImplTest {
             assertThat(actualUser).isPresent();
             assertThat(actualUser.get()).isEqualTo(expectedUser);
             
-            verify(userRepository, times(1)).findById(userId);
-            verify(userMapper, times(1)).toUserDomain(any(UserEntity.class));
+            verify(userRepository, times(1)).findSummaryById(userId);
+            verify(userMapper, times(1)).toUserDomain(any(UserSummaryProjection.class));
         }
 
         @Test
@@ -147,7 +86,7 @@ class FindByGatewayImplTest {
         void shouldThrowException_WhenUserNotFoundById() {
             // Arrange
             Long nonExistentId = 999L;
-            when(userRepository.findById(eq(nonExistentId))).thenReturn(Optional.empty());
+            when(userRepository.findSummaryById(eq(nonExistentId))).thenReturn(Optional.empty());
 
             // Act & Assert
             assertThatThrownBy(() -> findByGateway.getById(nonExistentId))
@@ -155,8 +94,8 @@ class FindByGatewayImplTest {
                     .hasMessageContaining(nonExistentId.toString())
                     .hasMessageContaining("not found");
             
-            verify(userRepository, times(1)).findById(nonExistentId);
-            verify(userMapper, never()).toUserDomain(any(UserEntity.class));
+            verify(userRepository, times(1)).findSummaryById(nonExistentId);
+            verify(userMapper, never()).toUserDomain(any(UserSummaryProjection.class));
         }
 
         @Test
@@ -165,15 +104,15 @@ class FindByGatewayImplTest {
             // Arrange
             Long userId = 1L;
             RuntimeException repositoryError = new RuntimeException("Erro no banco");
-            when(userRepository.findById(eq(userId))).thenThrow(repositoryError);
+            when(userRepository.findSummaryById(eq(userId))).thenThrow(repositoryError);
 
             // Act & Assert
             assertThatThrownBy(() -> findByGateway.getById(userId))
                     .isInstanceOf(RuntimeException.class)
                     .hasMessage("Erro no banco");
             
-            verify(userRepository, times(1)).findById(userId);
-            verify(userMapper, never()).toUserDomain(any(UserEntity.class));
+            verify(userRepository, times(1)).findSummaryById(userId);
+            verify(userMapper, never()).toUserDomain(any(UserSummaryProjection.class));
         }
     }
 
@@ -269,32 +208,151 @@ class FindByGatewayImplTest {
         }
     }
 
+    @Nested
+    @DisplayName("Testes de Busca de Credenciais por Email")
+    class FindCredentialsByEmailTests {
+
+        @Test
+        @DisplayName("Deve retornar credenciais projetadas sem carregar a entidade completa")
+        void shouldReturnProjectedCredentials_WithoutLoadingEntity() {
+            // Arrange
+            String email = "joao.silva@hospital.com";
+            UserCredentialsProjection projection = mock(UserCredentialsProjection.class);
+            when(projection.getEmail()).thenReturn(email);
+            when(projection.getSenha()).thenReturn("$2a$10$hashedPassword");
+            when(projection.getTipo()).thenReturn(TypeUsers.MEDICO);
+            when(userRepository.findCredentialsByEmail(eq(email))).thenReturn(Optional.of(projection));
+
+            // Act
+            Optional<UserCredentials> credentials = findByGateway.findCredentialsByEmail(email);
+
+            // Assert
+            assertThat(credentials).isPresent();
+            assertThat(credentials.get().getEmail()).isEqualTo(email);
+            assertThat(credentials.get().getSenha()).isEqualTo("$2a$10$hashedPassword");
+            assertThat(credentials.get().getTipo()).isEqualTo("MEDICO");
+
+            verify(userRepository, times(1)).findCredentialsByEmail(email);
+            verify(userRepository, never()).findByEmail(any());
+            verifyNoInteractions(userMapper);
+        }
+
+        @Test
+        @DisplayName("Deve retornar Optional.empty quando email não existe")
+        void shouldReturnEmptyOptional_WhenEmailDoesNotExist() {
+            // Arrange
+            when(userRepository.findCredentialsByEmail(eq("naoexiste@hospital.com"))).thenReturn(Optional.empty());
+
+            // Act
+            Optional<UserCredentials> credentials = findByGateway.findCredentialsByEmail("naoexiste@hospital.com");
+
+            // Assert
+            assertThat(credentials).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes de Paginação e Streaming")
+    class PageAndStreamTests {
+
+        @BeforeEach
+        void useRealProjectionMapping() {
+            UserMapper realMapper = new UserMapper();
+            lenient().when(userMapper.toUserDomain(any(UserSummaryProjection.class)))
+                    .thenAnswer(invocation -> realMapper.toUserDomain(invocation.<UserSummaryProjection>getArgument(0)));
+        }
+
+        @Test
+        @DisplayName("Deve buscar uma linha a mais e indicar o cursor da próxima página")
+        void shouldFetchOneExtraRow_AndReturnNextCursor() {
+            // Arrange
+            List<UserSummaryProjection> rows = List.of(
+                    summary(11L, "a@hospital.com", TypeUsers.PACIENTE),
+                    summary(12L, "b@hospital.com", TypeUsers.PACIENTE),
+                    summary(13L, "c@hospital.com", TypeUsers.PACIENTE));
+            when(userRepository.findByIdGreaterThanOrderByIdAsc(10L, Limit.of(3))).thenReturn(rows);
+
+            // Act
+            UserPage page = findByGateway.findPage(null, 10L, 2);
+
+            // Assert
+            assertThat(page.getUsers()).extracting(User::getEmail).containsExactly("a@hospital.com", "b@hospital.com");
+            assertThat(page.getUsers()).allSatisfy(user -> assertThat(user.getSenha()).isNull());
+            assertThat(page.getNextAfterId()).isEqualTo(12L);
+        }
+
+        @Test
+        @DisplayName("Deve filtrar por tipo e não indicar próxima página na última página")
+        void shouldFilterByTipo_AndReturnNoCursorOnLastPage() {
+            // Arrange
+            List<UserSummaryProjection> rows = List.of(summary(3L, "dr@hospital.com", TypeUsers.MEDICO));
+            when(userRepository.findByTipoAndIdGreaterThanOrderByIdAsc(TypeUsers.MEDICO, 0L, Limit.of(51))).thenReturn(rows);
+
+            // Act
+            UserPage page = findByGateway.findPage("MEDICO", null, 50);
+
+            // Assert
+            assertThat(page.getUsers()).hasSize(1);
+            assertThat(page.getUsers().get(0).getTipo()).isEqualTo("MEDICO");
+            assertThat(page.getNextAfterId()).isNull();
+            verify(userRepository, never()).findByIdGreaterThanOrderByIdAsc(any(), any());
+        }
+
+        @Test
+        @DisplayName("Deve entregar cada usuário do stream ao consumidor e fechar o stream")
+        void shouldStreamUsersToConsumer_AndCloseStream() {
+            // Arrange
+            List<String> closed = new ArrayList<>();
+            Stream<UserSummaryProjection> rows = Stream.of(
+                            summary(1L, "a@hospital.com", TypeUsers.ENFERMEIRO),
+                            summary(2L, "b@hospital.com", TypeUsers.ENFERMEIRO))
+                    .onClose(() -> closed.add("closed"));
+            when(userRepository.streamByTipoOrderByIdAsc(TypeUsers.ENFERMEIRO)).thenReturn(rows);
+            List<User> received = new ArrayList<>();
+
+            // Act
+            findByGateway.streamAll("ENFERMEIRO", received::add);
+
+            // Assert
+            assertThat(received).extracting(User::getEmail).containsExactly("a@hospital.com", "b@hospital.com");
+            assertThat(closed).containsExactly("closed");
+        }
+
+        private UserSummaryProjection summary(Long id, String email, TypeUsers tipo) {
+            UserSummaryProjection projection = mock(UserSummaryProjection.class);
+            lenient().when(projection.getId()).thenReturn(id);
+            lenient().when(projection.getNome()).thenReturn("Usuário " + id);
+            lenient().when(projection.getEmail()).thenReturn(email);
+            lenient().when(projection.getLogin()).thenReturn("login" + id);
+            lenient().when(projection.getTipo()).thenReturn(tipo);
+            return projection;
+        }
+    }
+
     @Nested
     @DisplayName("Testes de Integração entre Métodos")
     class IntegrationTests {
 
         @Test
-        @DisplayName("Deve manter consistência entre getAll e getById")
-        void shouldMaintainConsistency_BetweenGetAllAndGetById() {
+        @DisplayName("Deve manter consistência entre findPage e getById")
+        void shouldMaintainConsistency_BetweenFindPageAndGetById() {
             // Arrange
-            UserEntity entity1 = TestDataBuilder.createValidUserEntity();
-            entity1.setId(1L);
-            UserEntity entity2 = TestDataBuilder.createValidUserEntity();
-            entity2.setId(2L);
+            UserSummaryProjection row1 = mock(UserSummaryProjection.class);
+            UserSummaryProjection row2 = mock(UserSummaryProjection.class);
             
             User user1 = TestDataBuilder.createValidUserDomain();
             User user2 = TestDataBuilder.createValidUserDomain();
 
-            // Configurar mocks para getAll
-            when(userRepository.findAll()).thenReturn(Arrays.asList(entity1, entity2));
-            when(userMapper.toUserDomain(any(UserEntity.class))).thenReturn(user1, user2);
+            // Configurar mocks para findPage
+            when(userRepository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(11))).thenReturn(Arrays.asList(row1, row2));
+            when(userMapper.toUserDomain(any(UserSummaryProjection.class))).thenReturn(user1, user2);
 
             // Configurar mocks para getById
-            when(userRepository.findById(eq(1L))).thenReturn(Optional.of(entity1));
-            when(userRepository.findById(eq(2L))).thenReturn(Optional.of(entity2));
+            when(userRepository.findSummaryById(eq(1L))).thenReturn(Optional.of(row1));
+            when(userRepository.findSummaryById(eq(2L))).thenReturn(Optional.of(row2));
 
             // Act
-            List<User> allUsers = findByGateway.getAll();
+            List<User> allUsers = findByGateway.findPage(null, null, 10).getUsers();
             Optional<User> userById1 = findByGateway.getById(1L);
             Optional<User> userById2 = findByGateway.getById(2L);
 
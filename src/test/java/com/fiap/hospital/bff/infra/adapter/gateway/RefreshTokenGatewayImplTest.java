@@ -0,0 +1,170 @@
+package com.fiap.hospital.bff.infra.adapter.gateway;
+
+import com.fiap.hospital.bff.core.domain.model.token.RefreshTokenOwner;
+import com.fiap.hospital.bff.infra.persistence.entity.RefreshTokenEntity;
+import com.fiap.hospital.bff.infra.persistence.repository.RefreshTokenRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para RefreshTokenGatewayImpl
+ *
+ * Testa a emissão, o consumo (uso único), a revogação e a limpeza de refresh tokens opacos,
+ * garantindo que apenas o hash do token é persistido.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RefreshTokenGateway - Testes Unitários")
+class RefreshTokenGatewayImplTest {
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
+    private RefreshTokenGatewayImpl refreshTokenGateway;
+
+    @BeforeEach
+    void setUp() {
+        refreshTokenGateway = new RefreshTokenGatewayImpl(refreshTokenRepository, Duration.ofDays(7));
+    }
+
+    @Nested
+    @DisplayName("Testes de Emissão")
+    class IssueTests {
+
+        @Test
+        @DisplayName("Deve persistir apenas o hash do token com a validade configurada")
+        void shouldPersistOnlyTokenHash() {
+            // Act
+            String refreshToken = refreshTokenGateway.issue(1L, "joao.silva@hospital.com");
+
+            // Assert
+            ArgumentCaptor<RefreshTokenEntity> captor = ArgumentCaptor.forClass(RefreshTokenEntity.class);
+            verify(refreshTokenRepository).save(captor.capture());
+            RefreshTokenEntity saved = captor.getValue();
+
+            assertThat(refreshToken).hasSize(43);
+            assertThat(saved.getTokenHash()).hasSize(64).isNotEqualTo(refreshToken);
+            assertThat(saved.getUserId()).isEqualTo(1L);
+            assertThat(saved.getEmail()).isEqualTo("joao.silva@hospital.com");
+            assertThat(saved.getExpiresAt()).isBetween(Instant.now().plus(Duration.ofDays(7)).minusSeconds(5),
+                    Instant.now().plus(Duration.ofDays(7)));
+            verify(refreshTokenRepository, never()).deleteExpired(any()); // Expirados saem pela tarefa periódica
+        }
+
+        @Test
+        @DisplayName("Deve gerar tokens diferentes a cada emissão")
+        void shouldGenerateDistinctTokens() {
+            assertThat(refreshTokenGateway.issue(1L, "joao.silva@hospital.com"))
+                    .isNotEqualTo(refreshTokenGateway.issue(1L, "joao.silva@hospital.com"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes de Consumo")
+    class ConsumeTests {
+
+        @Test
+        @DisplayName("Deve retornar o dono do token e removê-lo quando válido")
+        void shouldReturnOwnerAndDeleteToken_WhenValid() {
+            // Arrange
+            when(refreshTokenRepository.findByTokenHash(anyString()))
+                    .thenReturn(Optional.of(entity(Instant.now().plusSeconds(60))));
+            when(refreshTokenRepository.deleteByTokenHash(anyString())).thenReturn(1);
+
+            // Act
+            Optional<RefreshTokenOwner> owner = refreshTokenGateway.consume("refresh-token");
+
+            // Assert
+            assertThat(owner).hasValueSatisfying(found -> {
+                assertThat(found.getUserId()).isEqualTo(1L);
+                assertThat(found.getEmail()).isEqualTo("joao.silva@hospital.com");
+            });
+        }
+
+        @Test
+        @DisplayName("Deve rejeitar token já consumido por uma renovação concorrente")
+        void shouldReject_WhenTokenWasConsumedConcurrently() {
+            // Arrange
+            when(refreshTokenRepository.findByTokenHash(anyString()))
+                    .thenReturn(Optional.of(entity(Instant.now().plusSeconds(60))));
+            when(refreshTokenRepository.deleteByTokenHash(anyString())).thenReturn(0);
+
+            // Act & Assert
+            assertThat(refreshTokenGateway.consume("refresh-token")).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Deve rejeitar e remover token expirado")
+        void shouldRejectAndDelete_WhenTokenExpired() {
+            // Arrange
+            when(refreshTokenRepository.findByTokenHash(anyString()))
+                    .thenReturn(Optional.of(entity(Instant.now().minusSeconds(1))));
+            when(refreshTokenRepository.deleteByTokenHash(anyString())).thenReturn(1);
+
+            // Act & Assert
+            assertThat(refreshTokenGateway.consume("refresh-token")).isEmpty();
+            verify(refreshTokenRepository).deleteByTokenHash(anyString());
+        }
+
+        @Test
+        @DisplayName("Deve rejeitar token desconhecido")
+        void shouldReject_WhenTokenUnknown() {
+            // Arrange
+            when(refreshTokenRepository.findByTokenHash(anyString())).thenReturn(Optional.empty());
+
+            // Act & Assert
+            assertThat(refreshTokenGateway.consume("refresh-token")).isEmpty();
+            verify(refreshTokenRepository, never()).deleteByTokenHash(anyString());
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes de Revogação")
+    class RevokeTests {
+
+        @Test
+        @DisplayName("Deve revogar todos os tokens pelo id do usuário")
+        void shouldRevokeAllTokensByUserId() {
+            // Act
+            refreshTokenGateway.revokeAll(1L);
+
+            // Assert
+            verify(refreshTokenRepository).deleteByUserId(1L);
+        }
+
+        @Test
+        @DisplayName("Deve remover os tokens expirados na tarefa periódica")
+        void shouldPurgeExpiredTokens() {
+            // Act
+            refreshTokenGateway.purgeExpired();
+
+            // Assert
+            ArgumentCaptor<Instant> captor = ArgumentCaptor.forClass(Instant.class);
+            verify(refreshTokenRepository).deleteExpired(captor.capture());
+            assertThat(captor.getValue()).isBetween(Instant.now().minusSeconds(5), Instant.now());
+        }
+    }
+
+    private static RefreshTokenEntity entity(Instant expiresAt) {
+        return RefreshTokenEntity.builder()
+                .tokenHash("hash")
+                .userId(1L)
+                .email("joao.silva@hospital.com")
+                .expiresAt(expiresAt)
+                .build();
+    }
+}
@@ -12,10 +12,13 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.hibernate.exception.ConstraintViolationException;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.crypto.password.PasswordEncoder;
 
-import java.util.Optional;
+import java.sql.SQLException;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -27,7 +30,7 @@ import static org.mockito.Mockito.*;
  * 
  * Testa as regras de negócio relacionadas ao salvamento de usuários:
  * - Criação de novos usuários
- * - Validação de unicidade de email
+ * - Unicidade de email pelo índice único (violação traduzida)
  * - Criptografia de senhas
  * - Integração com repositório e mapper
  * 
@@ -44,8 +47,11 @@ class SaveGatewayImplTest {
     private UserMapper userMapper;
     
     @Mock
-    private BCryptPasswordEncoder passwordEncoder;
+    private PasswordEncoder passwordEncoder;
     
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private SaveGatewayImpl saveGateway;
 
@@ -65,10 +71,9 @@ class SaveGatewayImplTest {
             String encodedPassword = "$2a$10$encodedPassword";
 
             // Configurar mocks
-            when(userRepository.findByEmail(eq(inputUser.getEmail()))).thenReturn(Optional.empty());
             when(passwordEncoder.encode("senha123456")).thenReturn(encodedPassword); // Senha original do TestDataBuilder
             when(userMapper.toUserEntity(any(User.class))).thenReturn(mappedEntity);
-            when(userRepository.save(eq(mappedEntity))).thenReturn(savedEntity);
+            when(userRepository.saveAndFlush(eq(mappedEntity))).thenReturn(savedEntity);
             when(userMapper.toUserDomain(eq(savedEntity))).thenReturn(expectedUser);
 
             // Act
@@ -79,21 +84,25 @@ class SaveGatewayImplTest {
             assertThat(actualUser).isEqualTo(expectedUser);
 
             // Verificar interações
-            verify(userRepository, times(1)).findByEmail(inputUser.getEmail());
+            verify(userRepository, never()).findByEmail(any());
             verify(passwordEncoder, times(1)).encode("senha123456"); // Senha original do TestDataBuilder
             verify(userMapper, times(1)).toUserEntity(any(User.class));
-            verify(userRepository, times(1)).save(mappedEntity);
+            verify(userRepository, times(1)).saveAndFlush(mappedEntity);
             verify(userMapper, times(1)).toUserDomain(savedEntity);
+            verify(eventPublisher, times(1))
+                    .publishEvent(new UserChangedEvent(UserChangedEvent.Operation.CREATED, expectedUser));
         }
 
         @Test
-        @DisplayName("Deve lançar exceção quando email já existe")
+        @DisplayName("Deve lançar exceção quando o índice único de email é violado")
         void shouldThrowException_WhenEmailAlreadyExists() {
             // Arrange
             User inputUser = TestDataBuilder.createValidUserDomain();
-            UserEntity existingUser = TestDataBuilder.createValidUserEntity();
+            UserEntity mappedEntity = TestDataBuilder.createValidUserEntity();
 
-            when(userRepository.findByEmail(eq(inputUser.getEmail()))).thenReturn(Optional.of(existingUser));
+            when(passwordEncoder.encode(any())).thenReturn("$2a$10$encodedPassword");
+            when(userMapper.toUserEntity(any(User.class))).thenReturn(mappedEntity);
+            when(userRepository.saveAndFlush(eq(mappedEntity))).thenThrow(integrityViolation("PUBLIC.UK_USUARIOS_EMAIL"));
 
             // Act & Assert
             assertThatThrownBy(() -> saveGateway.save(inputUser))
@@ -101,11 +110,26 @@ class SaveGatewayImplTest {
                     .hasMessageContaining(inputUser.getEmail())
                     .hasMessageContaining("is already registered");
 
-            // Verificar que não houve tentativa de salvar
-            verify(userRepository, times(1)).findByEmail(inputUser.getEmail());
-            verify(passwordEncoder, never()).encode(any());
-            verify(userMapper, never()).toUserEntity(any());
-            verify(userRepository, never()).save(any());
+            // Verificar que não houve consulta prévia nem evento
+            verify(userRepository, never()).findByEmail(any());
+            verify(userMapper, never()).toUserDomain(any(UserEntity.class));
+            verifyNoInteractions(eventPublisher);
+        }
+
+        @Test
+        @DisplayName("Deve propagar violações de integridade que não são de email duplicado")
+        void shouldPropagateOtherIntegrityViolations() {
+            // Arrange
+            User inputUser = TestDataBuilder.createValidUserDomain();
+            UserEntity mappedEntity = TestDataBuilder.createValidUserEntity();
+            DataIntegrityViolationException violation = integrityViolation("usuarios_tipo_check");
+
+            when(passwordEncoder.encode(any())).thenReturn("$2a$10$encodedPassword");
+            when(userMapper.toUserEntity(any(User.class))).thenReturn(mappedEntity);
+            when(userRepository.saveAndFlush(eq(mappedEntity))).thenThrow(violation);
+
+            // Act & Assert
+            assertThatThrownBy(() -> saveGateway.save(inputUser)).isSameAs(violation);
         }
 
         @Test
@@ -121,10 +145,9 @@ class SaveGatewayImplTest {
             UserEntity savedEntity = TestDataBuilder.createValidUserEntity();
             User expectedUser = TestDataBuilder.createValidUserDomain();
 
-            when(userRepository.findByEmail(eq(inputUser.getEmail()))).thenReturn(Optional.empty());
             when(passwordEncoder.encode(eq(originalPassword))).thenReturn(encodedPassword);
             when(userMapper.toUserEntity(any(User.class))).thenReturn(mappedEntity);
-            when(userRepository.save(eq(mappedEntity))).thenReturn(savedEntity);
+            when(userRepository.saveAndFlush(eq(mappedEntity))).thenReturn(savedEntity);
             when(userMapper.toUserDomain(eq(savedEntity))).thenReturn(expectedUser);
 
             // Act
@@ -146,17 +169,16 @@ class SaveGatewayImplTest {
             String encodedPassword = "$2a$10$encodedPassword";
             RuntimeException repositoryError = new RuntimeException("Erro no banco de dados");
 
-            when(userRepository.findByEmail(eq(inputUser.getEmail()))).thenReturn(Optional.empty());
             when(passwordEncoder.encode(eq(inputUser.getSenha()))).thenReturn(encodedPassword);
             when(userMapper.toUserEntity(any(User.class))).thenReturn(mappedEntity);
-            when(userRepository.save(eq(mappedEntity))).thenThrow(repositoryError);
+            when(userRepository.saveAndFlush(eq(mappedEntity))).thenThrow(repositoryError);
 
             // Act & Assert
             assertThatThrownBy(() -> saveGateway.save(inputUser))
                     .isInstanceOf(RuntimeException.class)
                     .hasMessage("Erro no banco de dados");
 
-            verify(userRepository, times(1)).save(mappedEntity);
+            verify(userRepository, times(1)).saveAndFlush(mappedEntity);
         }
 
         @Test
@@ -166,7 +188,6 @@ class SaveGatewayImplTest {
             User inputUser = TestDataBuilder.createValidUserDomain();
             RuntimeException encoderError = new RuntimeException("Erro na criptografia");
 
-            when(userRepository.findByEmail(eq(inputUser.getEmail()))).thenReturn(Optional.empty());
             when(passwordEncoder.encode(eq(inputUser.getSenha()))).thenThrow(encoderError);
 
             // Act & Assert
@@ -176,7 +197,7 @@ class SaveGatewayImplTest {
 
             verify(passwordEncoder, times(1)).encode(inputUser.getSenha());
             verify(userMapper, never()).toUserEntity(any());
-            verify(userRepository, never()).save(any());
+            verify(userRepository, never()).saveAndFlush(any());
         }
 
         @Test
@@ -191,7 +212,7 @@ class SaveGatewayImplTest {
 
             // Assert
             assertThat(savedDoctor).isNotNull();
-            verify(userRepository, times(1)).findByEmail(doctorUser.getEmail());
+            verify(userRepository, times(1)).saveAndFlush(any());
 
             // Reset mocks para próximo teste
             reset(userRepository, passwordEncoder, userMapper);
@@ -205,7 +226,7 @@ class SaveGatewayImplTest {
 
             // Assert
             assertThat(savedPatient).isNotNull();
-            verify(userRepository, times(1)).findByEmail(patientUser.getEmail());
+            verify(userRepository, times(1)).saveAndFlush(any());
         }
 
         private void setupSuccessfulSaveMocks(User inputUser) {
@@ -215,11 +236,16 @@ class SaveGatewayImplTest {
             User expectedUser = TestDataBuilder.createValidUserDomain();
             String encodedPassword = "$2a$10$encodedPassword";
 
-            when(userRepository.findByEmail(eq(inputUser.getEmail()))).thenReturn(Optional.empty());
             when(passwordEncoder.encode(eq(inputUser.getSenha()))).thenReturn(encodedPassword);
             when(userMapper.toUserEntity(any(User.class))).thenReturn(mappedEntity);
-            when(userRepository.save(eq(mappedEntity))).thenReturn(savedEntity);
+            when(userRepository.saveAndFlush(eq(mappedEntity))).thenReturn(savedEntity);
             when(userMapper.toUserDomain(eq(savedEntity))).thenReturn(expectedUser);
         }
     }
-}
\ No newline at end of file
+
+    private static DataIntegrityViolationException integrityViolation(String constraintName) {
+        SQLException sqlException = new SQLException("constraint violated", "23505");
+        return new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("could not execute statement", sqlException, constraintName));
+    }
+}
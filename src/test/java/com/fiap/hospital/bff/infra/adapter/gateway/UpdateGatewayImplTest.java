@@ -2,7 +2,9 @@ package com.fiap.hospital.bff.infra.adapter.gateway;
 
 import com.fiap.hospital.bff.core.domain.model.user.User;
 import com.fiap.hospital.bff.infra.entrypoint.mapper.UserMapper;
+import com.fiap.hospital.bff.infra.persistence.cache.UserEntityCache;
 import com.fiap.hospital.bff.infra.persistence.entity.UserEntity;
+import com.fiap.hospital.bff.infra.persistence.projection.UserSummaryProjection;
 import com.fiap.hospital.bff.infra.persistence.repository.UserRepository;
 import com.fiap.hospital.bff.util.TestDataBuilder;
 import org.junit.jupiter.api.DisplayName;
@@ -12,7 +14,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.util.Optional;
 
@@ -27,6 +30,7 @@ import static org.mockito.Mockito.*;
  * - Atualização de dados do usuário
  * - Atualização de senha
  * - Validação de cenários de erro
+ * - Atualização em um único comando (UPDATE ... RETURNING), sem carregar a entidade
  * 
  * Utiliza mocks para isolar dependências externas (repository, mapper, passwordEncoder)
  */
@@ -41,7 +45,16 @@ class UpdateGatewayImplTest {
     private UserMapper userMapper;
 
     @Mock
-    private BCryptPasswordEncoder passwordEncoder;
+    private PasswordEncoder passwordEncoder;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private UserEntityCache userEntityCache;
+
+    @Mock
+    private UserSummaryProjection updatedRow;
 
     @InjectMocks
     private UpdateGatewayImpl updateGateway;
@@ -56,14 +69,12 @@ class UpdateGatewayImplTest {
             // Arrange
             Long userId = 1L;
             User inputUser = TestDataBuilder.createValidUserDomain();
-            UserEntity existingEntity = TestDataBuilder.createValidUserEntity();
-            UserEntity savedEntity = TestDataBuilder.createValidUserEntity();
             User expectedUser = TestDataBuilder.createValidUserDomain();
 
-            when(userRepository.findById(userId)).thenReturn(Optional.of(existingEntity));
             when(passwordEncoder.encode(anyString())).thenReturn("encoded_password");
-            when(userRepository.save(any(UserEntity.class))).thenReturn(savedEntity);
-            when(userMapper.toUserDomain(savedEntity)).thenReturn(expectedUser);
+            when(userRepository.updateReturning(userId, inputUser.getEmail(), inputUser.getLogin(), "encoded_password"))
+                    .thenReturn(Optional.of(updatedRow));
+            when(userMapper.toUserDomain(updatedRow)).thenReturn(expectedUser);
 
             // Act
             Optional<User> result = updateGateway.update(userId, inputUser);
@@ -72,9 +83,10 @@ class UpdateGatewayImplTest {
             assertThat(result).isPresent();
             assertThat(result.get()).isEqualTo(expectedUser);
             
-            verify(userRepository, times(1)).findById(userId);
-            verify(userRepository, times(1)).save(any(UserEntity.class));
-            verify(userMapper, times(1)).toUserDomain(savedEntity);
+            verify(userRepository, times(1)).updateReturning(userId, inputUser.getEmail(), inputUser.getLogin(), "encoded_password");
+            verify(userMapper, times(1)).toUserDomain(updatedRow);
+            verify(userEntityCache, times(1)).evict(userId);
+            verify(eventPublisher, times(1)).publishEvent(any(UserChangedEvent.class));
         }
 
         @Test
@@ -82,9 +94,9 @@ class UpdateGatewayImplTest {
         void shouldReturnEmptyOptional_WhenUserDoesNotExist() {
             // Arrange
             Long nonExistentId = 999L;
-            User inputUser = TestDataBuilder.createValidUserDomain();
+            User inputUser = new User(null, "novo@email.com", null, null, null);
 
-            when(userRepository.findById(nonExistentId)).thenReturn(Optional.empty());
+            when(userRepository.updateReturning(nonExistentId, "novo@email.com", null, null)).thenReturn(Optional.empty());
 
             // Act
             Optional<User> result = updateGateway.update(nonExistentId, inputUser);
@@ -92,24 +104,38 @@ class UpdateGatewayImplTest {
             // Assert
             assertThat(result).isEmpty();
             
-            verify(userRepository, times(1)).findById(nonExistentId);
-            verify(userRepository, never()).save(any(UserEntity.class));
-            verify(userMapper, never()).toUserDomain(any(UserEntity.class));
+            verify(userMapper, never()).toUserDomain(any(UserSummaryProjection.class));
+            verify(userEntityCache, never()).evict(any());
+            verify(eventPublisher, never()).publishEvent(any());
         }
 
         @Test
-        @DisplayName("Deve atualizar apenas campos não nulos")
+        @DisplayName("Deve atualizar com um único comando, sem carregar nem salvar a entidade")
+        void shouldUpdateWithSingleStatement_WithoutLoadingEntity() {
+            // Arrange
+            Long userId = 1L;
+            User partialUpdate = new User(null, "novo@email.com", null, null, null);
+
+            when(userRepository.updateReturning(userId, "novo@email.com", null, null)).thenReturn(Optional.of(updatedRow));
+            when(userMapper.toUserDomain(updatedRow)).thenReturn(TestDataBuilder.createValidUserDomain());
+
+            // Act
+            updateGateway.update(userId, partialUpdate);
+
+            // Assert
+            verify(userRepository, times(1)).updateReturning(userId, "novo@email.com", null, null);
+            verifyNoMoreInteractions(userRepository);
+        }
+
+        @Test
+        @DisplayName("Deve repassar apenas campos não nulos")
         void shouldUpdateOnlyNonNullFields() {
             // Arrange
             Long userId = 1L;
             User partialUpdate = new User(null, "novo@email.com", null, null, null);
-            UserEntity existingEntity = TestDataBuilder.createValidUserEntity();
-            UserEntity savedEntity = TestDataBuilder.createValidUserEntity();
-            User expectedUser = TestDataBuilder.createValidUserDomain();
 
-            when(userRepository.findById(userId)).thenReturn(Optional.of(existingEntity));
-            when(userRepository.save(any(UserEntity.class))).thenReturn(savedEntity);
-            when(userMapper.toUserDomain(savedEntity)).thenReturn(expectedUser);
+            when(userRepository.updateReturning(userId, "novo@email.com", null, null)).thenReturn(Optional.of(updatedRow));
+            when(userMapper.toUserDomain(updatedRow)).thenReturn(TestDataBuilder.createValidUserDomain());
 
             // Act
             Optional<User> result = updateGateway.update(userId, partialUpdate);
@@ -127,14 +153,10 @@ class UpdateGatewayImplTest {
             String newPassword = "novaSenha123";
             String encodedPassword = "encoded_nova_senha";
             User inputUser = new User(null, null, null, newPassword, null);
-            UserEntity existingEntity = TestDataBuilder.createValidUserEntity();
-            UserEntity savedEntity = TestDataBuilder.createValidUserEntity();
-            User expectedUser = TestDataBuilder.createValidUserDomain();
 
-            when(userRepository.findById(userId)).thenReturn(Optional.of(existingEntity));
             when(passwordEncoder.encode(newPassword)).thenReturn(encodedPassword);
-            when(userRepository.save(any(UserEntity.class))).thenReturn(savedEntity);
-            when(userMapper.toUserDomain(savedEntity)).thenReturn(expectedUser);
+            when(userRepository.updateReturning(userId, null, null, encodedPassword)).thenReturn(Optional.of(updatedRow));
+            when(userMapper.toUserDomain(updatedRow)).thenReturn(TestDataBuilder.createValidUserDomain());
 
             // Act
             Optional<User> result = updateGateway.update(userId, inputUser);
@@ -150,13 +172,9 @@ class UpdateGatewayImplTest {
             // Arrange
             Long userId = 1L;
             User inputUser = new User(null, null, null, "", null);
-            UserEntity existingEntity = TestDataBuilder.createValidUserEntity();
-            UserEntity savedEntity = TestDataBuilder.createValidUserEntity();
-            User expectedUser = TestDataBuilder.createValidUserDomain();
 
-            when(userRepository.findById(userId)).thenReturn(Optional.of(existingEntity));
-            when(userRepository.save(any(UserEntity.class))).thenReturn(savedEntity);
-            when(userMapper.toUserDomain(savedEntity)).thenReturn(expectedUser);
+            when(userRepository.updateReturning(userId, null, null, null)).thenReturn(Optional.of(updatedRow));
+            when(userMapper.toUserDomain(updatedRow)).thenReturn(TestDataBuilder.createValidUserDomain());
 
             // Act
             Optional<User> result = updateGateway.update(userId, inputUser);
@@ -178,19 +196,20 @@ class UpdateGatewayImplTest {
             String email = "joao@hospital.com";
             String newPassword = "novaSenha123";
             String encodedPassword = "encoded_password";
-            UserEntity userEntity = TestDataBuilder.createValidUserEntity();
 
-            when(userRepository.findByEmail(email)).thenReturn(Optional.of(userEntity));
             when(passwordEncoder.encode(newPassword)).thenReturn(encodedPassword);
+            when(userRepository.updatePasswordReturning(email, encodedPassword)).thenReturn(Optional.of(updatedRow));
+            when(updatedRow.getId()).thenReturn(1L);
 
             // Act
             updateGateway.updatePassword(email, newPassword);
 
             // Assert
-            verify(userRepository, times(1)).findByEmail(email);
             verify(passwordEncoder, times(1)).encode(newPassword);
-            verify(userRepository, times(1)).save(userEntity);
-            assertThat(userEntity.getSenha()).isEqualTo(encodedPassword);
+            verify(userRepository, times(1)).updatePasswordReturning(email, encodedPassword);
+            verify(userEntityCache, times(1)).evict(1L);
+            verify(userRepository, never()).findByEmail(anyString());
+            verify(userRepository, never()).save(any(UserEntity.class));
         }
 
         @Test
@@ -200,14 +219,16 @@ class UpdateGatewayImplTest {
             String nonExistentEmail = "naoexiste@hospital.com";
             String newPassword = "novaSenha123";
 
-            when(userRepository.findByEmail(nonExistentEmail)).thenReturn(Optional.empty());
+            when(passwordEncoder.encode(newPassword)).thenReturn("encoded_password");
+            when(userRepository.updatePasswordReturning(nonExistentEmail, "encoded_password"))
+                    .thenReturn(Optional.empty());
 
             // Act
             updateGateway.updatePassword(nonExistentEmail, newPassword);
 
             // Assert
-            verify(userRepository, times(1)).findByEmail(nonExistentEmail);
-            verify(passwordEncoder, never()).encode(anyString());
+            verify(userRepository, times(1)).updatePasswordReturning(nonExistentEmail, "encoded_password");
+            verify(userEntityCache, never()).evict(any());
             verify(userRepository, never()).save(any(UserEntity.class));
         }
 
@@ -217,10 +238,8 @@ class UpdateGatewayImplTest {
             // Arrange
             String email = "joao@hospital.com";
             String newPassword = "novaSenha123";
-            UserEntity userEntity = TestDataBuilder.createValidUserEntity();
             RuntimeException encoderException = new RuntimeException("Encoder error");
 
-            when(userRepository.findByEmail(email)).thenReturn(Optional.of(userEntity));
             when(passwordEncoder.encode(newPassword)).thenThrow(encoderException);
 
             // Act & Assert
@@ -228,9 +247,8 @@ class UpdateGatewayImplTest {
                     .isInstanceOf(RuntimeException.class)
                     .hasMessage("Encoder error");
 
-            verify(userRepository, times(1)).findByEmail(email);
             verify(passwordEncoder, times(1)).encode(newPassword);
-            verify(userRepository, never()).save(any(UserEntity.class));
+            verify(userRepository, never()).updatePasswordReturning(anyString(), anyString());
         }
     }
 
@@ -250,14 +268,12 @@ class UpdateGatewayImplTest {
             inputUser.setEmail(email);
             inputUser.setSenha(newPassword);
             
-            UserEntity existingEntity = TestDataBuilder.createValidUserEntity();
-            UserEntity savedEntity = TestDataBuilder.createValidUserEntity();
             User expectedUser = TestDataBuilder.createValidUserDomain();
 
-            when(userRepository.findById(userId)).thenReturn(Optional.of(existingEntity));
             when(passwordEncoder.encode(newPassword)).thenReturn("encoded_password");
-            when(userRepository.save(any(UserEntity.class))).thenReturn(savedEntity);
-            when(userMapper.toUserDomain(savedEntity)).thenReturn(expectedUser);
+            when(userRepository.updateReturning(userId, email, inputUser.getLogin(), "encoded_password"))
+                    .thenReturn(Optional.of(updatedRow));
+            when(userMapper.toUserDomain(updatedRow)).thenReturn(expectedUser);
 
             // Act
             Optional<User> result = updateGateway.update(userId, inputUser);
@@ -267,10 +283,11 @@ class UpdateGatewayImplTest {
             assertThat(result.get()).isEqualTo(expectedUser);
             
             // Verify integration
-            verify(userRepository, times(1)).findById(userId);
-            verify(passwordEncoder, times(1)).encode(newPassword);
-            verify(userRepository, times(1)).save(any(UserEntity.class));
-            verify(userMapper, times(1)).toUserDomain(savedEntity);
+            var inOrder = inOrder(passwordEncoder, userRepository, userEntityCache, userMapper);
+            inOrder.verify(passwordEncoder).encode(newPassword);
+            inOrder.verify(userRepository).updateReturning(userId, email, inputUser.getLogin(), "encoded_password");
+            inOrder.verify(userEntityCache).evict(userId);
+            inOrder.verify(userMapper).toUserDomain(updatedRow);
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,190 @@
+package com.fiap.hospital.bff.infra.adapter.gateway;
+
+import com.fiap.hospital.bff.core.domain.model.user.User;
+import com.fiap.hospital.bff.core.domain.model.user.UserImportResult;
+import com.fiap.hospital.bff.infra.entrypoint.mapper.UserMapper;
+import com.fiap.hospital.bff.infra.exception.TooManyRequestsException;
+import com.fiap.hospital.bff.infra.persistence.entity.UserEntity;
+import com.fiap.hospital.bff.infra.persistence.repository.UserRepository;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para UserImportGatewayImpl
+ *
+ * Usa o UserMapper real para que as entidades inseridas reflitam as senhas criptografadas.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ImportGateway - Testes Unitários")
+class UserImportGatewayImplTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ExecutorService hashingExecutor;
+    private UserImportGatewayImpl importGateway;
+
+    @BeforeEach
+    void setUp() {
+        hashingExecutor = Executors.newFixedThreadPool(4);
+        importGateway = new UserImportGatewayImpl(userRepository, new UserMapper(), passwordEncoder,
+                eventPublisher, new TransactionTemplate(transactionManager), hashingExecutor);
+        lenient().when(passwordEncoder.encode(any())).thenAnswer(invocation -> "{bcrypt}hash-" + invocation.getArgument(0));
+    }
+
+    @AfterEach
+    void tearDown() {
+        hashingExecutor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Deve inserir em um único saveAll, com senhas criptografadas, e marcar duplicados")
+    void shouldInsertBatchOnce_AndReportDuplicates() {
+        // Arrange
+        List<User> users = List.of(
+                user("nova@hospital.com", "MEDICO"),
+                user("existente@hospital.com", "PACIENTE"),
+                user("nova@hospital.com", "MEDICO"),
+                user("outra@hospital.com", "ENFERMEIRO"));
+        when(userRepository.findExistingEmails(anyList())).thenReturn(List.of("existente@hospital.com"));
+        when(userRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        List<UserImportResult> results = importGateway.importAll(users);
+
+        // Assert
+        assertThat(results).extracting(UserImportResult::getStatus).containsExactly(
+                UserImportResult.Status.CREATED,
+                UserImportResult.Status.DUPLICATE,
+                UserImportResult.Status.DUPLICATE,
+                UserImportResult.Status.CREATED);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<UserEntity>> inserted = ArgumentCaptor.forClass(List.class);
+        verify(userRepository, times(1)).saveAll(inserted.capture());
+        verify(userRepository, never()).saveAndFlush(any());
+        assertThat(inserted.getValue()).extracting(UserEntity::getSenha)
+                .containsExactly("{bcrypt}hash-senha123456", "{bcrypt}hash-senha123456");
+        verify(passwordEncoder, times(2)).encode(any());
+        verify(userRepository, never()).findByEmail(any());
+    }
+
+    @Test
+    @DisplayName("Deve publicar um evento por tipo criado, não um por linha")
+    void shouldPublishOneEventPerCreatedTipo() {
+        // Arrange
+        List<User> users = List.of(
+                user("enf1@hospital.com", "ENFERMEIRO"),
+                user("enf2@hospital.com", "ENFERMEIRO"),
+                user("pac1@hospital.com", "PACIENTE"));
+        when(userRepository.findExistingEmails(anyList())).thenReturn(List.of());
+        when(userRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        importGateway.importAll(users);
+
+        // Assert
+        ArgumentCaptor<UserChangedEvent> events = ArgumentCaptor.forClass(UserChangedEvent.class);
+        verify(eventPublisher, times(2)).publishEvent(events.capture());
+        assertThat(events.getAllValues()).extracting(event -> event.user().getTipo())
+                .containsExactly("ENFERMEIRO", "PACIENTE");
+    }
+
+    @Test
+    @DisplayName("Deve refazer linha a linha quando um cadastro concorrente viola o índice único no lote")
+    void shouldRetryRowByRow_WhenBatchHitsConcurrentDuplicate() {
+        // Arrange
+        List<User> users = List.of(
+                user("a@hospital.com", "PACIENTE"),
+                user("corrida@hospital.com", "PACIENTE"));
+        when(userRepository.findExistingEmails(anyList())).thenReturn(List.of());
+        when(userRepository.saveAll(anyList())).thenThrow(duplicateEmailViolation());
+        when(userRepository.saveAndFlush(any(UserEntity.class))).thenAnswer(invocation -> {
+            UserEntity entity = invocation.getArgument(0);
+            if (entity.getEmail().equals("corrida@hospital.com")) {
+                throw duplicateEmailViolation();
+            }
+            return entity;
+        });
+
+        // Act
+        List<UserImportResult> results = importGateway.importAll(users);
+
+        // Assert
+        assertThat(results).extracting(UserImportResult::getStatus)
+                .containsExactly(UserImportResult.Status.CREATED, UserImportResult.Status.DUPLICATE);
+        verify(userRepository, times(2)).saveAndFlush(any(UserEntity.class));
+    }
+
+    @Test
+    @DisplayName("Deve marcar como FAILED as linhas rejeitadas pelo pool de hash saturado e inserir as demais")
+    void shouldReportRejectedHashesAsFailed_AndInsertTheRest() {
+        // Arrange
+        List<User> users = List.of(
+                user("a@hospital.com", "PACIENTE"),
+                user("recusado@hospital.com", "PACIENTE"),
+                user("c@hospital.com", "MEDICO"));
+        users.get(1).setSenha("senhaRecusada123");
+        when(passwordEncoder.encode("senhaRecusada123"))
+                .thenThrow(new TooManyRequestsException("Too many concurrent authentication requests, please retry later"));
+        when(userRepository.findExistingEmails(anyList())).thenReturn(List.of());
+        when(userRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        List<UserImportResult> results = importGateway.importAll(users);
+
+        // Assert
+        assertThat(results).extracting(UserImportResult::getStatus).containsExactly(
+                UserImportResult.Status.CREATED,
+                UserImportResult.Status.FAILED,
+                UserImportResult.Status.CREATED);
+        assertThat(results.get(1).getEmail()).isEqualTo("recusado@hospital.com");
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<UserEntity>> inserted = ArgumentCaptor.forClass(List.class);
+        verify(userRepository).saveAll(inserted.capture());
+        assertThat(inserted.getValue()).extracting(UserEntity::getEmail)
+                .containsExactly("a@hospital.com", "c@hospital.com");
+    }
+
+    private static User user(String email, String tipo) {
+        return new User("Usuário Importado", email, "importado", "senha123456", tipo);
+    }
+
+    private static DataIntegrityViolationException duplicateEmailViolation() {
+        return new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("could not execute statement",
+                        new SQLException("duplicate key", "23505"), UserEntity.EMAIL_UNIQUE_CONSTRAINT));
+    }
+}
@@ -0,0 +1,30 @@
+package com.fiap.hospital.bff.infra.adapter.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("BCryptCostCalibrator Tests")
+class BCryptCostCalibratorTest {
+
+    @Test
+    @DisplayName("Deve recomendar o maior custo cujo hash cabe na latência alvo")
+    void shouldRecommendHighestCostWithinTarget() {
+        // Cada custo dobra o tempo: custo 4 = 1ms, custo 10 = 64ms, custo 11 = 128ms
+        int cost = BCryptCostCalibrator.recommendCost(Duration.ofMillis(100),
+                candidate -> Duration.ofMillis(1L << (candidate - 4)).toNanos());
+
+        assertThat(cost).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("Deve recomendar o custo mínimo quando nem ele cabe no alvo")
+    void shouldRecommendMinimumCost_WhenTargetIsTooLow() {
+        int cost = BCryptCostCalibrator.recommendCost(Duration.ofNanos(1), candidate -> 1_000_000L);
+
+        assertThat(cost).isEqualTo(BCryptCostCalibrator.MIN_COST);
+    }
+}
@@ -0,0 +1,97 @@
+package com.fiap.hospital.bff.infra.adapter.security;
+
+import com.fiap.hospital.bff.infra.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@DisplayName("BoundedPasswordEncoder Tests")
+class BoundedPasswordEncoderTest {
+
+    private final PasswordEncoder delegate = mock(PasswordEncoder.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private BoundedPasswordEncoder encoder;
+
+    @AfterEach
+    void tearDown() {
+        encoder.close();
+    }
+
+    @Test
+    @DisplayName("Deve delegar encode e matches ao encoder e registrar a latência do hash")
+    void shouldDelegateAndRecordLatency() {
+        // Arrange
+        encoder = new BoundedPasswordEncoder(delegate, 2, 10, meterRegistry);
+        when(delegate.encode("senha123")).thenReturn("$2a$10$hash");
+        when(delegate.matches("senha123", "$2a$10$hash")).thenReturn(true);
+
+        // Act & Assert
+        assertThat(encoder.encode("senha123")).isEqualTo("$2a$10$hash");
+        assertThat(encoder.matches("senha123", "$2a$10$hash")).isTrue();
+
+        assertThat(meterRegistry.get("password.hashing").tag("operation", "encode").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("password.hashing").tag("operation", "matches").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("executor.queued").tag("name", "password.hashing").gauge()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar com 429 quando o pool e a fila estão cheios")
+    void shouldRejectWithTooManyRequests_WhenSaturated() throws Exception {
+        // Arrange
+        encoder = new BoundedPasswordEncoder(delegate, 1, 1, meterRegistry);
+        CountDownLatch release = new CountDownLatch(1);
+        when(delegate.encode(any())).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return "$2a$10$hash";
+        });
+
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("primeira"));
+        verify(delegate, timeout(5000)).encode("primeira");
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> encoder.encode("segunda"));
+        waitUntilQueued(1);
+
+        // Act & Assert
+        assertThatThrownBy(() -> encoder.encode("terceira"))
+                .isInstanceOf(TooManyRequestsException.class)
+                .extracting(e -> ((TooManyRequestsException) e).getHttpStatus())
+                .isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(meterRegistry.get("password.hashing.rejected").counter().count()).isEqualTo(1.0);
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("$2a$10$hash");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("$2a$10$hash");
+    }
+
+    @Test
+    @DisplayName("Deve propagar a exceção original lançada pelo encoder")
+    void shouldPropagateDelegateException() {
+        // Arrange
+        encoder = new BoundedPasswordEncoder(delegate, 1, 1, meterRegistry);
+        when(delegate.matches(any(), any())).thenThrow(new IllegalArgumentException("Encoded password does not look like BCrypt"));
+
+        // Act & Assert
+        assertThatThrownBy(() -> encoder.matches("senha123", "texto-plano"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Encoded password does not look like BCrypt");
+    }
+
+    private void waitUntilQueued(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("executor.queued").tag("name", "password.hashing").gauge().value() < expected
+                && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.fiap.hospital.bff.infra.adapter.security;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.ECKey;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.ECKeyGenerator;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.security.oauth2.jose.jws.SignatureAlgorithm;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("JwtSigningKeys Tests")
+class JwtSigningKeysTest {
+
+    @Test
+    @DisplayName("Deve assinar com RS256 e kid derivado do thumbprint quando usa o par RSA em PEM")
+    void shouldSignWithRs256_WhenUsingRsaKeyPair() throws Exception {
+        // Arrange
+        RSAKey rsaKey = new RSAKeyGenerator(2048).generate();
+        JwtSigningKeys keys = JwtSigningKeys.fromRsaKeyPair(rsaKey.toRSAPublicKey(), rsaKey.toRSAPrivateKey());
+
+        // Act
+        Jwt jwt = keys.decoder().decode(keys.encoder().encode(parameters()).getTokenValue());
+
+        // Assert
+        assertThat(keys.signingAlgorithm()).isEqualTo(SignatureAlgorithm.RS256);
+        assertThat(keys.signingKeyId()).isEqualTo(rsaKey.computeThumbprint().toString());
+        assertThat(jwt.getHeaders()).containsEntry("alg", "RS256").containsEntry("kid", keys.signingKeyId());
+        assertThat(jwt.getSubject()).isEqualTo("joao@hospital.com");
+    }
+
+    @Test
+    @DisplayName("Deve assinar com a chave ativa ES256 e continuar aceitando tokens da chave anterior")
+    void shouldSignWithActiveKey_AndVerifyTokensFromPreviousKey() throws Exception {
+        // Arrange
+        RSAKey previous = new RSAKeyGenerator(2048).keyID("2025-09").generate();
+        ECKey active = new ECKeyGenerator(Curve.P_256).keyID("2025-10").generate();
+        JwtSigningKeys beforeRotation = JwtSigningKeys.fromJwkSet(jwkSet(previous), "2025-09");
+        JwtSigningKeys afterRotation = JwtSigningKeys.fromJwkSet(jwkSet(previous, active), "2025-10");
+        String oldToken = beforeRotation.encoder().encode(parameters()).getTokenValue();
+
+        // Act
+        Jwt newJwt = afterRotation.decoder().decode(afterRotation.encoder().encode(parameters()).getTokenValue());
+        Jwt oldJwt = afterRotation.decoder().decode(oldToken);
+
+        // Assert
+        assertThat(afterRotation.signingAlgorithm()).isEqualTo(SignatureAlgorithm.ES256);
+        assertThat(newJwt.getHeaders()).containsEntry("alg", "ES256").containsEntry("kid", "2025-10");
+        assertThat(oldJwt.getHeaders()).containsEntry("alg", "RS256").containsEntry("kid", "2025-09");
+    }
+
+    @Test
+    @DisplayName("Deve publicar apenas a parte pública de todas as chaves")
+    @SuppressWarnings("unchecked")
+    void shouldPublishOnlyPublicKeys() throws Exception {
+        // Arrange
+        RSAKey rsaKey = new RSAKeyGenerator(2048).keyID("rsa").generate();
+        ECKey ecKey = new ECKeyGenerator(Curve.P_384).keyID("ec").algorithm(JWSAlgorithm.ES384).generate();
+        JwtSigningKeys keys = JwtSigningKeys.fromJwkSet(jwkSet(rsaKey, ecKey), "ec");
+
+        // Act
+        List<Map<String, Object>> published = (List<Map<String, Object>>) keys.publicJwkSet().get("keys");
+
+        // Assert
+        assertThat(published).extracting(key -> key.get("kid")).containsExactlyInAnyOrder("rsa", "ec");
+        assertThat(published).allSatisfy(key -> assertThat(key).doesNotContainKeys("d", "p", "q"));
+        assertThat(keys.signingAlgorithm()).isEqualTo(SignatureAlgorithm.ES384);
+    }
+
+    @Test
+    @DisplayName("Deve falhar quando a chave ativa não existe no conjunto")
+    void shouldFail_WhenActiveKeyIsMissing() throws Exception {
+        // Arrange
+        ECKey ecKey = new ECKeyGenerator(Curve.P_256).keyID("ec").generate();
+
+        // Act & Assert
+        assertThatThrownBy(() -> JwtSigningKeys.fromJwkSet(jwkSet(ecKey), "outra"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("'outra' not found");
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar chaves de algoritmos não suportados pelo Spring Security")
+    void shouldRejectUnsupportedAlgorithms() {
+        // Arrange - chave Ed25519 de exemplo da RFC 8037
+        var resource = new ByteArrayResource("""
+                {"keys":[{"kty":"OKP","crv":"Ed25519","kid":"ed",
+                  "d":"nWGxne_9WmC6hEr0kuwsxERJxWl7MmkZcDusAxyuf2A",
+                  "x":"11qYAYKxCrfVS_7TyWQHOg7hcvPapiMlrwIaaPcHURo"}]}
+                """.getBytes(StandardCharsets.UTF_8));
+
+        // Act & Assert
+        assertThatThrownBy(() -> JwtSigningKeys.fromJwkSet(resource, "ed"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Unsupported signing algorithm");
+    }
+
+    private static ByteArrayResource jwkSet(JWK... keys) {
+        return new ByteArrayResource(new JWKSet(List.of(keys)).toString(false).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static JwtEncoderParameters parameters() {
+        Instant now = Instant.now();
+        return JwtEncoderParameters.from(JwtClaimsSet.builder()
+                .issuer("HospitalAPI")
+                .subject("joao@hospital.com")
+                .issuedAt(now)
+                .expiresAt(now.plusSeconds(300))
+                .build());
+    }
+}
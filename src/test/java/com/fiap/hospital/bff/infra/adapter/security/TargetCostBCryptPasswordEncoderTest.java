@@ -0,0 +1,30 @@
+package com.fiap.hospital.bff.infra.adapter.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("TargetCostBCryptPasswordEncoder Tests")
+class TargetCostBCryptPasswordEncoderTest {
+
+    private final TargetCostBCryptPasswordEncoder encoder = new TargetCostBCryptPasswordEncoder(6);
+
+    @Test
+    @DisplayName("Deve pedir re-hash para hashes mais fracos e mais fortes que o custo alvo")
+    void shouldRequestUpgrade_WhenCostDiffersFromTarget() {
+        assertThat(encoder.upgradeEncoding(new BCryptPasswordEncoder(4).encode("senha"))).isTrue();
+        assertThat(encoder.upgradeEncoding(new BCryptPasswordEncoder(7).encode("senha"))).isTrue();
+        assertThat(encoder.upgradeEncoding(encoder.encode("senha"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar valores que não são hashes BCrypt")
+    void shouldRejectNonBCryptHashes() {
+        assertThat(encoder.upgradeEncoding(null)).isFalse();
+        assertThatThrownBy(() -> encoder.upgradeEncoding("texto-plano"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,47 @@
+package com.fiap.hospital.bff.infra.config;
+
+import com.fiap.hospital.bff.infra.adapter.easyconsult.EasyConsultResilience;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("EasyConsultHealthIndicator Tests")
+class EasyConsultHealthIndicatorTest {
+
+    private final EasyConsultResilience resilience = new EasyConsultResilience(CircuitBreakerRegistry.ofDefaults(),
+            BulkheadRegistry.ofDefaults(), RetryRegistry.ofDefaults(), TimeLimiterRegistry.ofDefaults());
+
+    private final EasyConsultHealthIndicator indicator = new EasyConsultHealthIndicator(resilience);
+
+    @Test
+    @DisplayName("Should report UP with circuit breaker and bulkhead details while the circuit is closed")
+    @SuppressWarnings("unchecked")
+    void shouldReportUp_WhenCircuitClosed() {
+        Health health = indicator.health();
+
+        assertThat(health.getStatus()).isEqualTo(Status.UP);
+        assertThat((Map<String, Object>) health.getDetails().get("circuitBreaker")).containsEntry("state", CircuitBreaker.State.CLOSED);
+        assertThat((Map<String, Object>) health.getDetails().get("bulkhead")).containsEntry("availableConcurrentCalls",
+                resilience.bulkhead().getBulkheadConfig().getMaxConcurrentCalls());
+    }
+
+    @Test
+    @DisplayName("Should report CIRCUIT_OPEN while the circuit is open")
+    void shouldReportCircuitOpen_WhenCircuitOpen() {
+        resilience.circuitBreaker().transitionToOpenState();
+
+        Health health = indicator.health();
+
+        assertThat(health.getStatus()).isEqualTo(EasyConsultHealthIndicator.CIRCUIT_OPEN);
+    }
+}
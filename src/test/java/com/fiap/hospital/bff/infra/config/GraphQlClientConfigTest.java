@@ -0,0 +1,50 @@
+package com.fiap.hospital.bff.infra.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("GraphQlClientConfig Tests")
+class GraphQlClientConfigTest {
+
+    private final AtomicReference<ClientRequest> exchanged = new AtomicReference<>();
+
+    private final ExchangeFunction capturingExchange = request -> {
+        exchanged.set(request);
+        return Mono.just(mock(ClientResponse.class));
+    };
+
+    @Test
+    @DisplayName("Should attach bearer token when request carries the access token attribute")
+    void shouldAttachBearerToken_WhenAttributePresent() {
+        ClientRequest request = ClientRequest.create(HttpMethod.POST, URI.create("http://localhost/graphql"))
+                .attribute(GraphQlClientConfig.ACCESS_TOKEN_ATTRIBUTE, "jwt-token")
+                .build();
+
+        GraphQlClientConfig.bearerTokenFromAttribute().filter(request, capturingExchange).block();
+
+        assertThat(exchanged.get().headers().getFirst(HttpHeaders.AUTHORIZATION)).isEqualTo("Bearer jwt-token");
+    }
+
+    @Test
+    @DisplayName("Should forward request unchanged when no access token attribute is present")
+    void shouldForwardUnchanged_WhenAttributeAbsent() {
+        ClientRequest request = ClientRequest.create(HttpMethod.POST, URI.create("http://localhost/graphql")).build();
+
+        GraphQlClientConfig.bearerTokenFromAttribute().filter(request, capturingExchange).block();
+
+        assertThat(exchanged.get()).isSameAs(request);
+        assertThat(exchanged.get().headers().containsKey(HttpHeaders.AUTHORIZATION)).isFalse();
+    }
+}
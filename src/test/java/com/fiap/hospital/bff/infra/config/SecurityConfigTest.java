@@ -2,6 +2,7 @@ package com.fiap.hospital.bff.infra.config;
 
 import com.fiap.hospital.bff.infra.exception.JwtAccessDeniedHandler;
 import com.fiap.hospital.bff.infra.exception.JwtAuthenticationEntryPoint;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -41,6 +42,7 @@ class SecurityConfigTest {
         securityConfig = new SecurityConfig(jwtAuthenticationEntryPoint, jwtAccessDeniedHandler);
         ReflectionTestUtils.setField(securityConfig, "key", publicKey);
         ReflectionTestUtils.setField(securityConfig, "priv", privateKey);
+        ReflectionTestUtils.setField(securityConfig, "bcryptStrength", 10);
     }
 
     @Test
@@ -53,10 +55,12 @@ class SecurityConfigTest {
             java.security.KeyPair keyPair = keyGen.generateKeyPair();
             
             RSAPublicKey realPublicKey = (RSAPublicKey) keyPair.getPublic();
+            RSAPrivateKey realPrivateKey = (RSAPrivateKey) keyPair.getPrivate();
             ReflectionTestUtils.setField(securityConfig, "key", realPublicKey);
+            ReflectionTestUtils.setField(securityConfig, "priv", realPrivateKey);
 
             // Act
-            JwtDecoder jwtDecoder = securityConfig.jwtDecoder();
+            JwtDecoder jwtDecoder = securityConfig.jwtDecoder(new SimpleMeterRegistry());
 
             // Assert
             assertNotNull(jwtDecoder, "JwtDecoder should not be null");
@@ -151,7 +155,7 @@ class SecurityConfigTest {
         ReflectionTestUtils.setField(configWithNullKey, "key", null);
 
         // Act & Assert
-        assertThrows(Exception.class, () -> configWithNullKey.jwtDecoder(),
+        assertThrows(Exception.class, () -> configWithNullKey.jwtDecoder(new SimpleMeterRegistry()),
                     "Should throw exception when RSA public key is null");
     }
 
@@ -0,0 +1,117 @@
+package com.fiap.hospital.bff.infra.entrypoint.controller;
+
+import com.fiap.hospital.bff.infra.adapter.easyconsult.ConsultField;
+import com.fiap.hospital.bff.infra.adapter.easyconsult.ConsultListing;
+import com.fiap.hospital.bff.infra.adapter.easyconsult.EasyConsultService;
+import com.fiap.hospital.bff.infra.entrypoint.dto.graphql.GraphQLConsultResponse;
+import com.fiap.hospital.bff.infra.exception.ValidationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para EasyConsultController
+ *
+ * Testa as listagens de consultas:
+ * - GET /api/v1/consults - Resposta fresca, sem cabeçalhos de cache
+ * - GET /api/v1/consults/filter - Resposta antiga, com X-Cache, Warning e Age
+ * - Parâmetro fields validado contra a allow-list
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EasyConsultController - Testes Unitários")
+class EasyConsultControllerTest {
+
+    @Mock
+    private EasyConsultService easyConsultService;
+
+    @InjectMocks
+    private EasyConsultController easyConsultController;
+
+    private final GraphQLConsultResponse consult = new GraphQLConsultResponse(
+            "1", null, "Enfermeira Maria", "10:30:00", "2025-10-14", "SCHEDULED", "Rotina");
+
+    @Nested
+    @DisplayName("Testes de Cabeçalhos de Frescor")
+    class FreshnessHeaderTests {
+
+        @Test
+        @DisplayName("Não deve adicionar cabeçalhos de cache quando a listagem é fresca")
+        void shouldNotAddCacheHeaders_WhenListingIsFresh() {
+            // Arrange
+            when(easyConsultService.getAllConsults(ConsultField.ALL))
+                    .thenReturn(Mono.just(ConsultListing.fresh(List.of(consult))));
+
+            // Act
+            ResponseEntity<List<GraphQLConsultResponse>> response = easyConsultController.getAll(null).block();
+
+            // Assert
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(response.getBody()).containsExactly(consult);
+            assertThat(response.getHeaders()).doesNotContainKeys(EasyConsultController.X_CACHE, HttpHeaders.WARNING);
+        }
+
+        @Test
+        @DisplayName("Deve marcar como STALE a listagem servida após falha do serviço")
+        void shouldMarkStale_WhenListingServedAfterFailure() {
+            // Arrange
+            when(easyConsultService.getConsultsByFilter(any(), eq(ConsultField.ALL))).thenReturn(Mono.just(new ConsultListing(
+                    List.of(consult), ConsultListing.Freshness.STALE_IF_ERROR, Duration.ofSeconds(95))));
+
+            // Act
+            ResponseEntity<List<GraphQLConsultResponse>> response =
+                    easyConsultController.getByFilter(null, null, null, null, "SCHEDULED", null).block();
+
+            // Assert
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(response.getBody()).containsExactly(consult);
+            assertThat(response.getHeaders().getFirst(EasyConsultController.X_CACHE)).isEqualTo("STALE");
+            assertThat(response.getHeaders().getFirst(HttpHeaders.WARNING))
+                    .isEqualTo(EasyConsultController.STALE_IF_ERROR_WARNING);
+            assertThat(response.getHeaders().getFirst(HttpHeaders.AGE)).isEqualTo("95");
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes de Seleção de Campos")
+    class FieldSelectionTests {
+
+        @Test
+        @DisplayName("Deve repassar ao serviço apenas os campos pedidos, sempre com o id")
+        void shouldPassRequestedFields_WithId() {
+            // Arrange
+            when(easyConsultService.getAllConsults(any())).thenReturn(Mono.just(ConsultListing.fresh(List.of(consult))));
+
+            // Act
+            easyConsultController.getAll("date, statusConsultation").block();
+
+            // Assert
+            verify(easyConsultService).getAllConsults(
+                    EnumSet.of(ConsultField.ID, ConsultField.DATE, ConsultField.STATUS));
+        }
+
+        @Test
+        @DisplayName("Deve rejeitar campos fora da allow-list")
+        void shouldRejectFieldsOutsideAllowList() {
+            // Act & Assert
+            assertThatThrownBy(() -> easyConsultController.getByFilter(null, null, null, null, null, "id,password"))
+                    .isInstanceOf(ValidationException.class)
+                    .hasMessageContaining("unknown field 'password'");
+            verifyNoInteractions(easyConsultService);
+        }
+    }
+}
@@ -8,6 +8,7 @@ import com.fiap.hospital.bff.infra.entrypoint.dto.request.UserRequestDto;
 import com.fiap.hospital.bff.infra.entrypoint.dto.request.UserUpdateRequestDto;
 import com.fiap.hospital.bff.infra.entrypoint.dto.response.UserResponseDto;
 import com.fiap.hospital.bff.infra.persistence.entity.UserEntity;
+import com.fiap.hospital.bff.infra.persistence.projection.UserSummaryProjection;
 import com.fiap.hospital.bff.util.TestDataBuilder;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -15,6 +16,8 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 /**
  * Testes unitários para UserMapper
@@ -163,9 +166,30 @@ class UserMapperTest {
             assertThat(actualUser.getNome()).isEqualTo(userEntity.getNome());
             assertThat(actualUser.getEmail()).isEqualTo(userEntity.getEmail());
             assertThat(actualUser.getLogin()).isEqualTo(userEntity.getLogin());
-            assertThat(actualUser.getSenha()).isEqualTo(userEntity.getSenha());
+            assertThat(actualUser.getSenha()).isNull(); // hash da senha não é carregado no domínio
             assertThat(actualUser.getTipo()).isEqualTo(userEntity.getTipo().name());
         }
+
+        @Test
+        @DisplayName("Deve converter projeção resumida para User domain sem senha")
+        void shouldConvertSummaryProjectionToUserDomain_WithoutPassword() {
+            // Arrange
+            UserSummaryProjection summary = mock(UserSummaryProjection.class);
+            when(summary.getNome()).thenReturn("Maria Enfermeira");
+            when(summary.getEmail()).thenReturn("maria@hospital.com");
+            when(summary.getLogin()).thenReturn("maria");
+            when(summary.getTipo()).thenReturn(TypeUsers.ENFERMEIRO);
+
+            // Act
+            User actualUser = userMapper.toUserDomain(summary);
+
+            // Assert
+            assertThat(actualUser.getNome()).isEqualTo("Maria Enfermeira");
+            assertThat(actualUser.getEmail()).isEqualTo("maria@hospital.com");
+            assertThat(actualUser.getLogin()).isEqualTo("maria");
+            assertThat(actualUser.getSenha()).isNull();
+            assertThat(actualUser.getTipo()).isEqualTo("ENFERMEIRO");
+        }
     }
 
     @Nested
@@ -263,7 +287,7 @@ class UserMapperTest {
             assertThat(convertedBackDomain.getNome()).isEqualTo(originalDomain.getNome());
             assertThat(convertedBackDomain.getEmail()).isEqualTo(originalDomain.getEmail());
             assertThat(convertedBackDomain.getLogin()).isEqualTo(originalDomain.getLogin());
-            assertThat(convertedBackDomain.getSenha()).isEqualTo(originalDomain.getSenha());
+            assertThat(convertedBackDomain.getSenha()).isNull(); // senha só vai para a entidade
             assertThat(convertedBackDomain.getTipo()).isEqualTo(originalDomain.getTipo());
         }
 
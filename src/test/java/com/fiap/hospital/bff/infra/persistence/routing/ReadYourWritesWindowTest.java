@@ -0,0 +1,100 @@
+package com.fiap.hospital.bff.infra.persistence.routing;
+
+import com.fiap.hospital.bff.core.domain.model.user.User;
+import com.fiap.hospital.bff.infra.adapter.gateway.UserChangedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ReadYourWritesWindow Tests")
+class ReadYourWritesWindowTest {
+
+    private static final String EMAIL = "joao@hospital.com";
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final ReadYourWritesWindow window = new ReadYourWritesWindow(Duration.ofSeconds(5), nanos::get);
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Deve fixar no primário quem escreveu até o fim da janela")
+    void shouldPinWriter_UntilWindowElapses() {
+        // Arrange
+        authenticateAs(EMAIL);
+        window.onUserChanged(new UserChangedEvent(UserChangedEvent.Operation.UPDATED, user(EMAIL)));
+
+        // Act & Assert
+        nanos.addAndGet(Duration.ofMillis(4_999).toNanos());
+        assertThat(window.pinsCurrentPrincipal()).isTrue();
+
+        nanos.addAndGet(Duration.ofMillis(1).toNanos());
+        assertThat(window.pinsCurrentPrincipal()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Deve fixar o dono do registro alterado por outro usuário")
+    void shouldPinOwnerOfChangedRecord() {
+        // Arrange
+        authenticateAs("admin@hospital.com");
+        window.onUserChanged(new UserChangedEvent(UserChangedEvent.Operation.UPDATED, user(EMAIL)));
+
+        // Act
+        authenticateAs(EMAIL);
+
+        // Assert
+        assertThat(window.pinsCurrentPrincipal()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Não deve fixar usuários que não escreveram nem requisições anônimas")
+    void shouldNotPinOtherUsers_NorAnonymousRequests() {
+        // Arrange
+        window.onUserChanged(new UserChangedEvent(UserChangedEvent.Operation.CREATED, user(EMAIL)));
+
+        // Act & Assert
+        authenticateAs("maria@hospital.com");
+        assertThat(window.pinsCurrentPrincipal()).isFalse();
+
+        SecurityContextHolder.getContext().setAuthentication(new AnonymousAuthenticationToken(
+                "key", EMAIL, AuthorityUtils.createAuthorityList("ROLE_ANONYMOUS")));
+        assertThat(window.pinsCurrentPrincipal()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Não deve fixar ninguém quando a janela é zero")
+    void shouldNotPin_WhenWindowIsZero() {
+        // Arrange
+        ReadYourWritesWindow disabled = new ReadYourWritesWindow(Duration.ZERO, nanos::get);
+        authenticateAs(EMAIL);
+
+        // Act
+        disabled.onUserChanged(new UserChangedEvent(UserChangedEvent.Operation.UPDATED, user(EMAIL)));
+
+        // Assert
+        assertThat(disabled.pinsCurrentPrincipal()).isFalse();
+    }
+
+    private static void authenticateAs(String email) {
+        TestingAuthenticationToken authentication = new TestingAuthenticationToken(email, null, "SCOPE_PACIENTE");
+        authentication.setAuthenticated(true);
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+    }
+
+    private static User user(String email) {
+        User user = new User();
+        user.setEmail(email);
+        return user;
+    }
+}
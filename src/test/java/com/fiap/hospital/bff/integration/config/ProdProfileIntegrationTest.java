@@ -0,0 +1,82 @@
+package com.fiap.hospital.bff.integration.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Testes de Integração para o perfil prod
+ *
+ * Sobe o contexto com o H2 dos testes e as configurações de produção por cima: pool Hikari fixo,
+ * propriedades do pgjdbc repassadas ao driver, SQL fora do log e métricas do pool publicadas.
+ */
+@SpringBootTest
+@ActiveProfiles({"test", "prod"})
+@DisplayName("Perfil prod - Testes de Integração")
+class ProdProfileIntegrationTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("Deve manter o pool Hikari fixo")
+    void shouldKeepHikariPoolFixed() {
+        // Assert
+        HikariDataSource hikari = (HikariDataSource) dataSource;
+        assertThat(hikari.getMaximumPoolSize()).isEqualTo(10);
+        assertThat(hikari.getMinimumIdle()).isEqualTo(hikari.getMaximumPoolSize());
+        assertThat(hikari.getConnectionTimeout()).isEqualTo(3000);
+        assertThat(hikari.getPoolName()).isEqualTo("hospital-bff");
+    }
+
+    @Test
+    @DisplayName("Deve repassar cache de statements e reescrita de batch ao driver")
+    void shouldPassStatementCacheAndBatchRewriteToDriver() {
+        // Assert
+        HikariDataSource hikari = (HikariDataSource) dataSource;
+        assertThat(hikari.getDataSourceProperties())
+                .containsEntry("prepareThreshold", "1")
+                .containsEntry("preparedStatementCacheQueries", "512")
+                .containsEntry("reWriteBatchedInserts", "true");
+    }
+
+    @Test
+    @DisplayName("Deve desligar o log de SQL e manter o batch do Hibernate")
+    void shouldDisableSqlLogging_AndKeepBatching() {
+        // Act
+        var properties = entityManagerFactory.getProperties();
+
+        // Assert
+        assertThat(properties)
+                .containsEntry("hibernate.show_sql", "false")
+                .containsEntry("hibernate.format_sql", "false")
+                .containsEntry("hibernate.jdbc.batch_size", "50")
+                .containsEntry("hibernate.order_updates", "true");
+    }
+
+    @Test
+    @DisplayName("Deve publicar as métricas do pool de conexões")
+    void shouldPublishConnectionPoolMetrics() {
+        // Assert
+        assertThat(meterRegistry.find("hikaricp.connections.max").tag("pool", "hospital-bff").gauge())
+                .isNotNull()
+                .satisfies(gauge -> assertThat(gauge.value()).isEqualTo(10));
+        assertThat(meterRegistry.find("hikaricp.connections.acquire").tag("pool", "hospital-bff").timer())
+                .isNotNull();
+    }
+}
@@ -0,0 +1,73 @@
+package com.fiap.hospital.bff.integration.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.apache.catalina.connector.Connector;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.embedded.tomcat.TomcatWebServer;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Testes de Integração para o perfil vthreads
+ *
+ * Garante que o perfil ativa virtual threads no Tomcat e nos executores assíncronos,
+ * mantendo o pool Hikari limitado.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles({"test", "vthreads"})
+@DisplayName("Perfil vthreads - Testes de Integração")
+class VirtualThreadsProfileIntegrationTest {
+
+    @Autowired
+    private ServletWebServerApplicationContext context;
+
+    @Autowired
+    private AsyncTaskExecutor applicationTaskExecutor;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    @DisplayName("Deve processar requisições do Tomcat em virtual threads")
+    void shouldHandleTomcatRequestsOnVirtualThreads() throws Exception {
+        // Arrange
+        Connector connector = ((TomcatWebServer) context.getWebServer()).getTomcat().getConnector();
+        Executor executor = connector.getProtocolHandler().getExecutor();
+
+        // Act
+        CompletableFuture<Boolean> isVirtual = new CompletableFuture<>();
+        executor.execute(() -> isVirtual.complete(Thread.currentThread().isVirtual()));
+
+        // Assert
+        assertThat(isVirtual.get()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Deve executar tarefas assíncronas em virtual threads")
+    void shouldRunAsyncTasksOnVirtualThreads() throws Exception {
+        // Act
+        boolean isVirtual = applicationTaskExecutor.submit(() -> Thread.currentThread().isVirtual()).get();
+
+        // Assert
+        assertThat(isVirtual).isTrue();
+    }
+
+    @Test
+    @DisplayName("Deve limitar o pool Hikari para não sobrecarregar o banco")
+    void shouldKeepHikariPoolBounded() {
+        // Assert
+        HikariDataSource hikari = (HikariDataSource) dataSource;
+        assertThat(hikari.getMaximumPoolSize()).isEqualTo(20);
+        assertThat(hikari.getConnectionTimeout()).isEqualTo(2000);
+    }
+}
@@ -1,8 +1,11 @@
 package com.fiap.hospital.bff.integration.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fiap.hospital.bff.infra.entrypoint.dto.request.RefreshTokenRequestDto;
 import com.fiap.hospital.bff.infra.entrypoint.dto.request.UserCredentialsRequestDto;
 import com.fiap.hospital.bff.infra.entrypoint.dto.request.TypeUsers;
+import com.fiap.hospital.bff.infra.entrypoint.dto.request.UserRequestDto;
+import com.fiap.hospital.bff.infra.entrypoint.dto.request.UserUpdateRequestDto;
 import com.fiap.hospital.bff.infra.persistence.entity.UserEntity;
 import com.fiap.hospital.bff.infra.persistence.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -416,6 +419,170 @@ class AuthControllerEnhancedIntegrationTest {
         }
     }
 
+    @Nested
+    @DisplayName("🔁 Testes de Refresh Token")
+    class RefreshTokenTests {
+
+        @Test
+        @DisplayName("Deve renovar a sessão com o refresh token e invalidar o token já usado")
+        void shouldRenewSession_AndRejectReusedRefreshToken() throws Exception {
+            // ===== LÓGICA =====
+            // Clientes renovam o access token de 5 minutos sem refazer o login (e o BCrypt);
+            // cada refresh token vale uma única vez
+
+            // Arrange
+            String refreshToken = performLoginAndGetRefreshToken("medico@hospital.com", "senha123456");
+
+            // Act & Assert
+            String renewed = mockMvc.perform(post("/api/v1/auth/refresh")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(refreshBody(refreshToken)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.accessToken").isNotEmpty())
+                    .andExpect(jsonPath("$.refreshToken").isNotEmpty())
+                    .andExpect(jsonPath("$.refreshToken").value(not(refreshToken)))
+                    .andReturn().getResponse().getContentAsString();
+
+            String newAccessToken = objectMapper.readTree(renewed).get("accessToken").asText();
+            mockMvc.perform(get("/api/v1/users").header("Authorization", "Bearer " + newAccessToken))
+                    .andExpect(status().isOk());
+
+            mockMvc.perform(post("/api/v1/auth/refresh")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(refreshBody(refreshToken)))
+                    .andExpect(status().isUnauthorized());
+        }
+
+        @Test
+        @DisplayName("Deve rejeitar refresh token revogado")
+        void shouldRejectRevokedRefreshToken() throws Exception {
+            // Arrange
+            String refreshToken = performLoginAndGetRefreshToken("paciente@hospital.com", "senha123456");
+
+            // Act
+            mockMvc.perform(post("/api/v1/auth/revoke")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(refreshBody(refreshToken)))
+                    .andExpect(status().isNoContent());
+
+            // Assert
+            mockMvc.perform(post("/api/v1/auth/refresh")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(refreshBody(refreshToken)))
+                    .andExpect(status().isUnauthorized());
+        }
+
+        @Test
+        @DisplayName("Deve revogar refresh tokens existentes quando a senha é alterada")
+        void shouldRevokeRefreshTokens_WhenPasswordChanges() throws Exception {
+            // Arrange
+            String refreshToken = performLoginAndGetRefreshToken("enfermeiro@hospital.com", "senha123456");
+            String accessToken = performLoginAndGetToken("enfermeiro@hospital.com", "senha123456");
+
+            // Act
+            mockMvc.perform(patch("/api/v1/auth/password")
+                    .header("Authorization", "Bearer " + accessToken)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(
+                            new UserCredentialsRequestDto("enfermeiro@hospital.com", "novaSenhaSegura123456"))))
+                    .andExpect(status().isNoContent());
+
+            // Assert
+            mockMvc.perform(post("/api/v1/auth/refresh")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(refreshBody(refreshToken)))
+                    .andExpect(status().isUnauthorized());
+        }
+
+        @Test
+        @DisplayName("Não deve herdar refresh tokens de um usuário excluído ao recadastrar o mesmo email")
+        void shouldNotInheritRefreshTokens_WhenEmailIsRegisteredAgainAfterDelete() throws Exception {
+            // ===== LÓGICA =====
+            // O cadastro é público: quem recria a conta com o email de um usuário excluído
+            // não pode renovar as sessões abertas da conta anterior
+
+            // Arrange
+            String refreshToken = performLoginAndGetRefreshToken("paciente@hospital.com", "senha123456");
+            String adminToken = performLoginAndGetToken("medico@hospital.com", "senha123456");
+            Long userId = userRepository.findByEmail("paciente@hospital.com").orElseThrow().getId();
+
+            // Act
+            mockMvc.perform(delete("/api/v1/users/{id}", userId)
+                    .header("Authorization", "Bearer " + adminToken))
+                    .andExpect(status().isNoContent());
+            mockMvc.perform(post("/api/v1/users")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(new UserRequestDto(
+                            "Outro Paciente", "paciente@hospital.com", "outropaciente", "outraSenha123456",
+                            TypeUsers.PACIENTE))))
+                    .andExpect(status().isCreated());
+
+            // Assert
+            mockMvc.perform(post("/api/v1/auth/refresh")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(refreshBody(refreshToken)))
+                    .andExpect(status().isUnauthorized());
+        }
+
+        @Test
+        @DisplayName("Deve revogar refresh tokens quando email e senha são alterados pelo cadastro")
+        void shouldRevokeRefreshTokens_WhenUserIsUpdated() throws Exception {
+            // Arrange
+            String refreshToken = performLoginAndGetRefreshToken("enfermeiro@hospital.com", "senha123456");
+            String accessToken = performLoginAndGetToken("enfermeiro@hospital.com", "senha123456");
+            Long userId = userRepository.findByEmail("enfermeiro@hospital.com").orElseThrow().getId();
+
+            // Act
+            mockMvc.perform(put("/api/v1/users/{id}", userId)
+                    .header("Authorization", "Bearer " + accessToken)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(new UserUpdateRequestDto(
+                            "ana.oliveira@hospital.com", "anaoliveira", "novaSenhaSegura123456"))))
+                    .andExpect(status().isOk());
+
+            // Assert
+            mockMvc.perform(post("/api/v1/auth/refresh")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(refreshBody(refreshToken)))
+                    .andExpect(status().isUnauthorized());
+        }
+
+        @Test
+        @DisplayName("Deve rejeitar refresh sem token")
+        void shouldRejectRefreshWithoutToken() throws Exception {
+            mockMvc.perform(post("/api/v1/auth/refresh")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{}"))
+                    .andExpect(status().isBadRequest());
+        }
+
+        private String refreshBody(String refreshToken) throws Exception {
+            return objectMapper.writeValueAsString(new RefreshTokenRequestDto(refreshToken));
+        }
+    }
+
+    @Nested
+    @DisplayName("🔑 Testes de Publicação de Chaves")
+    class JwksTests {
+
+        @Test
+        @DisplayName("Deve publicar as chaves públicas com kid sem exigir autenticação")
+        void shouldPublishPublicKeysWithKid_WithoutAuthentication() throws Exception {
+            // ===== LÓGICA =====
+            // Serviços que recebem o token (ex.: EasyConsult) verificam a assinatura pelo kid,
+            // o que permite rotacionar a chave sem downtime
+
+            // Act & Assert
+            mockMvc.perform(get("/.well-known/jwks.json"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.keys", hasSize(1)))
+                    .andExpect(jsonPath("$.keys[0].kty").value("RSA"))
+                    .andExpect(jsonPath("$.keys[0].kid").isNotEmpty())
+                    .andExpect(jsonPath("$.keys[0].alg").value("RS256"))
+                    .andExpect(jsonPath("$.keys[0].d").doesNotExist());
+        }
+    }
+
     @Nested
     @DisplayName("⚡ Testes de Performance e Limites")
     class PerformanceAndLimitsTests {
@@ -495,4 +662,16 @@ class AuthControllerEnhancedIntegrationTest {
 
         return objectMapper.readTree(loginResponse).get("accessToken").asText();
     }
+
+    private String performLoginAndGetRefreshToken(String email, String password) throws Exception {
+        String loginResponse = mockMvc.perform(post("/api/v1/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new UserCredentialsRequestDto(email, password))))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        return objectMapper.readTree(loginResponse).get("refreshToken").asText();
+    }
 }
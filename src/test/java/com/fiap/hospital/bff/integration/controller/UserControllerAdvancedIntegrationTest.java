@@ -5,6 +5,7 @@ import com.fiap.hospital.bff.infra.entrypoint.dto.request.UserRequestDto;
 import com.fiap.hospital.bff.infra.entrypoint.dto.request.TypeUsers;
 import com.fiap.hospital.bff.infra.persistence.entity.UserEntity;
 import com.fiap.hospital.bff.infra.persistence.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -17,8 +18,18 @@ import org.springframework.http.MediaType;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
 import static org.hamcrest.Matchers.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -172,6 +183,64 @@ class UserControllerAdvancedIntegrationTest {
         }
     }
 
+    @Nested
+    @DisplayName("⚡ Cadastros Simultâneos")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    class ConcurrentRegistrationTests {
+
+        @AfterEach
+        void cleanUp() {
+            userRepository.deleteAll();
+        }
+
+        @Test
+        @DisplayName("Deve aceitar apenas um de vários cadastros simultâneos com o mesmo email")
+        void shouldAcceptOnlyOneOfConcurrentRegistrationsWithSameEmail() throws Exception {
+            // ===== LÓGICA =====
+            // Sem consulta prévia, quem garante a unicidade é o índice único do banco:
+            // um cadastro vence e os demais recebem 409
+            
+            // Arrange
+            int attempts = 8;
+            String body = objectMapper.writeValueAsString(new UserRequestDto(
+                "Ana Plantão",
+                "ana.plantao@hospital.com",
+                "anaplantao",
+                "senha123456",
+                TypeUsers.ENFERMEIRO
+            ));
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Integer>> statuses = new ArrayList<>();
+
+            // Act
+            try (ExecutorService executor = Executors.newFixedThreadPool(attempts)) {
+                for (int i = 0; i < attempts; i++) {
+                    statuses.add(executor.submit(() -> {
+                        start.await();
+                        return mockMvc.perform(post("/api/v1/users")
+                                        .contentType(MediaType.APPLICATION_JSON)
+                                        .content(body))
+                                .andReturn()
+                                .getResponse()
+                                .getStatus();
+                    }));
+                }
+                start.countDown();
+            }
+
+            // Assert
+            List<Integer> results = new ArrayList<>();
+            for (Future<Integer> status : statuses) {
+                results.add(status.get());
+            }
+            assertThat(results).containsOnly(201, 409);
+            assertThat(results).filteredOn(status -> status == 201).hasSize(1);
+            assertThat(userRepository.findAll())
+                    .filteredOn(user -> user.getEmail().equals("ana.plantao@hospital.com"))
+                    .hasSize(1);
+        }
+    }
+
     @Nested
     @DisplayName("🔍 Cenários de Consulta e Listagem")
     class QueryAndListingScenariosTests {
@@ -22,6 +22,10 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -278,6 +282,218 @@ class UserControllerIntegrationTest {
         }
     }
 
+    @Nested
+    @DisplayName("Testes de Paginação e Streaming - GET /api/v1/users")
+    class PaginationAndStreamingIntegrationTests {
+
+        @BeforeEach
+        void createMoreUsers() {
+            for (int i = 1; i <= 4; i++) {
+                userRepository.save(UserEntity.builder()
+                        .nome("Usuário " + i)
+                        .email("usuario" + i + "@hospital.com")
+                        .login("usuario" + i)
+                        .senha("hash")
+                        .tipo(i % 2 == 0 ? TypeUsers.MEDICO : TypeUsers.ENFERMEIRO)
+                        .build());
+            }
+        }
+
+        @Test
+        @DisplayName("Deve paginar com limit e seguir o cursor do header Link até a última página")
+        void shouldPaginateFollowingLinkHeader() throws Exception {
+            // Act - Primeira página
+            String link = mockMvc.perform(get("/api/v1/users?limit=3")
+                    .header("Authorization", "Bearer " + validJwtToken))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$", hasSize(3)))
+                    .andExpect(jsonPath("$[0].email").value("joao.silva@hospital.com"))
+                    .andExpect(header().string("Link", allOf(containsString("after="), containsString("limit=3"),
+                            endsWith("rel=\"next\""))))
+                    .andReturn()
+                    .getResponse()
+                    .getHeader("Link");
+
+            String after = link.replaceAll(".*[?&]after=([^&>]+).*", "$1");
+
+            // Assert - Segunda e última página
+            mockMvc.perform(get("/api/v1/users")
+                    .param("limit", "3")
+                    .param("after", after)
+                    .header("Authorization", "Bearer " + validJwtToken))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$", hasSize(2)))
+                    .andExpect(jsonPath("$[0].email").value("usuario3@hospital.com"))
+                    .andExpect(jsonPath("$[1].email").value("usuario4@hospital.com"))
+                    .andExpect(header().doesNotExist("Link"));
+        }
+
+        @Test
+        @DisplayName("Deve filtrar usuários por tipo")
+        void shouldFilterByTipo() throws Exception {
+            // Act & Assert
+            mockMvc.perform(get("/api/v1/users")
+                    .param("tipo", "medico")
+                    .header("Authorization", "Bearer " + validJwtToken))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$", hasSize(2)))
+                    .andExpect(jsonPath("$[*].tipo", everyItem(is("MEDICO"))))
+                    .andExpect(jsonPath("$[*].senha").isEmpty());
+        }
+
+        @Test
+        @DisplayName("Deve filtrar por tipo independentemente do locale padrão da JVM")
+        void shouldFilterByTipo_UnderTurkishDefaultLocale() throws Exception {
+            // Arrange
+            Locale defaultLocale = Locale.getDefault();
+            Locale.setDefault(Locale.forLanguageTag("tr-TR"));
+
+            try {
+                // Act & Assert
+                mockMvc.perform(get("/api/v1/users")
+                        .param("tipo", "paciente")
+                        .header("Authorization", "Bearer " + validJwtToken))
+                        .andExpect(status().isOk())
+                        .andExpect(jsonPath("$[*].tipo", everyItem(is("PACIENTE"))));
+            } finally {
+                Locale.setDefault(defaultLocale);
+            }
+        }
+
+        @Test
+        @DisplayName("Deve retornar erro 400 para limit, cursor ou tipo inválidos")
+        void shouldReturn400_WhenParametersAreInvalid() throws Exception {
+            // Act & Assert
+            mockMvc.perform(get("/api/v1/users").param("limit", "0")
+                    .header("Authorization", "Bearer " + validJwtToken))
+                    .andExpect(status().isBadRequest());
+            mockMvc.perform(get("/api/v1/users").param("limit", "501")
+                    .header("Authorization", "Bearer " + validJwtToken))
+                    .andExpect(status().isBadRequest());
+            mockMvc.perform(get("/api/v1/users").param("after", "!!!")
+                    .header("Authorization", "Bearer " + validJwtToken))
+                    .andExpect(status().isBadRequest());
+            mockMvc.perform(get("/api/v1/users").param("tipo", "ADMIN")
+                    .header("Authorization", "Bearer " + validJwtToken))
+                    .andExpect(status().isBadRequest());
+        }
+
+        @Test
+        @DisplayName("Deve transmitir todos os usuários como NDJSON, um por linha")
+        void shouldStreamUsersAsNdjson() throws Exception {
+            // Act
+            String body = mockMvc.perform(get("/api/v1/users/stream")
+                    .param("tipo", "ENFERMEIRO")
+                    .header("Authorization", "Bearer " + validJwtToken))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentTypeCompatibleWith("application/x-ndjson"))
+                    .andReturn()
+                    .getResponse()
+                    .getContentAsString();
+
+            // Assert
+            List<String> lines = body.lines().toList();
+            assertThat(lines).hasSize(2);
+            assertThat(objectMapper.readTree(lines.get(0)).get("email").asText()).isEqualTo("usuario1@hospital.com");
+            assertThat(objectMapper.readTree(lines.get(1)).get("email").asText()).isEqualTo("usuario3@hospital.com");
+            assertThat(lines).noneMatch(line -> line.contains("senha"));
+        }
+
+        @Test
+        @DisplayName("Deve exigir autenticação no streaming")
+        void shouldReturn401_WhenStreamingWithoutToken() throws Exception {
+            // Act & Assert
+            mockMvc.perform(get("/api/v1/users/stream"))
+                    .andExpect(status().isUnauthorized());
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes de Importação em Lote - POST /api/v1/users/import")
+    class ImportUsersIntegrationTests {
+
+        @Test
+        @DisplayName("Deve importar array JSON e devolver relatório por linha")
+        void shouldImportJsonArray_WithPerRowReport() throws Exception {
+            // Arrange
+            String body = """
+                    [
+                      {"nome": "Ana Souza", "email": "ana.souza@hospital.com", "login": "anasouza", "senha": "senha123456", "tipo": "ENFERMEIRO"},
+                      {"nome": "João Silva", "email": "joao.silva@hospital.com", "login": "joaosilva2", "senha": "senha123456", "tipo": "PACIENTE"},
+                      {"nome": "X", "email": "invalido", "login": "abc", "senha": "123", "tipo": "MEDICO"},
+                      {"nome": "Sem Tipo", "email": "sem.tipo@hospital.com", "login": "semtipo", "senha": "senha123456"},
+                      {"nome": "Carlos Lima", "email": "carlos.lima@hospital.com", "login": "carloslima", "senha": "senha123456", "tipo": "MEDICO"}
+                    ]
+                    """;
+
+            // Act & Assert
+            mockMvc.perform(post("/api/v1/users/import")
+                    .header("Authorization", "Bearer " + validJwtToken)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(body))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.total").value(5))
+                    .andExpect(jsonPath("$.created").value(2))
+                    .andExpect(jsonPath("$.failed").value(3))
+                    .andExpect(jsonPath("$.rows[*].status", contains("CREATED", "DUPLICATE", "INVALID", "INVALID", "CREATED")))
+                    .andExpect(jsonPath("$.rows[2].index").value(2))
+                    .andExpect(jsonPath("$.rows[2].message", containsString("email")))
+                    .andExpect(jsonPath("$.rows[3].message", containsString("tipo")));
+
+            // Assert - usuário importado consegue fazer login com a senha enviada
+            mockMvc.perform(post("/api/v1/auth/login")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(
+                            new UserCredentialsRequestDto("ana.souza@hospital.com", "senha123456"))))
+                    .andExpect(status().isOk());
+        }
+
+        @Test
+        @DisplayName("Deve importar NDJSON, marcando linhas malformadas como inválidas")
+        void shouldImportNdjson_MarkingMalformedLines() throws Exception {
+            // Arrange
+            String body = """
+                    {"nome": "Bia Costa", "email": "bia.costa@hospital.com", "login": "biacosta", "senha": "senha123456", "tipo": "PACIENTE"}
+                    {isto não é json
+
+                    {"nome": "Davi Rocha", "email": "davi.rocha@hospital.com", "login": "davirocha", "senha": "senha123456", "tipo": "MEDICO"}
+                    """;
+
+            // Act & Assert
+            mockMvc.perform(post("/api/v1/users/import")
+                    .header("Authorization", "Bearer " + validJwtToken)
+                    .contentType("application/x-ndjson")
+                    .content(body))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.total").value(3))
+                    .andExpect(jsonPath("$.created").value(2))
+                    .andExpect(jsonPath("$.rows[*].status", contains("CREATED", "INVALID", "CREATED")));
+
+            assertThat(userRepository.findByEmail("davi.rocha@hospital.com")).isPresent();
+        }
+
+        @Test
+        @DisplayName("Deve retornar erro 400 quando o corpo JSON não é um array")
+        void shouldReturn400_WhenJsonBodyIsNotArray() throws Exception {
+            // Act & Assert
+            mockMvc.perform(post("/api/v1/users/import")
+                    .header("Authorization", "Bearer " + validJwtToken)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"nome\": \"Ana\"}"))
+                    .andExpect(status().isBadRequest());
+        }
+
+        @Test
+        @DisplayName("Deve retornar erro 401 quando não autenticado")
+        void shouldReturn401_WhenNotAuthenticated() throws Exception {
+            // Act & Assert
+            mockMvc.perform(post("/api/v1/users/import")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("[]"))
+                    .andExpect(status().isUnauthorized());
+        }
+    }
+
     @Nested
     @DisplayName("Testes de Busca por ID - GET /api/v1/users/{id}")
     class GetUserByIdIntegrationTests {
@@ -0,0 +1,213 @@
+package com.fiap.hospital.bff.integration.persistence;
+
+import com.fiap.hospital.bff.core.domain.model.user.User;
+import com.fiap.hospital.bff.core.outputport.DeleteGateway;
+import com.fiap.hospital.bff.core.outputport.FindByGateway;
+import com.fiap.hospital.bff.core.outputport.SaveGateway;
+import com.fiap.hospital.bff.core.outputport.UpdateGateway;
+import com.fiap.hospital.bff.infra.adapter.easyconsult.NurseRoster;
+import com.fiap.hospital.bff.infra.entrypoint.dto.request.ProfessionalData;
+import com.fiap.hospital.bff.infra.entrypoint.dto.request.TypeUsers;
+import com.fiap.hospital.bff.infra.exception.ExternalServiceException;
+import com.fiap.hospital.bff.infra.exception.UserNotFoundException;
+import com.fiap.hospital.bff.infra.persistence.entity.UserEntity;
+import com.fiap.hospital.bff.infra.persistence.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Testes de Integração para o roteamento de leituras às réplicas
+ *
+ * Primário e réplica são dois H2 independentes, sem replicação entre eles: uma linha que só existe
+ * na réplica prova que a leitura foi para lá, e uma escrita no primário nunca aparece na réplica,
+ * como um atraso de replicação sem fim.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=" + ReplicaRoutingIntegrationTest.PRIMARY_URL,
+        "app.datasource.replica.enabled=true",
+        "app.datasource.replica.urls=" + ReplicaRoutingIntegrationTest.REPLICA_URL,
+        "app.datasource.replica.read-your-writes-window=1m"
+})
+@ActiveProfiles("test")
+@DisplayName("Roteamento de réplicas de leitura - Testes de Integração")
+class ReplicaRoutingIntegrationTest {
+
+    static final String PRIMARY_URL = "jdbc:h2:mem:routing-primary;DB_CLOSE_DELAY=-1";
+    static final String REPLICA_URL = "jdbc:h2:mem:routing-replica;DB_CLOSE_DELAY=-1";
+
+    private static JdbcTemplate primary;
+    private static JdbcTemplate replica;
+
+    @Autowired
+    private FindByGateway findByGateway;
+
+    @Autowired
+    private SaveGateway saveGateway;
+
+    @Autowired
+    private UpdateGateway updateGateway;
+
+    @Autowired
+    private DeleteGateway deleteGateway;
+
+    @Autowired
+    private NurseRoster nurseRoster;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate readOnlyTransaction;
+
+    @BeforeAll
+    static void setUpDatabases() {
+        // A réplica recebe o schema como receberia pela replicação; o primário é migrado pela aplicação
+        Flyway.configure().dataSource(REPLICA_URL, "sa", "password").load().migrate();
+        primary = new JdbcTemplate(new DriverManagerDataSource(PRIMARY_URL, "sa", "password"));
+        replica = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", "password"));
+    }
+
+    @BeforeEach
+    void setUp() {
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        primary.update("DELETE FROM usuarios");
+        replica.update("DELETE FROM usuarios");
+    }
+
+    @Test
+    @DisplayName("Deve ler da réplica em transações somente leitura")
+    void shouldReadFromReplica_InReadOnlyTransactions() {
+        // Arrange
+        insertOnReplica(1_000L, "replica@hospital.com", TypeUsers.ENFERMEIRO);
+
+        // Act
+        var byEmail = findByGateway.findByEmail("replica@hospital.com");
+        var page = findByGateway.findPage(TypeUsers.ENFERMEIRO.name(), null, 10);
+
+        // Assert
+        assertThat(byEmail).map(User::getEmail).contains("replica@hospital.com");
+        assertThat(page.getUsers()).extracting(User::getEmail).containsExactly("replica@hospital.com");
+        assertThat(meterRegistry.find("hikaricp.connections.max").tag("pool", "hospital-bff-replica-1").gauge())
+                .isNotNull();
+    }
+
+    @Test
+    @DisplayName("Deve gravar no primário e buscar as credenciais do login no primário")
+    void shouldWriteToPrimary_AndReadLoginCredentialsFromPrimary() {
+        // Act
+        saveGateway.save(new User("Novo Usuário", "novo@hospital.com", "senha123456", TypeUsers.PACIENTE.name()));
+
+        // Assert
+        assertThat(count(primary, "novo@hospital.com")).isEqualTo(1);
+        assertThat(count(replica, "novo@hospital.com")).isZero();
+        assertThat(findByGateway.findByEmail("novo@hospital.com")).isEmpty();
+        assertThat(findByGateway.findCredentialsByEmail("novo@hospital.com")).isPresent();
+    }
+
+    @Test
+    @DisplayName("Deve ler do primário dentro da janela após o usuário alterar o próprio registro")
+    void shouldReadFromPrimary_WithinReadYourWritesWindow() {
+        // Arrange
+        UserEntity saved = userRepository.save(UserEntity.builder()
+                .nome("Maria")
+                .email("maria@hospital.com")
+                .login("maria")
+                .senha("{bcrypt}hash")
+                .tipo(TypeUsers.PACIENTE)
+                .build());
+        authenticateAs("maria@hospital.com");
+        User changes = new User();
+        changes.setLogin("maria.silva");
+
+        // Act
+        updateGateway.update(saved.getId(), changes);
+
+        // Assert
+        assertThat(findByGateway.getById(saved.getId())).map(User::getLogin).contains("maria.silva");
+
+        authenticateAs("outro@hospital.com");
+        assertThatThrownBy(() -> findByGateway.getById(saved.getId())).isInstanceOf(UserNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("Deve carregar a escala de enfermeiros do primário, mesmo dentro de transação somente leitura")
+    void shouldLoadNurseRosterFromPrimary() {
+        // Arrange
+        insertOnReplica(1_000L, "replica@hospital.com", TypeUsers.ENFERMEIRO);
+        primary.update("INSERT INTO usuarios (id, nome, email, login, senha, tipo) VALUES (?, ?, ?, ?, ?, ?)",
+                2_000L, "Usuário Primário", "primario@hospital.com", "primario", "{bcrypt}hash",
+                TypeUsers.ENFERMEIRO.name());
+
+        // Act
+        var nurses = userRepository.findAllByTipo(TypeUsers.ENFERMEIRO);
+        var nursesInReadOnlyTransaction = readOnlyTransaction.execute(
+                status -> userRepository.findAllByTipo(TypeUsers.ENFERMEIRO));
+
+        // Assert
+        assertThat(nurses).extracting(UserEntity::getEmail).containsExactly("primario@hospital.com");
+        assertThat(nursesInReadOnlyTransaction).extracting(UserEntity::getEmail)
+                .containsExactly("primario@hospital.com");
+    }
+
+    @Test
+    @DisplayName("Deve atribuir consultas ao enfermeiro recém-cadastrado e parar de atribuir após a remoção")
+    void shouldRotateNewNurseRightAfterSignup_AndDropItRightAfterDelete() {
+        // Arrange: a réplica atrasada ainda tem um enfermeiro que não existe mais no primário
+        insertOnReplica(1_000L, "removido@hospital.com", TypeUsers.ENFERMEIRO);
+
+        // Act: cadastro anônimo, fora da janela de leitura das próprias escritas
+        saveGateway.save(
+                new User("Enfermeira Nova", "nova@hospital.com", "senha123456", TypeUsers.ENFERMEIRO.name()));
+        var assigned = List.of(nurseRoster.next(), nurseRoster.next());
+        deleteGateway.deleteById(primary.queryForObject(
+                "SELECT id FROM usuarios WHERE email = ?", Long.class, "nova@hospital.com"));
+
+        // Assert
+        assertThat(assigned).extracting(ProfessionalData::email).containsOnly("nova@hospital.com");
+        assertThatThrownBy(nurseRoster::next).isInstanceOf(ExternalServiceException.class);
+    }
+
+    private static void insertOnReplica(Long id, String email, TypeUsers tipo) {
+        replica.update("INSERT INTO usuarios (id, nome, email, login, senha, tipo) VALUES (?, ?, ?, ?, ?, ?)",
+                id, "Usuário Réplica", email, "replica", "{bcrypt}hash", tipo.name());
+    }
+
+    private static int count(JdbcTemplate database, String email) {
+        return database.queryForObject("SELECT COUNT(*) FROM usuarios WHERE email = ?", Integer.class, email);
+    }
+
+    private static void authenticateAs(String email) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new TestingAuthenticationToken(email, null, "SCOPE_PACIENTE"));
+    }
+}
@@ -0,0 +1,101 @@
+package com.fiap.hospital.bff.integration.persistence;
+
+import com.fiap.hospital.bff.infra.entrypoint.dto.request.TypeUsers;
+import com.fiap.hospital.bff.infra.persistence.entity.UserEntity;
+import com.fiap.hospital.bff.infra.persistence.projection.UserSummaryProjection;
+import com.fiap.hospital.bff.infra.persistence.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Testes de Integração para as escritas com retorno da linha (UPDATE/DELETE ... RETURNING)
+ *
+ * No H2 dos testes os comandos rodam pela tabela delta (FINAL TABLE / OLD TABLE).
+ */
+@SpringBootTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("UserReturningRepository - Testes de Integração")
+class UserReturningRepositoryIntegrationTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    @DisplayName("Deve atualizar só os campos informados e devolver a linha atualizada")
+    void shouldUpdateNonNullFields_AndReturnRow() {
+        // Arrange
+        UserEntity saved = userRepository.save(user("retorno@hospital.com"));
+
+        // Act
+        var updated = userRepository.updateReturning(saved.getId(), null, "novo.login", null);
+
+        // Assert
+        assertThat(updated).isPresent();
+        assertThat(updated.get().getId()).isEqualTo(saved.getId());
+        assertThat(updated.get().getEmail()).isEqualTo("retorno@hospital.com");
+        assertThat(updated.get().getLogin()).isEqualTo("novo.login");
+        assertThat(updated.get().getTipo()).isEqualTo(TypeUsers.ENFERMEIRO);
+
+        UserEntity reloaded = userRepository.findById(saved.getId()).orElseThrow();
+        assertThat(reloaded.getLogin()).isEqualTo("novo.login");
+        assertThat(reloaded.getSenha()).isEqualTo("{bcrypt}hash");
+    }
+
+    @Test
+    @DisplayName("Deve trocar a senha pelo email e devolver a linha atualizada")
+    void shouldUpdatePasswordByEmail_AndReturnRow() {
+        // Arrange
+        UserEntity saved = userRepository.save(user("senha@hospital.com"));
+
+        // Act
+        var updated = userRepository.updatePasswordReturning("senha@hospital.com", "{bcrypt}novo");
+
+        // Assert
+        assertThat(updated).map(UserSummaryProjection::getId).contains(saved.getId());
+        UserEntity reloaded = userRepository.findById(saved.getId()).orElseThrow();
+        assertThat(reloaded.getSenha()).isEqualTo("{bcrypt}novo");
+        assertThat(reloaded.getLogin()).isEqualTo("login.original");
+    }
+
+    @Test
+    @DisplayName("Deve excluir e devolver a linha removida")
+    void shouldDelete_AndReturnRemovedRow() {
+        // Arrange
+        UserEntity saved = userRepository.save(user("removido@hospital.com"));
+
+        // Act
+        var deleted = userRepository.deleteReturning(saved.getId());
+
+        // Assert
+        assertThat(deleted).map(UserSummaryProjection::getEmail).contains("removido@hospital.com");
+        assertThat(userRepository.findById(saved.getId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve retornar vazio quando o id ou o email não existe")
+    void shouldReturnEmpty_WhenIdDoesNotExist() {
+        // Act & Assert
+        assertThat(userRepository.updateReturning(-1L, "x@hospital.com", null, null)).isEmpty();
+        assertThat(userRepository.deleteReturning(-1L)).isEmpty();
+        assertThat(userRepository.updatePasswordReturning("naoexiste@hospital.com", "{bcrypt}novo")).isEmpty();
+    }
+
+    private static UserEntity user(String email) {
+        return UserEntity.builder()
+                .nome("Usuário Retorno")
+                .email(email)
+                .login("login.original")
+                .senha("{bcrypt}hash")
+                .tipo(TypeUsers.ENFERMEIRO)
+                .build();
+    }
+}
@@ -0,0 +1,136 @@
+package com.fiap.hospital.bff.integration.persistence;
+
+import com.fiap.hospital.bff.core.domain.model.user.User;
+import com.fiap.hospital.bff.core.outputport.DeleteGateway;
+import com.fiap.hospital.bff.core.outputport.UpdateGateway;
+import com.fiap.hospital.bff.infra.entrypoint.dto.request.TypeUsers;
+import com.fiap.hospital.bff.infra.persistence.entity.UserEntity;
+import com.fiap.hospital.bff.infra.persistence.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Testes de Integração para o cache de segundo nível de usuarios
+ *
+ * Sem transação de teste: o Hibernate só popula as regiões quando a transação do repository é confirmada.
+ */
+@SpringBootTest(properties = "app.persistence.second-level-cache.enabled=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+@ActiveProfiles("test")
+@DisplayName("Cache de segundo nível de usuários - Testes de Integração")
+class UserSecondLevelCacheIntegrationTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UpdateGateway updateGateway;
+
+    @Autowired
+    private DeleteGateway deleteGateway;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Deve servir a busca por email repetida a partir do cache")
+    void shouldServeRepeatedEmailLookupFromCache() {
+        // Arrange
+        UserEntity saved = userRepository.save(user("cache@hospital.com", TypeUsers.MEDICO));
+        userRepository.findByEmail("cache@hospital.com");
+        double queryHits = hits(UserEntity.QUERY_CACHE_REGION);
+
+        // Act
+        var found = userRepository.findByEmail("cache@hospital.com");
+
+        // Assert
+        assertThat(found).map(UserEntity::getId).contains(saved.getId());
+        assertThat(hits(UserEntity.QUERY_CACHE_REGION)).isGreaterThan(queryHits);
+    }
+
+    @Test
+    @DisplayName("Deve servir a listagem de enfermeiros repetida a partir do cache")
+    void shouldServeRepeatedNurseListingFromCache() {
+        // Arrange
+        userRepository.save(user("enf1@hospital.com", TypeUsers.ENFERMEIRO));
+        userRepository.save(user("enf2@hospital.com", TypeUsers.ENFERMEIRO));
+        userRepository.findAllByTipo(TypeUsers.ENFERMEIRO);
+        double queryHits = hits(UserEntity.QUERY_CACHE_REGION);
+
+        // Act
+        var nurses = userRepository.findAllByTipo(TypeUsers.ENFERMEIRO);
+
+        // Assert
+        assertThat(nurses).extracting(UserEntity::getEmail)
+                .containsExactlyInAnyOrder("enf1@hospital.com", "enf2@hospital.com");
+        assertThat(hits(UserEntity.QUERY_CACHE_REGION)).isGreaterThan(queryHits);
+    }
+
+    @Test
+    @DisplayName("Deve invalidar o cache na atualização pelo gateway")
+    void shouldEvictOnUpdate() {
+        // Arrange
+        UserEntity saved = userRepository.save(user("antigo@hospital.com", TypeUsers.PACIENTE));
+        userRepository.findByEmail("antigo@hospital.com");
+        assertThat(entityManagerFactory.getCache().contains(UserEntity.class, saved.getId())).isTrue();
+
+        User changes = new User();
+        changes.setEmail("novo@hospital.com");
+
+        // Act
+        updateGateway.update(saved.getId(), changes);
+
+        // Assert
+        assertThat(entityManagerFactory.getCache().contains(UserEntity.class, saved.getId())).isFalse();
+        assertThat(userRepository.findByEmail("antigo@hospital.com")).isEmpty();
+        assertThat(userRepository.findByEmail("novo@hospital.com")).map(UserEntity::getId).contains(saved.getId());
+    }
+
+    @Test
+    @DisplayName("Deve invalidar o cache na exclusão pelo gateway")
+    void shouldEvictOnDelete() {
+        // Arrange
+        UserEntity saved = userRepository.save(user("removido@hospital.com", TypeUsers.ENFERMEIRO));
+        userRepository.findByEmail("removido@hospital.com");
+        userRepository.findAllByTipo(TypeUsers.ENFERMEIRO);
+
+        // Act
+        deleteGateway.deleteById(saved.getId());
+
+        // Assert
+        assertThat(entityManagerFactory.getCache().contains(UserEntity.class, saved.getId())).isFalse();
+        assertThat(userRepository.findByEmail("removido@hospital.com")).isEmpty();
+        assertThat(userRepository.findAllByTipo(TypeUsers.ENFERMEIRO)).isEmpty();
+    }
+
+    private double hits(String region) {
+        return meterRegistry.get("cache.gets").tags("cache", region, "result", "hit").functionCounter().count();
+    }
+
+    private static UserEntity user(String email, TypeUsers tipo) {
+        return UserEntity.builder()
+                .nome("Usuário Cache")
+                .email(email)
+                .login(email.substring(0, email.indexOf('@')))
+                .senha("{bcrypt}hash")
+                .tipo(tipo)
+                .build();
+    }
+}